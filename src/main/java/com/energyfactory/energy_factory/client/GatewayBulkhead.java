@@ -0,0 +1,54 @@
+package com.energyfactory.energy_factory.client;
+
+import com.energyfactory.energy_factory.exception.PaymentGatewayException;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 외부 결제 게이트웨이 동시 호출 제한 (벌크헤드)
+ * 허용 수를 초과한 호출은 대기하지 않고 즉시 거절하여,
+ * 게이트웨이 지연 시 요청 스레드가 줄지어 묶이지 않도록 함
+ */
+public class GatewayBulkhead {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final int maxConcurrentCalls;
+    private final Semaphore permits;
+    private final Counter rejectedCounter;
+
+    public GatewayBulkhead(String name, int maxConcurrentCalls, MeterRegistry meterRegistry) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.permits = new Semaphore(maxConcurrentCalls);
+        this.rejectedCounter = Counter.builder("gateway.bulkhead.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        Gauge.builder("gateway.bulkhead.active.calls", this, GatewayBulkhead::getActiveCalls)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 시점에 허가를 얻고, 호출이 종료(성공/실패/취소)되면 반납
+     */
+    public <T> Mono<T> execute(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!permits.tryAcquire()) {
+                rejectedCounter.increment();
+                return Mono.error(PaymentGatewayException.notSent(ResultCode.PAYMENT_GATEWAY_BUSY, RETRY_AFTER));
+            }
+            return call.doFinally(signal -> permits.release());
+        });
+    }
+
+    public int getActiveCalls() {
+        return maxConcurrentCalls - permits.availablePermits();
+    }
+}
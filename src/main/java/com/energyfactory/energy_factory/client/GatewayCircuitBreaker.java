@@ -0,0 +1,232 @@
+package com.energyfactory.energy_factory.client;
+
+import com.energyfactory.energy_factory.config.TossPaymentsConfig;
+import com.energyfactory.energy_factory.exception.PaymentGatewayException;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 외부 결제 게이트웨이 서킷 브레이커
+ *
+ * - CLOSED: 최근 N건(슬라이딩 윈도우)의 실패율/지연 호출 비율을 추적, 임계치 초과 시 OPEN
+ * - OPEN: 호출하지 않고 즉시 실패 (대기 시간이 지나면 HALF_OPEN)
+ * - HALF_OPEN: 제한된 수의 시험 호출만 허용, 결과에 따라 CLOSED 또는 OPEN
+ *
+ * 결과 미확정(타임아웃, 5xx)만 실패로 집계하며, 4xx 거절은 게이트웨이가 정상 동작한 것으로 간주
+ */
+@Slf4j
+public class GatewayCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final int FAILURE = 1;
+    private static final int SLOW = 2;
+
+    private final String name;
+    private final TossPaymentsConfig.CircuitBreakerProperties properties;
+    private final long slowCallThresholdNanos;
+    private final MeterRegistry meterRegistry;
+    private final Counter notPermittedCounter;
+
+    /**
+     * 슬라이딩 윈도우 (호출 결과를 FAILURE/SLOW 비트로 기록하는 링 버퍼)
+     */
+    private final int[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenCompleted;
+    private int halfOpenFailures;
+
+    public GatewayCircuitBreaker(String name, TossPaymentsConfig.CircuitBreakerProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.name = name;
+        this.properties = properties;
+        this.slowCallThresholdNanos = properties.getSlowCallDurationThreshold().toNanos();
+        this.meterRegistry = meterRegistry;
+        this.window = new int[properties.getSlidingWindowSize()];
+        this.notPermittedCounter = Counter.builder("gateway.circuitbreaker.not.permitted")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        Gauge.builder("gateway.circuitbreaker.state", this, breaker -> breaker.getState().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("gateway.circuitbreaker.failure.rate", this, GatewayCircuitBreaker::getFailureRate)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서킷 상태에 따라 호출을 허용하거나 즉시 실패
+     */
+    public <T> Mono<T> execute(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!tryAcquirePermission()) {
+                notPermittedCounter.increment();
+                return Mono.error(PaymentGatewayException.notSent(
+                        ResultCode.PAYMENT_GATEWAY_UNAVAILABLE, getRemainingOpenDuration()));
+            }
+
+            long startNanos = System.nanoTime();
+            return call
+                    .doOnSuccess(response -> onResult(false, System.nanoTime() - startNanos))
+                    .doOnError(e -> {
+                        if (e instanceof PaymentGatewayException gatewayException
+                                && gatewayException.getOutcome() == PaymentGatewayException.Outcome.NOT_SENT) {
+                            // 벌크헤드 거절 등 전송되지 않은 호출은 집계하지 않음
+                            onIgnored();
+                        } else {
+                            onResult(isFailure(e), System.nanoTime() - startNanos);
+                        }
+                    })
+                    .doOnCancel(this::onIgnored);
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return windowCount == 0 ? 0 : failureCount * 100.0 / windowCount;
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < properties.getWaitDurationInOpenState().toNanos()) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= properties.getPermittedCallsInHalfOpenState()) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    private synchronized void onResult(boolean failure, long durationNanos) {
+        boolean slow = durationNanos >= slowCallThresholdNanos;
+
+        if (state == State.HALF_OPEN) {
+            halfOpenCompleted++;
+            if (failure || slow) {
+                halfOpenFailures++;
+            }
+            if (halfOpenCompleted >= properties.getPermittedCallsInHalfOpenState()) {
+                int failureRate = halfOpenFailures * 100 / halfOpenCompleted;
+                transitionTo(failureRate >= properties.getFailureRateThreshold() ? State.OPEN : State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+
+        record((failure ? FAILURE : 0) | (slow ? SLOW : 0));
+
+        if (windowCount >= properties.getMinimumNumberOfCalls()) {
+            int failureRate = failureCount * 100 / windowCount;
+            int slowRate = slowCount * 100 / windowCount;
+            if (failureRate >= properties.getFailureRateThreshold()
+                    || slowRate >= properties.getSlowCallRateThreshold()) {
+                log.warn("서킷 브레이커 임계치 초과 - name: {}, 실패율: {}%, 지연 호출 비율: {}%", name, failureRate, slowRate);
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * 집계 대상이 아닌 호출 종료 - HALF_OPEN 시험 호출 허가만 반납
+     */
+    private synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermits > halfOpenCompleted) {
+            halfOpenPermits--;
+        }
+    }
+
+    private void record(int outcome) {
+        if (windowCount == window.length) {
+            int evicted = window[windowIndex];
+            if ((evicted & FAILURE) != 0) {
+                failureCount--;
+            }
+            if ((evicted & SLOW) != 0) {
+                slowCount--;
+            }
+        } else {
+            windowCount++;
+        }
+
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        if ((outcome & FAILURE) != 0) {
+            failureCount++;
+        }
+        if ((outcome & SLOW) != 0) {
+            slowCount++;
+        }
+    }
+
+    private void transitionTo(State newState) {
+        if (state == newState) {
+            return;
+        }
+        log.warn("서킷 브레이커 상태 전이 - name: {}, {} -> {}", name, state, newState);
+        Counter.builder("gateway.circuitbreaker.transitions")
+                .tag("name", name)
+                .tag("from", state.name())
+                .tag("to", newState.name())
+                .register(meterRegistry)
+                .increment();
+
+        state = newState;
+        halfOpenPermits = 0;
+        halfOpenCompleted = 0;
+        halfOpenFailures = 0;
+
+        if (newState == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (newState == State.CLOSED) {
+            Arrays.fill(window, 0);
+            windowIndex = 0;
+            windowCount = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+    }
+
+    private synchronized Duration getRemainingOpenDuration() {
+        if (state != State.OPEN) {
+            return Duration.ofSeconds(1);
+        }
+        long remainingNanos = properties.getWaitDurationInOpenState().toNanos() - (System.nanoTime() - openedAtNanos);
+        return Duration.ofNanos(Math.max(remainingNanos, 0));
+    }
+
+    private boolean isFailure(Throwable e) {
+        if (e instanceof PaymentGatewayException gatewayException) {
+            return gatewayException.isOutcomeUnknown();
+        }
+        return true;
+    }
+}
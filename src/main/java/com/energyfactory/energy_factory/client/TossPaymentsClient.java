@@ -4,29 +4,61 @@ import com.energyfactory.energy_factory.config.TossPaymentsConfig;
 import com.energyfactory.energy_factory.dto.TossPaymentCancelRequestDto;
 import com.energyfactory.energy_factory.dto.TossPaymentConfirmRequestDto;
 import com.energyfactory.energy_factory.dto.TossPaymentResponseDto;
-import com.energyfactory.energy_factory.exception.BusinessException;
+import com.energyfactory.energy_factory.exception.PaymentGatewayException;
+import com.energyfactory.energy_factory.exception.PaymentGatewayException.Outcome;
 import com.energyfactory.energy_factory.utils.enums.ResultCode;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 토스페이먼츠 API 호출 클라이언트
  * WebClient를 사용하여 토스페이먼츠 REST API와 통신
+ *
+ * - 모든 호출은 서킷 브레이커와 벌크헤드(동시 호출 제한)를 거치며, 타임아웃은 WebClient 커넥터에서 적용
+ * - 멱등한 결제 조회만 지터가 적용된 지수 백오프로 재시도 (승인/취소는 중복 처리 위험으로 재시도하지 않음)
+ * - 엔드포인트별 응답 시간은 toss.payments.client.requests 타이머로 기록
+ * - 비동기 호출(*Async)과 이를 감싼 동기 호출을 함께 제공
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TossPaymentsClient {
 
+    private static final String REQUEST_TIMER = "toss.payments.client.requests";
+
+    /**
+     * 이미 승인된 결제에 대해 다시 승인 요청 시 토스페이먼츠가 반환하는 에러 코드
+     */
+    private static final String ALREADY_PROCESSED_PAYMENT = "ALREADY_PROCESSED_PAYMENT";
+
     private final WebClient tossPaymentsWebClient;
     private final TossPaymentsConfig tossPaymentsConfig;
+    private final MeterRegistry meterRegistry;
+    private final GatewayBulkhead bulkhead;
+    private final GatewayCircuitBreaker circuitBreaker;
+    private final Retry idempotentRetry;
+
+    public TossPaymentsClient(WebClient tossPaymentsWebClient, TossPaymentsConfig tossPaymentsConfig,
+                              MeterRegistry meterRegistry) {
+        this.tossPaymentsWebClient = tossPaymentsWebClient;
+        this.tossPaymentsConfig = tossPaymentsConfig;
+        this.meterRegistry = meterRegistry;
+        this.bulkhead = new GatewayBulkhead("toss-payments", tossPaymentsConfig.getMaxConcurrentCalls(), meterRegistry);
+        this.circuitBreaker = new GatewayCircuitBreaker("toss-payments", tossPaymentsConfig.getCircuitBreaker(), meterRegistry);
+        this.idempotentRetry = createIdempotentRetry();
+    }
 
     /**
      * Basic Auth 헤더 생성
@@ -44,42 +76,31 @@ public class TossPaymentsClient {
      *
      * @param request 결제 승인 요청 정보 (서버에서 계산한 금액 포함)
      * @return 토스페이먼츠 결제 응답
+     * @throws PaymentGatewayException 승인 거절, 결과 미확정(타임아웃/5xx), 동시 호출 초과 시
      */
     public TossPaymentResponseDto confirmPayment(TossPaymentConfirmRequestDto request) {
+        return confirmPaymentAsync(request).block();
+    }
+
+    public Mono<TossPaymentResponseDto> confirmPaymentAsync(TossPaymentConfirmRequestDto request) {
         log.info("토스페이먼츠 결제 승인 API 호출 - paymentKey: {}, orderId: {}, amount: {}",
                 request.getPaymentKey(), request.getOrderId(), request.getAmount());
 
-        try {
-            TossPaymentResponseDto response = tossPaymentsWebClient
-                    .post()
-                    .uri("/v1/payments/confirm")
-                    .header("Authorization", getAuthorizationHeader())
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError, clientResponse ->
-                        clientResponse.bodyToMono(TossPaymentResponseDto.class)
-                                .flatMap(errorBody -> {
-                                    log.error("토스페이먼츠 4xx 에러 - code: {}, message: {}",
-                                            errorBody.getCode(), errorBody.getMessage());
-                                    return Mono.error(new BusinessException(ResultCode.PAYMENT_FAILED));
-                                })
-                    )
-                    .onStatus(HttpStatusCode::is5xxServerError, clientResponse -> {
-                        log.error("토스페이먼츠 5xx 서버 에러");
-                        return Mono.error(new BusinessException(ResultCode.PAYMENT_FAILED));
-                    })
-                    .bodyToMono(TossPaymentResponseDto.class)
-                    .block();
-
-            log.info("토스페이먼츠 결제 승인 성공 - paymentKey: {}, status: {}",
-                    response.getPaymentKey(), response.getStatus());
-
-            return response;
-
-        } catch (Exception e) {
-            log.error("토스페이먼츠 결제 승인 실패", e);
-            throw new BusinessException(ResultCode.PAYMENT_FAILED);
-        }
+        Mono<TossPaymentResponseDto> call = tossPaymentsWebClient
+                .post()
+                .uri("/v1/payments/confirm")
+                .header("Authorization", getAuthorizationHeader())
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, clientResponse ->
+                        rejected(clientResponse, ResultCode.PAYMENT_FAILED, "결제 승인"))
+                .onStatus(HttpStatusCode::is5xxServerError, clientResponse ->
+                        serverError(clientResponse, ResultCode.PAYMENT_FAILED, "결제 승인"))
+                .bodyToMono(TossPaymentResponseDto.class);
+
+        return execute("confirm", ResultCode.PAYMENT_FAILED, call)
+                .doOnSuccess(response -> log.info("토스페이먼츠 결제 승인 성공 - paymentKey: {}, status: {}",
+                        response.getPaymentKey(), response.getStatus()));
     }
 
     /**
@@ -89,28 +110,26 @@ public class TossPaymentsClient {
      * @return 토스페이먼츠 결제 응답
      */
     public TossPaymentResponseDto getPayment(String paymentKey) {
+        return getPaymentAsync(paymentKey).block();
+    }
+
+    public Mono<TossPaymentResponseDto> getPaymentAsync(String paymentKey) {
         log.info("토스페이먼츠 결제 조회 - paymentKey: {}", paymentKey);
 
-        try {
-            TossPaymentResponseDto response = tossPaymentsWebClient
-                    .get()
-                    .uri("/v1/payments/{paymentKey}", paymentKey)
-                    .header("Authorization", getAuthorizationHeader())
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, clientResponse -> {
-                        log.error("토스페이먼츠 결제 조회 실패");
-                        return Mono.error(new BusinessException(ResultCode.NOT_FOUND));
-                    })
-                    .bodyToMono(TossPaymentResponseDto.class)
-                    .block();
-
-            log.info("토스페이먼츠 결제 조회 성공 - status: {}", response.getStatus());
-            return response;
-
-        } catch (Exception e) {
-            log.error("토스페이먼츠 결제 조회 실패", e);
-            throw new BusinessException(ResultCode.NOT_FOUND);
-        }
+        Mono<TossPaymentResponseDto> call = tossPaymentsWebClient
+                .get()
+                .uri("/v1/payments/{paymentKey}", paymentKey)
+                .header("Authorization", getAuthorizationHeader())
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, clientResponse ->
+                        rejected(clientResponse, ResultCode.NOT_FOUND, "결제 조회"))
+                .onStatus(HttpStatusCode::is5xxServerError, clientResponse ->
+                        serverError(clientResponse, ResultCode.NOT_FOUND, "결제 조회"))
+                .bodyToMono(TossPaymentResponseDto.class);
+
+        return execute("get", ResultCode.NOT_FOUND, call)
+                .retryWhen(idempotentRetry)
+                .doOnSuccess(response -> log.info("토스페이먼츠 결제 조회 성공 - status: {}", response.getStatus()));
     }
 
     /**
@@ -121,33 +140,124 @@ public class TossPaymentsClient {
      * @return 토스페이먼츠 결제 응답
      */
     public TossPaymentResponseDto cancelPayment(String paymentKey, TossPaymentCancelRequestDto request) {
+        return cancelPaymentAsync(paymentKey, request).block();
+    }
+
+    public Mono<TossPaymentResponseDto> cancelPaymentAsync(String paymentKey, TossPaymentCancelRequestDto request) {
         log.info("토스페이먼츠 결제 취소 요청 - paymentKey: {}, reason: {}",
                 paymentKey, request.getCancelReason());
 
-        try {
-            TossPaymentResponseDto response = tossPaymentsWebClient
-                    .post()
-                    .uri("/v1/payments/{paymentKey}/cancel", paymentKey)
-                    .header("Authorization", getAuthorizationHeader())
-                    .bodyValue(request)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::isError, clientResponse ->
-                        clientResponse.bodyToMono(TossPaymentResponseDto.class)
-                                .flatMap(errorBody -> {
-                                    log.error("토스페이먼츠 취소 실패 - code: {}, message: {}",
-                                            errorBody.getCode(), errorBody.getMessage());
-                                    return Mono.error(new BusinessException(ResultCode.PAYMENT_CANCEL_FAILED));
-                                })
-                    )
-                    .bodyToMono(TossPaymentResponseDto.class)
-                    .block();
-
-            log.info("토스페이먼츠 결제 취소 성공 - status: {}", response.getStatus());
-            return response;
-
-        } catch (Exception e) {
-            log.error("토스페이먼츠 결제 취소 실패", e);
-            throw new BusinessException(ResultCode.PAYMENT_CANCEL_FAILED);
+        Mono<TossPaymentResponseDto> call = tossPaymentsWebClient
+                .post()
+                .uri("/v1/payments/{paymentKey}/cancel", paymentKey)
+                .header("Authorization", getAuthorizationHeader())
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, clientResponse ->
+                        rejected(clientResponse, ResultCode.PAYMENT_CANCEL_FAILED, "결제 취소"))
+                .onStatus(HttpStatusCode::is5xxServerError, clientResponse ->
+                        serverError(clientResponse, ResultCode.PAYMENT_CANCEL_FAILED, "결제 취소"))
+                .bodyToMono(TossPaymentResponseDto.class);
+
+        return execute("cancel", ResultCode.PAYMENT_CANCEL_FAILED, call)
+                .doOnSuccess(response -> log.info("토스페이먼츠 결제 취소 성공 - status: {}", response.getStatus()));
+    }
+
+    public GatewayCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    /**
+     * 공통 실행 경로: 서킷 브레이커 → 벌크헤드 → 호출 → 예외 정규화 → 응답 시간 기록
+     * 정규화되지 않은 예외(타임아웃, 연결 오류, 역직렬화 오류 등)는 결과 미확정으로 처리
+     */
+    private Mono<TossPaymentResponseDto> execute(String endpoint, ResultCode resultCode,
+                                                 Mono<TossPaymentResponseDto> call) {
+        Mono<TossPaymentResponseDto> guarded = call
+                .switchIfEmpty(Mono.error(() -> new PaymentGatewayException(resultCode, Outcome.UNKNOWN, (String) null)))
+                .onErrorMap(e -> !(e instanceof PaymentGatewayException), e -> {
+                    log.error("토스페이먼츠 {} 호출 실패 - 결과 미확정", endpoint, e);
+                    return new PaymentGatewayException(resultCode, Outcome.UNKNOWN, e);
+                });
+
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return circuitBreaker.execute(bulkhead.execute(guarded))
+                    .doOnSuccess(response -> recordLatency(endpoint, "success", startNanos))
+                    .doOnError(e -> recordLatency(endpoint, outcomeTag(e), startNanos));
+        });
+    }
+
+    /**
+     * 4xx 응답 처리: 토스페이먼츠가 요청을 거절한 것으로 확정
+     * 단, 이미 승인된 결제(ALREADY_PROCESSED_PAYMENT)는 실제 상태를 조회해야 하므로 결과 미확정으로 처리
+     */
+    private Mono<PaymentGatewayException> rejected(ClientResponse clientResponse, ResultCode resultCode, String action) {
+        HttpStatusCode statusCode = clientResponse.statusCode();
+        return clientResponse.bodyToMono(TossPaymentResponseDto.class)
+                .defaultIfEmpty(new TossPaymentResponseDto())
+                .map(errorBody -> {
+                    log.error("토스페이먼츠 {} 4xx 에러 - status: {}, code: {}, message: {}",
+                            action, statusCode.value(), errorBody.getCode(), errorBody.getMessage());
+                    Outcome outcome = ALREADY_PROCESSED_PAYMENT.equals(errorBody.getCode())
+                            ? Outcome.UNKNOWN
+                            : Outcome.REJECTED;
+                    ResultCode code = statusCode.value() == HttpStatus.NOT_FOUND.value()
+                            ? ResultCode.NOT_FOUND
+                            : resultCode;
+                    return new PaymentGatewayException(code, outcome, errorBody.getCode());
+                })
+                .onErrorReturn(new PaymentGatewayException(resultCode, Outcome.REJECTED, (String) null));
+    }
+
+    /**
+     * 5xx 응답 처리: 토스페이먼츠 측 처리 여부를 알 수 없으므로 결과 미확정
+     */
+    private Mono<PaymentGatewayException> serverError(ClientResponse clientResponse, ResultCode resultCode, String action) {
+        log.error("토스페이먼츠 {} 5xx 서버 에러 - status: {}", action, clientResponse.statusCode().value());
+        return clientResponse.releaseBody()
+                .then(Mono.just(new PaymentGatewayException(resultCode, Outcome.UNKNOWN, (String) null)));
+    }
+
+    /**
+     * 멱등 호출용 재시도 정책
+     * 결과 미확정(타임아웃, 5xx)일 때만 재시도하며, 서킷이 CLOSED가 아니면
+     * 장애 중인 게이트웨이에 부하를 더하지 않도록 재시도하지 않음
+     */
+    private Retry createIdempotentRetry() {
+        TossPaymentsConfig.RetryProperties retry = tossPaymentsConfig.getRetry();
+        Counter retryCounter = Counter.builder("toss.payments.client.retries")
+                .tag("endpoint", "get")
+                .register(meterRegistry);
+
+        return Retry.backoff(retry.getMaxRetries(), retry.getInitialBackoff())
+                .maxBackoff(retry.getMaxBackoff())
+                .jitter(retry.getJitter())
+                .filter(e -> e instanceof PaymentGatewayException gatewayException
+                        && gatewayException.isOutcomeUnknown()
+                        && circuitBreaker.getState() == GatewayCircuitBreaker.State.CLOSED)
+                .doBeforeRetry(signal -> {
+                    retryCounter.increment();
+                    log.warn("토스페이먼츠 결제 조회 재시도 - attempt: {}", signal.totalRetries() + 1);
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private void recordLatency(String endpoint, String outcome, long startNanos) {
+        Timer.builder(REQUEST_TIMER)
+                .description("토스페이먼츠 API 응답 시간")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private String outcomeTag(Throwable e) {
+        if (e instanceof PaymentGatewayException gatewayException) {
+            return gatewayException.getOutcome().name().toLowerCase();
         }
+        return "unknown";
     }
 }
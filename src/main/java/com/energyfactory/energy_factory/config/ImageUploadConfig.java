@@ -0,0 +1,108 @@
+package com.energyfactory.energy_factory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 이미지 업로드 설정 클래스
+ * application.yml의 app.image-upload 속성을 바인딩
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.image-upload")
+@Getter
+@Setter
+public class ImageUploadConfig {
+
+    /**
+     * 업로드 가능한 최대 파일 크기
+     * spring.servlet.multipart.max-file-size와 같은 값으로 함께 변경 (서블릿 한도가 더 작으면 그 한도에서 먼저 거부됨)
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(5);
+
+    /**
+     * 이 크기 이상인 파일은 S3 멀티파트 업로드로 전송
+     * 파일이 partSize 이하면 파트 하나로 전송되고, 최대 파일 크기를 올리면 partSize 단위로 나눠 병렬 전송
+     */
+    private DataSize multipartThreshold = DataSize.ofMegabytes(4);
+
+    /**
+     * 멀티파트 업로드 파트 크기 (S3 최소 5MB, 마지막 파트 제외)
+     */
+    private DataSize partSize = DataSize.ofMegabytes(5);
+
+    /**
+     * 파트 업로드 스레드 수 (서버 전체에서 동시에 전송하는 최대 파트 수)
+     */
+    private int partUploadThreads = 4;
+
+    /**
+     * 동시에 처리하는 최대 이미지 수 (디코딩된 원본이 메모리에 머무는 수)
+     */
+    private int derivativeConcurrency = 2;
+
+    /**
+     * 축소 이미지 생성 스레드 수
+     */
+    private int derivativeThreads = 3;
+
+    /**
+     * 처리 대기 제한 시간 (초과 시 업로드 실패)
+     */
+    private Duration derivativeMaxWait = Duration.ofSeconds(10);
+
+    /**
+     * 허용하는 최대 해상도 (가로 × 세로 픽셀, 디코딩 전에 확인)
+     */
+    private long maxSourcePixels = 40_000_000;
+
+    /**
+     * 축소 이미지 JPEG 품질 (0~1)
+     */
+    private float derivativeQuality = 0.85f;
+
+    /**
+     * 직접 업로드(pre-signed PUT) URL 유효 시간
+     */
+    private Duration presignExpiry = Duration.ofMinutes(5);
+
+    /**
+     * 직접 업로드 세션 유효 시간 (이 시간 안에 업로드 완료 요청 필요)
+     */
+    private Duration uploadSessionTtl = Duration.ofMinutes(30);
+
+    /**
+     * 고아 이미지 유예 기간 (업로드 후 이 시간이 지나도 상품에서 사용하지 않으면 삭제)
+     */
+    private Duration orphanGracePeriod = Duration.ofHours(24);
+
+    /**
+     * 이미지 정리 대기열 최대 크기 (초과분은 고아 이미지 정리에서 삭제)
+     */
+    private int gcQueueCapacity = 10_000;
+
+    /**
+     * 이미지 정리 대기열 처리 주기 (ImageGarbageCollectionScheduler)
+     */
+    private Duration gcFlushInterval = Duration.ofSeconds(10);
+
+    /**
+     * 고아 이미지 정리 실행 시각 (cron, ImageGarbageCollectionScheduler)
+     */
+    private String orphanSweepCron = "0 30 4 * * *";
+
+    /**
+     * true면 고아 이미지를 삭제하지 않고 대상만 로그로 남김 (설정/URL 형식 변경 후 점검용)
+     */
+    private boolean orphanSweepDryRun = false;
+
+    /**
+     * 고아 이미지 정리 1회 실행에서 삭제하는 최대 객체 수 (초과분은 다음 실행에서 삭제)
+     * URL 해석 오류 등으로 사용 중인 이미지가 대량으로 고아로 판정되는 경우의 피해 상한
+     */
+    private int orphanSweepMaxDeletes = 1000;
+}
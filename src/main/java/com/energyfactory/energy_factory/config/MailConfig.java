@@ -0,0 +1,76 @@
+package com.energyfactory.energy_factory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 메일 발송 설정 클래스
+ * application.yml의 app.mail 속성을 바인딩
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.mail")
+@Getter
+@Setter
+public class MailConfig {
+
+    /**
+     * 발신자 이메일 주소
+     */
+    private String from;
+
+    /**
+     * 발신자 이름
+     */
+    private String fromName;
+
+    /**
+     * 발송 워커 스레드 수 (워커마다 SMTP 연결 하나를 유지하며 재사용)
+     */
+    private int workerThreads = 2;
+
+    /**
+     * 발송할 메일이 없을 때 대기열 확인 주기
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 워커가 한 번에 가져오는 최대 메일 수
+     */
+    private int claimBatchSize = 10;
+
+    /**
+     * 가져간 메일의 처리 제한 시간 (이 시간 안에 완료되지 않으면 다른 워커가 다시 발송)
+     * 메일마다 발송 직전에 연장되며, SMTP 타임아웃(mail.smtp.*timeout)보다 충분히 길어야 함
+     */
+    private Duration lease = Duration.ofMinutes(1);
+
+    /**
+     * 최대 발송 시도 횟수 (초과 시 실패 목록으로 이동)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 첫 재시도 대기 시간 (시도마다 2배, 최대 maxBackoff)
+     */
+    private Duration initialBackoff = Duration.ofSeconds(2);
+
+    /**
+     * 최대 재시도 대기 시간
+     */
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    /**
+     * SMTP 연결 유휴 제한 (이 시간 이상 사용하지 않은 연결은 닫고 새로 연결)
+     * SMTP 서버의 유휴 연결 종료 시간보다 짧게 설정
+     */
+    private Duration connectionIdleTimeout = Duration.ofSeconds(8);
+
+    /**
+     * 실패 목록 최대 보관 수
+     */
+    private int deadLetterMaxSize = 1000;
+}
@@ -0,0 +1,102 @@
+package com.energyfactory.energy_factory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 실시간 알림(SSE) 설정 클래스
+ * application.yml의 app.notification 속성을 바인딩
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.notification")
+@Getter
+@Setter
+public class NotificationConfig {
+
+    /**
+     * Redis 채널 파티션 수 (사용자 ID 해시 기준, 서버는 로컬 연결이 있는 파티션만 구독)
+     * 모든 서버에서 같은 값을 사용해야 함
+     */
+    private int partitions = 16;
+
+    /**
+     * 발행 배치 주기 (이 주기마다 모인 알림을 파티션별 메시지 하나로 발행)
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * 발행 메시지 하나에 담는 최대 알림 수
+     */
+    private int maxBatchSize = 200;
+
+    /**
+     * 발행 대기 중인 알림 최대 수 (초과 시 버림)
+     */
+    private int maxPending = 10_000;
+
+    /**
+     * 사용자당 최대 SSE 연결 수 (초과 시 가장 오래된 연결 종료)
+     */
+    private int maxConnectionsPerUser = 5;
+
+    /**
+     * 연결별 송신 대기열 크기
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * 송신 대기열이 가득 찬 느린 연결 처리 방식
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    /**
+     * 송신 대기열을 비우는 디스패처 스레드 수
+     */
+    private int dispatcherThreads = 4;
+
+    /**
+     * 사용자별 알림 기록 최대 개수 (재연결 시 재전송 가능한 알림 수)
+     */
+    private int logMaxLength = 100;
+
+    /**
+     * 알림 기록 보관 기간
+     */
+    private Duration logMaxAge = Duration.ofHours(24);
+
+    /**
+     * 하트비트 주기 (이 시간 동안 전송이 없던 연결에 주석 이벤트 전송)
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * 하트비트 점검 주기 (하트비트 주기보다 짧게, 점검 사이에 유휴가 된 연결도 heartbeatInterval 안에 하트비트를 받도록)
+     */
+    private Duration heartbeatCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 이 시간 동안 전송에 성공하지 못한 연결은 종료 (하트비트 주기보다 길어야 함)
+     */
+    private Duration idleTimeout = Duration.ofSeconds(45);
+
+    /**
+     * 쓰기 하나가 이 시간 안에 끝나지 않는 연결은 종료
+     * half-open 연결은 송신 버퍼가 찰 때까지 쓰기가 성공하다가 이후 블로킹되므로, 전송 성공 시각만으로는 감지되지 않음
+     */
+    private Duration writeTimeout = Duration.ofSeconds(10);
+
+    public enum OverflowPolicy {
+        /**
+         * 가장 오래된 이벤트를 버리고 새 이벤트 추가
+         */
+        DROP_OLDEST,
+        /**
+         * 연결 종료 (클라이언트 재연결)
+         */
+        DISCONNECT
+    }
+}
@@ -1,15 +1,52 @@
 package com.energyfactory.energy_factory.config;
 
-import org.springframework.context.annotation.Bean;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시(BCrypt) 설정 클래스
+ * application.yml의 app.password-hashing 속성을 바인딩
+ *
+ * PasswordEncoder 빈은 PasswordHashingService (전용 스레드 풀에서 해시 계산)
+ */
 @Configuration
+@ConfigurationProperties(prefix = "app.password-hashing")
+@Getter
+@Setter
 public class PasswordEncoderConfig {
-    
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+
+    /**
+     * 해시 계산 스레드 수 (0 이하: CPU 코어 수)
+     */
+    private int poolSize = 0;
+
+    /**
+     * 대기열 크기 (초과 시 503 응답)
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * 대기 포함 최대 처리 시간 (초과 시 503 응답)
+     */
+    private Duration maxWait = Duration.ofSeconds(3);
+
+    /**
+     * 고정 work factor (0: 시작 시 targetLatency 기준으로 측정하여 결정)
+     */
+    private int strength = 0;
+
+    /**
+     * 해시 1회 목표 소요 시간 (work factor 측정 기준)
+     */
+    private Duration targetLatency = Duration.ofMillis(250);
+
+    /**
+     * 측정 시 허용하는 최소/최대 work factor
+     */
+    private int minStrength = 10;
+    private int maxStrength = 14;
 }
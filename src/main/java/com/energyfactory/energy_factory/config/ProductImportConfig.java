@@ -0,0 +1,55 @@
+package com.energyfactory.energy_factory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 상품 일괄 가져오기/내보내기 설정 클래스
+ * application.yml의 app.product-import 속성을 바인딩
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.product-import")
+@Getter
+@Setter
+public class ProductImportConfig {
+
+    /**
+     * 가져오기 파일 최대 크기 (요청 본문을 그대로 받으므로 spring.servlet.multipart 한도와 무관)
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(100);
+
+    /**
+     * 트랜잭션 하나에 저장하는 상품 수 (JDBC batch 크기)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 서버당 동시에 실행하는 가져오기 작업 수
+     */
+    private int workerThreads = 1;
+
+    /**
+     * 실행 대기 중인 가져오기 작업 최대 수 (초과 시 503)
+     */
+    private int queueCapacity = 2;
+
+    /**
+     * 작업 상태에 보관하는 오류 내용 최대 개수
+     */
+    private int maxErrors = 100;
+
+    /**
+     * 작업 상태 보관 기간
+     */
+    private Duration statusTtl = Duration.ofHours(24);
+
+    /**
+     * 내보내기 시 한 번에 조회하는 상품 수
+     */
+    private int exportPageSize = 500;
+}
@@ -0,0 +1,89 @@
+package com.energyfactory.energy_factory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 클래스
+ * application.yml의 app.rate-limit 속성을 바인딩
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Getter
+@Setter
+public class RateLimitConfig {
+
+    /**
+     * 속도 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 서버 메모리 사전 필터에서 추적할 최대 키 수
+     */
+    private long localMaximumKeys = 100_000;
+
+    /**
+     * 경로별 제한 규칙 (요청은 일치하는 모든 규칙을 통과해야 함)
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    public enum KeyType {
+        /**
+         * 클라이언트 IP
+         */
+        IP,
+        /**
+         * 요청 본문(JSON)의 email 필드 (없으면 IP)
+         */
+        EMAIL,
+        /**
+         * 인증된 사용자 ID (비로그인 요청은 IP)
+         */
+        USER
+    }
+
+    /**
+     * 토큰 버킷 규칙: 최대 capacity개까지 모아 둘 수 있고, refillPeriod마다 capacity개가 다시 채워짐
+     */
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * 규칙 이름 (Redis 키와 로그에 사용)
+         */
+        private String name;
+
+        /**
+         * HTTP 메서드 (비어 있으면 모든 메서드)
+         */
+        private String method;
+
+        /**
+         * 요청 경로 (Ant 패턴)
+         */
+        private String path;
+
+        /**
+         * 제한 기준
+         */
+        private KeyType key = KeyType.IP;
+
+        /**
+         * 버킷 크기 (연속 허용 요청 수)
+         */
+        private int capacity;
+
+        /**
+         * 버킷이 가득 채워지는 데 걸리는 시간
+         */
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
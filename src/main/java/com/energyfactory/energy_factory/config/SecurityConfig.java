@@ -2,12 +2,16 @@ package com.energyfactory.energy_factory.config;
 
 import com.energyfactory.energy_factory.exception.CustomAuthenticationEntryPoint;
 import com.energyfactory.energy_factory.handler.OAuth2SuccessHandler;
+import com.energyfactory.energy_factory.jwt.AuthAuditLogger;
 import com.energyfactory.energy_factory.jwt.JwtFilter;
 import com.energyfactory.energy_factory.jwt.JwtUtil;
 import com.energyfactory.energy_factory.jwt.LoginFilter;
-import com.energyfactory.energy_factory.repository.UserRepository;
+import com.energyfactory.energy_factory.jwt.RateLimitFilter;
 import com.energyfactory.energy_factory.service.CustomOAuth2UserService;
+import com.energyfactory.energy_factory.service.RateLimiterService;
 import com.energyfactory.energy_factory.service.RefreshTokenService;
+import com.energyfactory.energy_factory.service.TokenRevocationService;
+import com.energyfactory.energy_factory.service.UserPrincipalCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,8 +19,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -35,7 +37,11 @@ public class SecurityConfig {
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthAuditLogger authAuditLogger;
+    private final RateLimitConfig rateLimitConfig;
+    private final RateLimiterService rateLimiterService;
 
     @Value("${app.cors.allowed-origins}")
     private String allowedOrigins;
@@ -43,17 +49,26 @@ public class SecurityConfig {
     @Value("${app.cookie.secure}")
     private boolean cookieSecure;
 
+    @Value("${jwt.stateless-auth:true}")
+    private boolean statelessAuth;
+
     public SecurityConfig(AuthenticationConfiguration authenticationConfiguration, JwtUtil jwtUtil,
                          RefreshTokenService refreshTokenService, CustomAuthenticationEntryPoint customAuthenticationEntryPoint,
                          CustomOAuth2UserService customOAuth2UserService, OAuth2SuccessHandler oAuth2SuccessHandler,
-                         UserRepository userRepository) {
+                         UserPrincipalCache userPrincipalCache, TokenRevocationService tokenRevocationService,
+                         AuthAuditLogger authAuditLogger, RateLimitConfig rateLimitConfig,
+                         RateLimiterService rateLimiterService) {
         this.authenticationConfiguration = authenticationConfiguration;
         this.jwtUtil = jwtUtil;
         this.refreshTokenService = refreshTokenService;
         this.customAuthenticationEntryPoint = customAuthenticationEntryPoint;
         this.customOAuth2UserService = customOAuth2UserService;
         this.oAuth2SuccessHandler = oAuth2SuccessHandler;
-        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authAuditLogger = authAuditLogger;
+        this.rateLimitConfig = rateLimitConfig;
+        this.rateLimiterService = rateLimiterService;
     }
 
     //AuthenticationManager Bean 등록
@@ -87,6 +102,10 @@ public class SecurityConfig {
                         // Swagger 관련
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
 
+                        // Actuator (헬스체크만 공개, 메트릭은 관리자 전용)
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // 관리자 전용 (ADMIN 권한 필요)
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
@@ -114,8 +133,10 @@ public class SecurityConfig {
                 .httpBasic((auth) -> auth.disable());
 
         http
-                .addFilterBefore(new JwtFilter(jwtUtil, userRepository), LoginFilter.class)
-                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshTokenService, cookieSecure), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtFilter(jwtUtil, userPrincipalCache, tokenRevocationService, authAuditLogger, statelessAuth), LoginFilter.class)
+                // 속도 제한은 인증 정보(JwtFilter) 확인 후, 로그인 비밀번호 검증(LoginFilter) 전에 적용
+                .addFilterAfter(new RateLimitFilter(rateLimitConfig, rateLimiterService), JwtFilter.class)
+                .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil, refreshTokenService, authAuditLogger, cookieSecure), UsernamePasswordAuthenticationFilter.class);
 
         //세션 설정
         http
@@ -1,11 +1,17 @@
 package com.energyfactory.energy_factory.config;
 
+import io.netty.channel.ChannelOption;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
  * 토스페이먼츠 설정 클래스
@@ -42,14 +48,193 @@ public class TossPaymentsConfig {
      */
     private String failUrl;
 
+    /**
+     * TCP 연결 타임아웃
+     */
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 응답 대기 타임아웃 (요청 전송 후 응답 수신까지)
+     */
+    private Duration readTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 커넥션 풀 최대 연결 수
+     */
+    private int maxConnections = 50;
+
+    /**
+     * 커넥션 풀에서 연결을 얻기 위한 최대 대기 시간
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    /**
+     * 유휴 연결 유지 시간 (토스페이먼츠/LB의 idle timeout보다 짧게 유지)
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(20);
+
+    /**
+     * 토스페이먼츠 API 동시 호출 허용 수 (벌크헤드)
+     */
+    private int maxConcurrentCalls = 20;
+
+    /**
+     * 서킷 브레이커 설정
+     */
+    private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
+    /**
+     * 재시도 설정 (멱등한 결제 조회 API에만 적용)
+     */
+    private RetryProperties retry = new RetryProperties();
+
+    /**
+     * 결제 대사(reconciliation) 설정
+     */
+    private ReconciliationProperties reconciliation = new ReconciliationProperties();
+
+    /**
+     * 웹훅 수신함 처리 설정
+     */
+    private WebhookProperties webhook = new WebhookProperties();
+
     /**
      * 토스페이먼츠 API 호출용 WebClient 빈 생성
+     * 전용 커넥션 풀과 연결/응답 타임아웃을 적용하여 외부 API 지연이 요청 스레드를 무기한 점유하지 않도록 함
      */
     @Bean
     public WebClient tossPaymentsWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("toss-payments")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader("Content-Type", "application/json")
                 .build();
     }
+
+    @Getter
+    @Setter
+    public static class CircuitBreakerProperties {
+
+        /**
+         * 실패율 계산에 사용하는 최근 호출 수
+         */
+        private int slidingWindowSize = 50;
+
+        /**
+         * 실패율을 계산하기 위한 최소 호출 수
+         */
+        private int minimumNumberOfCalls = 20;
+
+        /**
+         * 서킷을 여는 실패율 임계치 (%)
+         */
+        private int failureRateThreshold = 50;
+
+        /**
+         * 지연 호출로 간주하는 응답 시간
+         */
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(5);
+
+        /**
+         * 서킷을 여는 지연 호출 비율 임계치 (%)
+         */
+        private int slowCallRateThreshold = 80;
+
+        /**
+         * OPEN 상태 유지 시간 (이후 HALF_OPEN으로 전환)
+         */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        /**
+         * HALF_OPEN 상태에서 허용하는 시험 호출 수
+         */
+        private int permittedCallsInHalfOpenState = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class RetryProperties {
+
+        /**
+         * 최대 재시도 횟수 (최초 호출 제외)
+         */
+        private int maxRetries = 2;
+
+        /**
+         * 첫 재시도 대기 시간 (이후 지수적으로 증가)
+         */
+        private Duration initialBackoff = Duration.ofMillis(200);
+
+        /**
+         * 재시도 대기 시간 상한
+         */
+        private Duration maxBackoff = Duration.ofSeconds(2);
+
+        /**
+         * 대기 시간에 적용하는 지터 비율 (0 ~ 1)
+         */
+        private double jitter = 0.5;
+    }
+
+    @Getter
+    @Setter
+    public static class ReconciliationProperties {
+
+        /**
+         * 대사 대상이 되는 PENDING 결제의 최소 경과 시간 (진행 중인 승인 요청과 겹치지 않도록)
+         */
+        private Duration minAge = Duration.ofSeconds(60);
+
+        /**
+         * 토스페이먼츠 상태가 종료되지 않은 채(READY, IN_PROGRESS, WAITING_FOR_DEPOSIT) 이 시간이 지나면 경고 로그
+         * (실패 확정은 토스페이먼츠 종료 상태 또는 결제가 존재하지 않는 경우에만)
+         */
+        private Duration maxPendingAge = Duration.ofMinutes(15);
+
+        /**
+         * 한 번에 조회하는 결제 수
+         */
+        private int batchSize = 100;
+
+        /**
+         * 토스페이먼츠 결제 조회 동시 실행 수
+         */
+        private int maxParallelism = 4;
+    }
+
+    @Getter
+    @Setter
+    public static class WebhookProperties {
+
+        /**
+         * 최대 처리 시도 횟수 (초과 시 FAILED로 보관, 요청이 전송되지 않은 시도는 제외)
+         */
+        private int maxAttempts = 10;
+
+        /**
+         * 첫 재시도 대기 시간 (시도마다 2배씩 증가)
+         */
+        private Duration initialBackoff = Duration.ofSeconds(5);
+
+        /**
+         * 재시도 대기 시간 상한
+         */
+        private Duration maxBackoff = Duration.ofMinutes(30);
+
+        /**
+         * 처리 완료된 이벤트 보관 기간 (FAILED 이벤트는 삭제하지 않음)
+         */
+        private Duration retention = Duration.ofDays(30);
+    }
 }
@@ -1,8 +1,11 @@
 package com.energyfactory.energy_factory.controller;
 
 import com.energyfactory.energy_factory.dto.ApiResponse;
+import com.energyfactory.energy_factory.dto.OrderBulkStatusUpdateRequestDto;
+import com.energyfactory.energy_factory.dto.OrderBulkStatusUpdateResponseDto;
 import com.energyfactory.energy_factory.dto.OrderResponseDto;
 import com.energyfactory.energy_factory.dto.OrderStatusUpdateRequestDto;
+import com.energyfactory.energy_factory.service.AdminOrderService;
 import com.energyfactory.energy_factory.service.OrderService;
 import com.energyfactory.energy_factory.utils.enums.ResultCode;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminOrderController {
 
     private final OrderService orderService;
+    private final AdminOrderService adminOrderService;
 
     @PatchMapping("/{orderId}/status")
     @Operation(
@@ -46,4 +50,23 @@ public class AdminOrderController {
         OrderResponseDto order = orderService.updateOrderStatus(orderId, request.getStatus());
         return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, order));
     }
+
+    @PatchMapping("/status")
+    @Operation(
+            summary = "주문 상태 일괄 변경 (관리자)",
+            description = "여러 주문의 상태를 한 번에 변경합니다. (최대 10,000건)\n\n" +
+                    "**처리 방식:**\n" +
+                    "- 500건 단위로 나누어 각각 하나의 트랜잭션에서 일괄 UPDATE\n" +
+                    "- 이미 같은 상태인 주문은 변경/알림 없이 UNCHANGED로 응답\n" +
+                    "- 존재하지 않는 주문은 NOT_FOUND로 응답 (요청 전체를 실패시키지 않음)\n" +
+                    "- 변경된 주문의 고객에게는 커밋 후 SSE 알림이 전송됩니다.\n\n" +
+                    "**응답:** 결과별 건수와 주문별 결과 (요청 순서, 중복 ID는 한 번만)"
+    )
+    public ResponseEntity<ApiResponse<OrderBulkStatusUpdateResponseDto>> bulkUpdateOrderStatus(
+            @Valid @RequestBody OrderBulkStatusUpdateRequestDto request
+    ) {
+        OrderBulkStatusUpdateResponseDto result =
+                adminOrderService.bulkUpdateOrderStatus(request.getOrderIds(), request.getStatus());
+        return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, result));
+    }
 }
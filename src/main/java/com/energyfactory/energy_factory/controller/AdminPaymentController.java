@@ -0,0 +1,70 @@
+package com.energyfactory.energy_factory.controller;
+
+import com.energyfactory.energy_factory.dto.ApiResponse;
+import com.energyfactory.energy_factory.dto.PaymentStatsResponseDto;
+import com.energyfactory.energy_factory.service.PaymentSummaryService;
+import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 관리자 결제 통계 컨트롤러
+ * 일별 집계 테이블 기반의 결제 통계 조회 및 집계 재생성 기능 제공
+ */
+@RestController
+@RequestMapping("/api/admin/payments")
+@Tag(name = "Admin Payment", description = "관리자 결제 통계 API")
+@RequiredArgsConstructor
+public class AdminPaymentController {
+
+    private final PaymentSummaryService paymentSummaryService;
+
+    @GetMapping("/stats/daily")
+    @Operation(
+            summary = "일별 결제 통계 (관리자)",
+            description = "최근 N일간 일별 결제 건수와 금액 합계를 조회합니다.\n\n" +
+                    "결제일은 결제 생성일 기준이며, 결제 상태 변경 시점에 갱신되는 집계 테이블에서 조회합니다."
+    )
+    public ResponseEntity<ApiResponse<List<PaymentStatsResponseDto>>> getDailyStats(
+            @RequestParam(defaultValue = "COMPLETED") PaymentStatus status,
+            @RequestParam(defaultValue = "30") int days
+    ) {
+        List<PaymentStatsResponseDto> stats = paymentSummaryService.getDailyStats(status, Math.max(1, Math.min(days, 366)));
+        return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, stats));
+    }
+
+    @GetMapping("/stats/by-method")
+    @Operation(
+            summary = "결제 수단별 통계 (관리자)",
+            description = "최근 N일간 결제 수단별 결제 건수와 금액 합계를 조회합니다. (최대 366일)"
+    )
+    public ResponseEntity<ApiResponse<List<PaymentStatsResponseDto>>> getSummaryByMethod(
+            @RequestParam(defaultValue = "COMPLETED") PaymentStatus status,
+            @RequestParam(defaultValue = "30") int days
+    ) {
+        List<PaymentStatsResponseDto> stats = paymentSummaryService.getSummaryByMethod(status, Math.max(1, Math.min(days, 366)));
+        return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, stats));
+    }
+
+    @PostMapping("/stats/backfill")
+    @Operation(
+            summary = "결제 집계 재생성 (관리자)",
+            description = "지정한 기간의 일별 집계를 결제 원장(payments)으로부터 다시 계산합니다.\n\n" +
+                    "집계 테이블 도입 이전 데이터 백필 또는 집계 보정에 사용합니다. 하루 단위로 나누어 처리합니다."
+    )
+    public ResponseEntity<ApiResponse<Integer>> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        int rowCount = paymentSummaryService.backfill(from, to);
+        return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, rowCount));
+    }
+}
@@ -2,8 +2,14 @@ package com.energyfactory.energy_factory.controller;
 
 import com.energyfactory.energy_factory.dto.*;
 import com.energyfactory.energy_factory.service.AdminProductService;
+import com.energyfactory.energy_factory.service.ImageGarbageCollector;
+import com.energyfactory.energy_factory.service.ImageUploadSessionService;
+import com.energyfactory.energy_factory.service.ProductExportService;
+import com.energyfactory.energy_factory.service.ProductImportService;
 import com.energyfactory.energy_factory.service.ProductService;
 import com.energyfactory.energy_factory.service.S3Service;
+import com.energyfactory.energy_factory.utils.enums.ImageVariant;
+import com.energyfactory.energy_factory.utils.enums.ProductDataFormat;
 import com.energyfactory.energy_factory.utils.enums.ResultCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,12 +18,19 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,10 +47,18 @@ public class AdminProductController {
 
     private final AdminProductService adminProductService;
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductExportService productExportService;
 
     @Autowired(required = false)
     private S3Service s3Service;
 
+    @Autowired(required = false)
+    private ImageUploadSessionService imageUploadSessionService;
+
+    @Autowired(required = false)
+    private ImageGarbageCollector imageGarbageCollector;
+
     /**
      * 상품 목록 조회 (관리자용 - 기존 ProductService 재사용)
      */
@@ -143,11 +164,81 @@ public class AdminProductController {
         return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, response));
     }
 
+    /**
+     * 상품 일괄 가져오기
+     * 파일 내용을 요청 본문으로 그대로 받음 (multipart 한도 대신 app.product-import.max-file-size 적용)
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain", "application/json",
+            "application/x-ndjson", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "상품 일괄 가져오기",
+            description = "CSV 또는 JSON 파일의 상품을 백그라운드에서 일괄 등록하고 작업 ID를 반환합니다.\n\n" +
+                    "- 파일 내용을 요청 본문으로 그대로 전송합니다 (multipart 아님, 최대 100MB)\n" +
+                    "  예) curl -X POST --data-binary @products.csv -H 'Content-Type: text/csv' '.../import?format=CSV'\n" +
+                    "- CSV: 첫 행은 열 이름 (내보내기 파일과 같은 형식), tags는 |로 구분, " +
+                    "variants는 옵션명:가격:재고[:default], nutrients는 이름:값:단위[:일일권장%]를 |로 구분 " +
+                    "(이름/값의 |, :, \\는 \\로 이스케이프)\n" +
+                    "- JSON: 상품 객체 배열 또는 한 줄에 객체 하나\n" +
+                    "- id가 있는 레코드는 거부합니다. 내보낸 파일을 새 상품으로 등록하려면 id 값을 비워주세요 (기존 상품 수정은 지원하지 않음)\n\n" +
+                    "진행 상황은 /import/{jobId}로 조회합니다. 형식이 잘못되거나 저장할 수 없는 레코드는 건너뛰고 오류로 기록합니다.")
+    public ResponseEntity<ApiResponse<ProductImportStatusDto>> importProducts(
+            InputStream body,
+            @RequestParam(defaultValue = "CSV") ProductDataFormat format
+    ) {
+        try {
+            ProductImportStatusDto response = productImportService.startImport(body, format);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.of(ResultCode.SUCCESS, response));
+        } catch (IllegalArgumentException e) {
+            // 빈 파일
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.of(ResultCode.INVALID_REQUEST, null));
+        } catch (IOException e) {
+            // 임시 파일 저장 실패
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.of(ResultCode.INTERNAL_SERVER_ERROR, null));
+        }
+    }
+
+    /**
+     * 상품 일괄 가져오기 진행 상황 조회
+     */
+    @GetMapping("/import/{jobId}")
+    @Operation(summary = "상품 일괄 가져오기 진행 상황 조회",
+            description = "처리/저장/실패한 레코드 수와 오류 내용(최대 100건)을 반환합니다. 작업 상태는 24시간 보관됩니다.")
+    public ResponseEntity<ApiResponse<ProductImportStatusDto>> getImportStatus(@PathVariable String jobId) {
+        ProductImportStatusDto response = productImportService.getStatus(jobId);
+        return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, response));
+    }
+
+    /**
+     * 상품 일괄 내보내기
+     */
+    @GetMapping("/export")
+    @Operation(summary = "상품 일괄 내보내기",
+            description = "전체 상품(옵션, 영양성분, 태그 포함)을 가져오기와 같은 형식의 CSV 또는 JSON 파일로 내려받습니다.\n\n" +
+                    "각 레코드에 상품 id가 포함되며, id가 있는 레코드는 가져오기에서 거부됩니다 (기존 상품 수정용이 아님).")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "CSV") ProductDataFormat format
+    ) {
+        String fileName = "products-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+                + "." + format.getExtension();
+        StreamingResponseBody body = out -> productExportService.export(format, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName)
+                        .build()
+                        .toString())
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
     /**
      * 상품 이미지 업로드
      */
     @PostMapping(value = "/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    @Operation(summary = "상품 이미지 업로드", description = "상품 이미지 파일을 S3에 업로드하고 URL 반환")
+    @Operation(summary = "상품 이미지 업로드", description = "상품 이미지 파일을 S3에 업로드하고 URL 반환\n\n" +
+            "원본과 함께 축소 이미지(thumbnailUrl: 목록, detailUrl: 상세, zoomUrl: 확대)를 생성합니다. " +
+            "축소 이미지를 만들 수 없는 형식이면 원본 URL을 그대로 반환합니다.")
     public ResponseEntity<ApiResponse<Map<String, String>>> uploadImage(
             @RequestParam("file") MultipartFile file
     ) {
@@ -164,6 +255,10 @@ public class AdminProductController {
             // 응답 데이터 구성
             Map<String, String> response = new HashMap<>();
             response.put("imageUrl", imageUrl);
+            for (ImageVariant variant : ImageVariant.values()) {
+                String variantUrl = variant.resolveUrl(imageUrl);
+                response.put(variant.name().toLowerCase() + "Url", variantUrl != null ? variantUrl : imageUrl);
+            }
 
             return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, response));
 
@@ -178,22 +273,95 @@ public class AdminProductController {
         }
     }
 
+    /**
+     * 상품 이미지 직접 업로드 세션 생성
+     */
+    @PostMapping("/images/upload-sessions")
+    @Operation(summary = "상품 이미지 직접 업로드 URL 발급",
+            description = "이미지 파일을 서버를 거치지 않고 S3에 바로 업로드할 수 있는 URL을 발급합니다.\n\n" +
+                    "1. 응답의 uploadUrl로 headers를 포함해 파일을 PUT (선언한 Content-Type/크기와 같아야 함)\n" +
+                    "2. 업로드 후 /images/upload-sessions/{sessionId}/complete 호출하여 이미지 URL 수신\n\n" +
+                    "직접 업로드한 이미지는 축소 이미지를 생성하지 않습니다. (thumbnailUrl은 원본 URL)")
+    public ResponseEntity<ApiResponse<ImageUploadSessionResponseDto>> createImageUploadSession(
+            @Valid @RequestBody ImageUploadSessionRequestDto request
+    ) {
+        // S3가 설정되지 않은 경우 (로컬 환경)
+        if (imageUploadSessionService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.of(ResultCode.INTERNAL_SERVER_ERROR, null));
+        }
+
+        try {
+            ImageUploadSessionResponseDto response = imageUploadSessionService.createSession("products", request);
+            return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, response));
+        } catch (IllegalArgumentException e) {
+            // 형식/크기 검증 실패
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.of(ResultCode.INVALID_REQUEST, null));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.of(ResultCode.INTERNAL_SERVER_ERROR, null));
+        }
+    }
+
+    /**
+     * 상품 이미지 직접 업로드 완료
+     */
+    @PostMapping("/images/upload-sessions/{sessionId}/complete")
+    @Operation(summary = "상품 이미지 직접 업로드 완료",
+            description = "S3에 업로드된 파일의 크기/형식을 확인하고 이미지 URL을 반환합니다. " +
+                    "요청과 다른 파일이면 삭제하고 400을 반환합니다.")
+    public ResponseEntity<ApiResponse<Map<String, String>>> completeImageUploadSession(
+            @PathVariable String sessionId
+    ) {
+        // S3가 설정되지 않은 경우 (로컬 환경)
+        if (imageUploadSessionService == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.of(ResultCode.INTERNAL_SERVER_ERROR, null));
+        }
+
+        try {
+            String imageUrl = imageUploadSessionService.completeSession(sessionId);
+
+            Map<String, String> response = new HashMap<>();
+            response.put("imageUrl", imageUrl);
+            response.put("thumbnailUrl", imageUrl);
+
+            return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, response));
+        } catch (IllegalArgumentException e) {
+            // 세션 만료, 미업로드, 검증 실패
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.of(ResultCode.INVALID_REQUEST, null));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.of(ResultCode.INTERNAL_SERVER_ERROR, null));
+        }
+    }
+
     /**
      * 상품 이미지 삭제
      */
     @DeleteMapping("/images")
-    @Operation(summary = "상품 이미지 삭제", description = "S3에 업로드된 상품 이미지 삭제")
+    @Operation(summary = "상품 이미지 삭제",
+            description = "S3에 업로드된 상품 이미지(축소 이미지 포함) 삭제를 예약합니다.\n\n" +
+                    "삭제는 백그라운드에서 일괄 처리되며, 상품에서 사용 중인 이미지는 삭제하지 않습니다.")
     public ResponseEntity<ApiResponse<Void>> deleteImage(
             @RequestParam("imageUrl") String imageUrl
     ) {
         // S3Service가 로드되지 않은 경우 (로컬 환경)
-        if (s3Service == null) {
+        if (s3Service == null || imageGarbageCollector == null) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                     .body(ApiResponse.of(ResultCode.INTERNAL_SERVER_ERROR, null));
         }
 
+        // 이 버킷의 이미지 URL인지 확인
+        if (s3Service.findS3Key(imageUrl) == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.of(ResultCode.INVALID_REQUEST, null));
+        }
+
         try {
-            s3Service.deleteImage(imageUrl);
+            imageGarbageCollector.enqueue(imageUrl);
             return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, null));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -8,10 +8,14 @@ import com.energyfactory.energy_factory.dto.SignupResponseDto;
 import com.energyfactory.energy_factory.dto.TokenRefreshResponseDto;
 import com.energyfactory.energy_factory.exception.AuthException;
 import com.energyfactory.energy_factory.exception.BusinessException;
+import com.energyfactory.energy_factory.jwt.JwtPrincipal;
 import com.energyfactory.energy_factory.jwt.JwtUtil;
 import com.energyfactory.energy_factory.service.RefreshTokenService;
+import com.energyfactory.energy_factory.service.TokenRevocationService;
+import com.energyfactory.energy_factory.service.UserPrincipalCache;
 import com.energyfactory.energy_factory.service.UserService;
 import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,15 +41,20 @@ public class AuthController {
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Value("${jwt.refresh-token-expiration}")
     private Long refreshTokenExpiration;
 
     @Autowired
-    public AuthController(JwtUtil jwtUtil, RefreshTokenService refreshTokenService, UserService userService) {
+    public AuthController(JwtUtil jwtUtil, RefreshTokenService refreshTokenService, UserService userService,
+                          TokenRevocationService tokenRevocationService, UserPrincipalCache userPrincipalCache) {
         this.jwtUtil = jwtUtil;
         this.refreshTokenService = refreshTokenService;
         this.userService = userService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     @PostMapping("/refresh")
@@ -58,32 +67,41 @@ public class AuthController {
             throw new AuthException(ResultCode.REFRESH_TOKEN_REQUIRED);
         }
         
-        // JWT 토큰 검증 (만료 시간 등)
-        if (jwtUtil.isExpired(refreshToken)) {
+        // JWT 토큰 검증 (서명, 만료 시간) - 한 번만 파싱
+        JwtPrincipal principal;
+        try {
+            principal = jwtUtil.parse(refreshToken);
+        } catch (ExpiredJwtException e) {
             throw new AuthException(ResultCode.EXPIRED_REFRESH_TOKEN);
         }
-        
+
         // 토큰 타입 확인
-        String tokenType = jwtUtil.getTokenType(refreshToken);
-        if (!"refresh".equals(tokenType)) {
+        if (!principal.isRefreshToken()) {
             throw new AuthException(ResultCode.INVALID_TOKEN_TYPE);
         }
-        
+
+        // 비밀번호 변경/회원 탈퇴로 폐기된 토큰
+        if (tokenRevocationService.isRevoked(principal)) {
+            throw new AuthException(ResultCode.INVALID_REFRESH_TOKEN);
+        }
+
         // 사용자 정보 추출 (userId, username)
-        Long userId = jwtUtil.getUserId(refreshToken);
-        String username = jwtUtil.getUsername(refreshToken);
+        Long userId = principal.userId();
+        String username = principal.username();
 
-        // Redis에서 저장된 Refresh Token과 비교 검증
-        if (!refreshTokenService.validateRefreshToken(username, refreshToken)) {
+        // 리프레시 토큰 회전 (Redis 왕복 1회 - 현재 토큰 확인 + 새 토큰 등록, 재사용 시 패밀리 폐기)
+        String newRefreshToken = refreshTokenService.rotateRefreshToken(principal);
+
+        // 현재 권한 조회 (액세스 토큰의 권한 클레임이 인증에 그대로 사용되므로 사용자 캐시 기준으로 발급)
+        String role;
+        try {
+            role = userPrincipalCache.getUser(userId).role().name();
+        } catch (BusinessException e) {
             throw new AuthException(ResultCode.INVALID_REFRESH_TOKEN);
         }
 
         // 새로운 Access Token 발급 (userId 포함)
-        String newAccessToken = jwtUtil.createAccessToken(userId, username, "USER", 30 * 60 * 1000L);
-
-        // 새로운 Refresh Token 발급 (userId 포함)
-        String newRefreshToken = jwtUtil.createRefreshToken(userId, username, 7 * 24 * 60 * 60 * 1000L);
-        refreshTokenService.saveRefreshToken(username, newRefreshToken);
+        String newAccessToken = jwtUtil.createAccessToken(userId, username, role, 30 * 60 * 1000L);
 
         // 쿠키에 새로운 토큰 설정
         addTokenCookie(response, "accessToken", newAccessToken, 30 * 60); // 30분
@@ -100,13 +118,10 @@ public class AuthController {
 
         if (refreshToken != null && !refreshToken.isEmpty()) {
             try {
-                // 토큰이 유효한 경우에만 Redis에서 삭제
-                if (!jwtUtil.isExpired(refreshToken)) {
-                    String username = jwtUtil.getUsername(refreshToken);
-                    refreshTokenService.deleteRefreshToken(username);
-                }
+                // 토큰이 유효한 경우에만 해당 기기의 토큰 패밀리 폐기 (만료/위조 토큰은 예외)
+                refreshTokenService.revokeRefreshToken(jwtUtil.parse(refreshToken));
             } catch (Exception e) {
-                System.out.println("Invalid token during logout, but proceeding: " + e.getMessage());
+                log.debug("로그아웃 시 유효하지 않은 리프레시 토큰 - {}", e.getMessage());
             }
         }
 
@@ -175,14 +190,8 @@ public class AuthController {
                 10 * 60 * 1000L  // 10분
         );
 
-        String refreshToken = jwtUtil.createRefreshToken(
-                signupResponse.getId(),
-                signupResponse.getEmail(),
-                refreshTokenExpiration * 1000L  // 7일
-        );
-
-        // Refresh Token을 Redis에 저장
-        refreshTokenService.saveRefreshToken(signupResponse.getEmail(), refreshToken);
+        // Refresh Token 생성 및 Redis 저장 (기기별 토큰 패밀리, 7일)
+        String refreshToken = refreshTokenService.issueRefreshToken(signupResponse.getId(), signupResponse.getEmail());
 
         // HttpOnly 쿠키에 토큰 저장
         addTokenCookie(response, "accessToken", accessToken, 10 * 60);  // 10분
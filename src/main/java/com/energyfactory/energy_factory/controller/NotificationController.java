@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -30,6 +31,7 @@ public class NotificationController {
             description = "실시간 알림을 받기 위한 SSE 연결을 생성합니다.\n\n" +
                     "- 주문 상태 변경 시 자동으로 알림 수신\n" +
                     "- 연결은 30분간 유지되며, 이후 자동 재연결 필요\n" +
+                    "- 재연결 시 Last-Event-ID 헤더(EventSource 자동 전송)가 있으면 끊긴 동안의 알림을 먼저 재전송\n" +
                     "- EventSource API를 사용하여 연결\n\n" +
                     "**프론트엔드 예시:**\n" +
                     "```javascript\n" +
@@ -40,9 +42,11 @@ public class NotificationController {
                     "});\n" +
                     "```"
     )
-    public SseEmitter streamNotifications(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public SseEmitter streamNotifications(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         Long userId = userDetails.getUser().getId();
-        return notificationService.createEmitter(userId);
+        return notificationService.createEmitter(userId, lastEventId);
     }
 
     @GetMapping("/stats")
@@ -31,7 +31,8 @@ public class PasswordResetController {
     @PostMapping("/send-code")
     @Operation(
         summary = "인증 코드 전송",
-        description = "이메일로 6자리 인증 코드를 전송합니다. 코드는 5분간 유효하며, 1분에 1회만 요청 가능합니다."
+        description = "이메일로 6자리 인증 코드를 전송합니다. 코드는 5분간 유효하며, 1분에 1회만 요청 가능합니다.\n\n" +
+                "코드 저장 후 바로 응답하며, 메일은 백그라운드에서 발송됩니다. (실패 시 자동 재시도)"
     )
     public ResponseEntity<ApiResponse<Void>> sendVerificationCode(
             @Valid @RequestBody SendCodeRequestDto request
@@ -42,7 +43,7 @@ public class PasswordResetController {
         // Redis에 저장
         verificationCodeService.saveCode(request.getEmail(), code);
 
-        // 이메일 발송
+        // 이메일 발송 대기열에 저장 (발송은 워커가 비동기로 처리)
         emailService.sendVerificationCode(request.getEmail(), code);
 
         return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, null));
@@ -3,6 +3,8 @@ package com.energyfactory.energy_factory.controller;
 import com.energyfactory.energy_factory.config.TossPaymentsConfig;
 import com.energyfactory.energy_factory.dto.*;
 import com.energyfactory.energy_factory.service.PaymentService;
+import com.energyfactory.energy_factory.service.PaymentWebhookService;
+import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
 import com.energyfactory.energy_factory.utils.enums.ResultCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,6 +29,7 @@ import java.util.Map;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentWebhookService paymentWebhookService;
     private final TossPaymentsConfig tossPaymentsConfig;
 
 
@@ -52,7 +55,8 @@ public class PaymentController {
         summary = "토스페이먼츠 결제 승인",
         description = "프론트엔드에서 받은 paymentKey, orderId로 실제 결제를 승인합니다.\n\n" +
                      "결제 금액은 서버에서 주문 정보를 조회하여 자동으로 설정됩니다.\n\n" +
-                     "결제 위젯에서 결제 성공 시 리다이렉트된 페이지에서 이 API를 호출하면 됩니다."
+                     "결제 위젯에서 결제 성공 시 리다이렉트된 페이지에서 이 API를 호출하면 됩니다.\n\n" +
+                     "토스페이먼츠 응답 지연으로 승인 결과가 확정되지 않으면 202(PENDING)를 반환합니다."
     )
     public ResponseEntity<ApiResponse<PaymentResponseDto>> confirmTossPayment(
             @Valid @RequestBody TossPaymentConfirmRequestDto confirmRequest
@@ -61,7 +65,12 @@ public class PaymentController {
                 confirmRequest.getOrderId());
 
         PaymentResponseDto payment = paymentService.confirmTossPayment(confirmRequest);
-        return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, payment));
+
+        // 승인 결과가 아직 확정되지 않은 경우 202로 응답 (결제 대사 후 확정)
+        ResultCode resultCode = PaymentStatus.PENDING.name().equals(payment.getPaymentStatus())
+                ? ResultCode.PAYMENT_PENDING
+                : ResultCode.SUCCESS;
+        return ResponseEntity.status(resultCode.getStatus()).body(ApiResponse.of(resultCode, payment));
     }
 
     @PostMapping("/toss/{id}/cancel")
@@ -82,4 +91,19 @@ public class PaymentController {
         PaymentResponseDto payment = paymentService.cancelTossPayment(userId, id, reason);
         return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, payment));
     }
-}
\ No newline at end of file
+
+    @PostMapping("/toss/webhook")
+    @Operation(
+        summary = "토스페이먼츠 웹훅 수신",
+        description = "토스페이먼츠 결제 상태 변경 웹훅을 수신합니다.\n\n" +
+                     "수신한 이벤트는 저장 후 즉시 200을 반환하며, 결제/주문 상태 반영은 비동기로 처리됩니다.\n\n" +
+                     "동일한 이벤트가 재전송되어도 한 번만 저장됩니다."
+    )
+    public ResponseEntity<ApiResponse<Void>> receiveTossWebhook(
+            @RequestHeader(value = "tosspayments-webhook-transmission-id", required = false) String transmissionId,
+            @RequestBody String payload
+    ) {
+        paymentWebhookService.receive(transmissionId, payload);
+        return ResponseEntity.ok(ApiResponse.of(ResultCode.SUCCESS, null));
+    }
+}
@@ -66,14 +66,8 @@ public class UserController {
                 10 * 60 * 1000L  // 10분
         );
 
-        String refreshToken = jwtUtil.createRefreshToken(
-                signupResponse.getId(),
-                signupResponse.getEmail(),
-                refreshTokenExpiration * 1000L  // 7일
-        );
-
-        // Refresh Token을 Redis에 저장
-        refreshTokenService.saveRefreshToken(signupResponse.getEmail(), refreshToken);
+        // Refresh Token 생성 및 Redis 저장 (기기별 토큰 패밀리, 7일)
+        String refreshToken = refreshTokenService.issueRefreshToken(signupResponse.getId(), signupResponse.getEmail());
 
         // HttpOnly 쿠키에 토큰 저장
         addTokenCookie(response, "accessToken", accessToken, 10 * 60);  // 10분
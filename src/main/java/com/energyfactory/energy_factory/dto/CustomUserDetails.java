@@ -1,6 +1,8 @@
 package com.energyfactory.energy_factory.dto;
 
 import com.energyfactory.energy_factory.entity.User;
+import com.energyfactory.energy_factory.jwt.JwtPrincipal;
+import com.energyfactory.energy_factory.utils.enums.Role;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,6 +23,31 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
         this.user = user;
     }
 
+    /**
+     * JWT 클레임으로 생성 (요청마다 DB를 조회하지 않는 인증용)
+     * 권한 클레임은 발급 경로에 따라 "USER" 또는 "ROLE_USER" 형식
+     */
+    public static CustomUserDetails fromClaims(JwtPrincipal principal) {
+        String role = principal.role();
+        if (role.startsWith("ROLE_")) {
+            role = role.substring("ROLE_".length());
+        }
+        return of(principal.userId(), principal.username(), Role.valueOf(role));
+    }
+
+    /**
+     * 인증에 필요한 정보만으로 생성
+     * 영속 상태가 아닌 User로, id/email/role만 채워짐
+     */
+    public static CustomUserDetails of(Long userId, String email, Role role) {
+        User user = User.builder()
+                .id(userId)
+                .email(email)
+                .role(role)
+                .build();
+        return new CustomUserDetails(user);
+    }
+
     // OAuth2 로그인용 생성자
     public CustomUserDetails(User user, Map<String, Object> attributes) {
         this.user = user;
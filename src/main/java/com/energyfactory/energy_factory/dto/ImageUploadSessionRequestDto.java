@@ -0,0 +1,33 @@
+package com.energyfactory.energy_factory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미지 직접 업로드 세션 생성 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadSessionRequestDto {
+
+    @Schema(description = "업로드할 파일명 (확장자 확인용)", example = "steak.jpg")
+    @NotBlank(message = "파일명은 필수입니다")
+    private String fileName;
+
+    @Schema(description = "파일 Content-Type", example = "image/jpeg")
+    @NotBlank(message = "Content-Type은 필수입니다")
+    private String contentType;
+
+    @Schema(description = "파일 크기 (바이트)", example = "1048576")
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long size;
+}
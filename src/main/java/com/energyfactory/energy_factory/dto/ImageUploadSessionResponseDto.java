@@ -0,0 +1,35 @@
+package com.energyfactory.energy_factory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 이미지 직접 업로드 세션 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadSessionResponseDto {
+
+    @Schema(description = "업로드 세션 ID (업로드 완료 요청에 사용)", example = "0cdba16d-b559-4b9b-9003-44805a9ce30c")
+    private String sessionId;
+
+    @Schema(description = "S3 업로드 URL (서명 포함)", example = "https://bucket.s3.ap-northeast-2.amazonaws.com/products/uuid.jpg?X-Amz-Signature=...")
+    private String uploadUrl;
+
+    @Schema(description = "업로드 HTTP 메서드", example = "PUT")
+    private String method;
+
+    @Schema(description = "업로드 요청에 그대로 포함해야 하는 헤더", example = "{\"Content-Type\": \"image/jpeg\"}")
+    private Map<String, String> headers;
+
+    @Schema(description = "업로드 URL 만료 시각", example = "2025-01-01T00:05:00Z")
+    private Instant expiresAt;
+}
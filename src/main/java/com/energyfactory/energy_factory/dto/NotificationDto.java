@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * SSE 알림 DTO
@@ -18,7 +19,8 @@ import java.time.LocalDateTime;
 public class NotificationDto {
 
     /**
-     * 알림 타입 (ORDER_CONFIRMED, ORDER_SHIPPED, ORDER_DELIVERED, ORDER_CANCELLED)
+     * 알림 타입 (ORDER_CONFIRMED, ORDER_SHIPPED, ORDER_DELIVERED, ORDER_CANCELLED,
+     * 여러 주문을 묶은 알림은 ORDER_STATUS_CHANGED)
      */
     private String type;
 
@@ -42,6 +44,11 @@ public class NotificationDto {
      */
     private Long orderNumber;
 
+    /**
+     * 묶인 주문별 상태 변경 (ORDER_STATUS_CHANGED 알림인 경우)
+     */
+    private List<OrderStatusItem> orders;
+
     /**
      * 알림 발송 시간
      */
@@ -61,4 +68,36 @@ public class NotificationDto {
                 .timestamp(LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * 여러 주문의 상태 변경을 묶은 알림 생성 헬퍼 메서드
+     */
+    public static NotificationDto ofOrderStatuses(String title, String message, List<OrderStatusItem> orders) {
+        return NotificationDto.builder()
+                .type("ORDER_STATUS_CHANGED")
+                .title(title)
+                .message(message)
+                .orders(orders)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 묶인 알림의 주문 하나
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderStatusItem {
+
+        /**
+         * 주문별 알림 타입 (ORDER_CONFIRMED 등, 단건 알림의 type과 같음)
+         */
+        private String type;
+
+        private Long orderId;
+
+        private Long orderNumber;
+    }
 }
@@ -0,0 +1,27 @@
+package com.energyfactory.energy_factory.dto;
+
+import com.energyfactory.energy_factory.utils.enums.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문 상태 일괄 변경 요청 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkStatusUpdateRequestDto {
+
+    @NotEmpty(message = "주문 ID 목록은 필수입니다")
+    @Size(max = 10000, message = "한 번에 최대 10000건까지 변경할 수 있습니다")
+    private List<@NotNull Long> orderIds;
+
+    @NotNull(message = "주문 상태는 필수입니다")
+    private OrderStatus status;
+}
@@ -0,0 +1,37 @@
+package com.energyfactory.energy_factory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "주문 상태 일괄 변경 응답 DTO")
+public class OrderBulkStatusUpdateResponseDto {
+
+    @Schema(description = "변경된 주문 수", example = "480")
+    private int updatedCount;
+
+    @Schema(description = "이미 요청한 상태여서 변경하지 않은 주문 수", example = "15")
+    private int unchangedCount;
+
+    @Schema(description = "존재하지 않는 주문 수", example = "5")
+    private int notFoundCount;
+
+    @Schema(description = "주문별 결과 (요청 순서, 중복 ID는 한 번만)")
+    private List<Result> results;
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND
+    }
+
+    @Schema(description = "주문별 결과")
+    public record Result(
+            @Schema(description = "주문 ID", example = "1024") Long orderId,
+            @Schema(description = "처리 결과", example = "UPDATED") Outcome outcome) {
+    }
+}
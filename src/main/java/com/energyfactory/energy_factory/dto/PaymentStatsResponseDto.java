@@ -0,0 +1,26 @@
+package com.energyfactory.energy_factory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@Schema(description = "결제 통계 응답 DTO")
+public class PaymentStatsResponseDto {
+
+    @Schema(description = "결제일 (일별 통계)", example = "2025-11-01")
+    private LocalDate date;
+
+    @Schema(description = "결제 수단 (수단별 통계)", example = "CREDIT_CARD")
+    private String paymentMethod;
+
+    @Schema(description = "결제 건수", example = "42")
+    private Long paymentCount;
+
+    @Schema(description = "결제 금액 합계", example = "1250000.00")
+    private BigDecimal totalAmount;
+}
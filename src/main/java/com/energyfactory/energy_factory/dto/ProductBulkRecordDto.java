@@ -0,0 +1,137 @@
+package com.energyfactory.energy_factory.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 일괄 가져오기/내보내기 레코드 DTO (상품 하나 + 옵션, 영양성분, 태그)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = "상품 일괄 가져오기/내보내기 레코드")
+public class ProductBulkRecordDto {
+
+    @Schema(description = "상품 ID (내보내기 전용, 값이 있으면 가져오기에서 해당 레코드 거부)", example = "1")
+    private Long id;
+
+    @Schema(description = "상품명", example = "한우 등심 500g")
+    private String name;
+
+    @Schema(description = "카테고리", example = "고기")
+    private String category;
+
+    @Schema(description = "가격", example = "29900.00")
+    private BigDecimal price;
+
+    @Schema(description = "브랜드명", example = "프리미엄 한우")
+    private String brand;
+
+    @Schema(description = "할인 전 원가", example = "35000.00")
+    private BigDecimal originalPrice;
+
+    @Schema(description = "할인율 (%)", example = "15")
+    private Integer discount;
+
+    @Schema(description = "중량", example = "500.00")
+    private BigDecimal weight;
+
+    @Schema(description = "중량 단위", example = "g")
+    private String weightUnit;
+
+    @Schema(description = "판매 상태 (기본: AVAILABLE)", example = "AVAILABLE")
+    private String status;
+
+    @Schema(description = "이미지 URL")
+    private String imageUrl;
+
+    @Schema(description = "상세 설명")
+    private String description;
+
+    @Schema(description = "보관 방법", example = "냉장")
+    private String storage;
+
+    @Schema(description = "배송비 (기본: 0)", example = "3000")
+    private BigDecimal shippingFee;
+
+    @Schema(description = "무료배송 기준 금액", example = "50000")
+    private BigDecimal freeShippingThreshold;
+
+    @Schema(description = "예상 배송 기간", example = "1-2일")
+    private String estimatedDeliveryDays;
+
+    @Schema(description = "근육 증가 점수 (0.0-5.0)", example = "4.5")
+    private BigDecimal scoreMuscleGain;
+
+    @Schema(description = "체중 감량 점수 (0.0-5.0)", example = "3.0")
+    private BigDecimal scoreWeightLoss;
+
+    @Schema(description = "에너지 향상 점수 (0.0-5.0)", example = "3.5")
+    private BigDecimal scoreEnergy;
+
+    @Schema(description = "회복 촉진 점수 (0.0-5.0)", example = "4.0")
+    private BigDecimal scoreRecovery;
+
+    @Schema(description = "전반적 건강 점수 (0.0-5.0)", example = "4.0")
+    private BigDecimal scoreHealth;
+
+    @Schema(description = "태그 목록", example = "[\"고단백\", \"다이어트\"]")
+    private List<String> tags;
+
+    @Schema(description = "옵션 목록")
+    private List<Variant> variants;
+
+    @Schema(description = "영양성분 목록")
+    private List<Nutrient> nutrients;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "상품 옵션")
+    public static class Variant {
+        @Schema(description = "옵션명", example = "500g")
+        private String name;
+
+        @Schema(description = "가격", example = "29900.00")
+        private BigDecimal price;
+
+        @Schema(description = "재고 (기본: 0)", example = "100")
+        private Long stock;
+
+        @Schema(description = "기본 옵션 여부", example = "true")
+        private Boolean isDefault;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "영양성분")
+    public static class Nutrient {
+        @Schema(description = "영양소 이름", example = "단백질")
+        private String name;
+
+        @Schema(description = "값", example = "25.5")
+        private String value;
+
+        @Schema(description = "단위", example = "g")
+        private String unit;
+
+        @Schema(description = "일일 권장 섭취량 대비 %", example = "50")
+        private Integer dailyPercentage;
+    }
+}
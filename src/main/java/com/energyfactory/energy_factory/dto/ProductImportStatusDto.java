@@ -0,0 +1,45 @@
+package com.energyfactory.energy_factory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 가져오기 작업 상태 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 가져오기 작업 상태")
+public class ProductImportStatusDto {
+
+    @Schema(description = "작업 ID", example = "0cdba16d-b559-4b9b-9003-44805a9ce30c")
+    private String jobId;
+
+    @Schema(description = "작업 상태 (QUEUED, RUNNING, COMPLETED, FAILED)", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "읽은 레코드 수", example = "1500")
+    private long processed;
+
+    @Schema(description = "저장된 상품 수", example = "1490")
+    private long imported;
+
+    @Schema(description = "실패한 레코드 수", example = "10")
+    private long failed;
+
+    @Schema(description = "오류 내용 (최대 100건)", example = "[\"레코드 12: 상품명은 필수입니다\"]")
+    private List<String> errors;
+
+    @Schema(description = "시작 시각")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시각")
+    private LocalDateTime finishedAt;
+}
@@ -36,6 +36,9 @@ public class ProductListResponseDto {
         @Schema(description = "이미지 URL", example = "https://example.com/image.jpg")
         private String imageUrl;
 
+        @Schema(description = "목록용 썸네일 URL (썸네일이 없는 이미지는 원본 URL)", example = "https://example.com/products/uuid/thumb.jpg")
+        private String thumbnailUrl;
+
         @Schema(description = "브랜드명", example = "프리미엄 한우")
         private String brand;
 
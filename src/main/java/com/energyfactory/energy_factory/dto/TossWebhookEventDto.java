@@ -0,0 +1,21 @@
+package com.energyfactory.energy_factory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토스페이먼츠 웹훅 이벤트 DTO
+ * 결제 상태 변경(PAYMENT_STATUS_CHANGED) 이벤트의 data는 결제 객체와 동일한 형식
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TossWebhookEventDto {
+
+    private String eventType;
+    private String createdAt;
+    private TossPaymentResponseDto data;
+}
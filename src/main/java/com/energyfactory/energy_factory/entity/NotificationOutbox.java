@@ -0,0 +1,52 @@
+package com.energyfactory.energy_factory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발신함 (transactional outbox, append-only)
+ * 주문 상태 변경과 같은 트랜잭션에서 저장하고, 커밋 후 발송기가 알림으로 전달
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_processed_at", columnList = "processed_at, id"),
+        @Index(name = "idx_notification_outbox_user_id", columnList = "user_id, processed_at, id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", columnDefinition = "BIGINT NOT NULL COMMENT '발신함 ID'")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "BIGINT NOT NULL COMMENT '수신 사용자 ID'")
+    private Long userId;
+
+    @Column(name = "order_id", nullable = false, columnDefinition = "BIGINT NOT NULL COMMENT '주문 ID'")
+    private Long orderId;
+
+    @Column(name = "order_number", nullable = false, columnDefinition = "BIGINT NOT NULL COMMENT '주문 번호'")
+    private Long orderNumber;
+
+    @Column(name = "status", nullable = false, columnDefinition = "VARCHAR(50) NOT NULL COMMENT '변경된 주문 상태'")
+    private String status;
+
+    @Column(name = "processed_at", columnDefinition = "TIMESTAMP NULL COMMENT '발송 완료 시각'")
+    private LocalDateTime processedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP NOT NULL COMMENT '저장 시각'")
+    private LocalDateTime createdAt;
+}
@@ -17,7 +17,9 @@ import java.util.UUID;
 
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_created_at", columnList = "created_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -81,6 +83,16 @@ public class Payment {
         }
     }
 
+    /**
+     * PG 승인 결과 반영 (승인 응답 기준 결제 수단, 승인 금액)
+     */
+    public void applyApproval(PaymentMethod paymentMethod, BigDecimal approvedAmount) {
+        this.paymentMethod = paymentMethod;
+        if (approvedAmount != null) {
+            this.amount = approvedAmount;
+        }
+    }
+
     /**
      * 결제 실패 처리
      */
@@ -120,4 +132,18 @@ public class Payment {
                 .amount(amount)
                 .build();
     }
+
+    /**
+     * 토스페이먼츠 결제 준비 (승인 API 호출 전 PENDING 상태로 기록)
+     * 결제 수단은 승인 응답을 받은 뒤 applyApproval로 확정
+     */
+    public static Payment prepareTossPayment(Order order, String paymentKey, BigDecimal amount) {
+        return Payment.builder()
+                .order(order)
+                .paymentMethod(PaymentMethod.CREDIT_CARD)
+                .paymentStatus(PaymentStatus.PENDING)
+                .amount(amount)
+                .transactionId(paymentKey)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.energyfactory.energy_factory.entity;
+
+import com.energyfactory.energy_factory.utils.enums.PaymentMethod;
+import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 결제 일별 집계 (롤업)
+ * 결제일(생성일) x 결제 수단 x 결제 상태별 건수와 금액 합계를 결제 상태 전이 시점에 증분 갱신
+ */
+@Entity
+@Table(name = "payment_daily_summaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payment_daily_summaries", columnNames = {"summary_date", "payment_method", "payment_status"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentDailySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", columnDefinition = "BIGINT NOT NULL COMMENT '집계 ID'")
+    private Long id;
+
+    @Column(name = "summary_date", nullable = false, columnDefinition = "DATE NOT NULL COMMENT '결제일'")
+    private LocalDate summaryDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method", nullable = false, columnDefinition = "VARCHAR(50) NOT NULL COMMENT '결제 수단'")
+    private PaymentMethod paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_status", nullable = false, columnDefinition = "VARCHAR(50) NOT NULL COMMENT '결제 상태'")
+    private PaymentStatus paymentStatus;
+
+    @Column(name = "payment_count", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0 COMMENT '결제 건수'")
+    private Long paymentCount;
+
+    @Column(name = "total_amount", nullable = false, precision = 15, scale = 2, columnDefinition = "DECIMAL(15,2) NOT NULL DEFAULT 0 COMMENT '결제 금액 합계'")
+    private BigDecimal totalAmount;
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP COMMENT '수정일'")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,70 @@
+package com.energyfactory.energy_factory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토스페이먼츠 웹훅 수신함 (append-only)
+ * 수신 즉시 원문을 저장하고, 결제/주문 상태 반영은 비동기 처리기가 수행
+ * 처리 실패 시 next_attempt_at까지 대기 후 재시도하며, 최대 재시도를 넘기면 failed_at을 기록하고 보관 (수동 확인 대상)
+ */
+@Entity
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "payment_webhook_events", indexes = {
+        @Index(name = "idx_payment_webhook_events_processed_at", columnList = "processed_at, id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentWebhookEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", columnDefinition = "BIGINT NOT NULL COMMENT '웹훅 이벤트 ID'")
+    private Long id;
+
+    @Column(name = "event_id", unique = true, nullable = false, columnDefinition = "VARCHAR(255) NOT NULL COMMENT '중복 제거용 이벤트 식별자'")
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, columnDefinition = "VARCHAR(50) NOT NULL COMMENT '이벤트 타입'")
+    private String eventType;
+
+    @Column(name = "payment_key", columnDefinition = "VARCHAR(255) COMMENT '토스페이먼츠 결제 키'")
+    private String paymentKey;
+
+    @Column(name = "order_id", columnDefinition = "VARCHAR(64) COMMENT '토스페이먼츠 주문 ID(주문번호)'")
+    private String orderId;
+
+    @Column(name = "status", columnDefinition = "VARCHAR(50) COMMENT '통지된 결제 상태'")
+    private String status;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT NOT NULL COMMENT '웹훅 원문'")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0 COMMENT '처리 시도 횟수'")
+    private int attempts;
+
+    @Column(name = "next_attempt_at", columnDefinition = "TIMESTAMP NULL COMMENT '다음 처리 시도 가능 시각'")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "VARCHAR(500) COMMENT '마지막 처리 실패 사유'")
+    private String lastError;
+
+    @Column(name = "processed_at", columnDefinition = "TIMESTAMP NULL COMMENT '처리 완료 시각'")
+    private LocalDateTime processedAt;
+
+    @Column(name = "failed_at", columnDefinition = "TIMESTAMP NULL COMMENT '최대 재시도 초과로 처리 중단된 시각'")
+    private LocalDateTime failedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false, columnDefinition = "TIMESTAMP NOT NULL COMMENT '수신 시각'")
+    private LocalDateTime createdAt;
+}
@@ -4,6 +4,7 @@ import com.energyfactory.energy_factory.controller.UserController;
 import com.energyfactory.energy_factory.dto.ApiResponse;
 import com.energyfactory.energy_factory.utils.enums.ResultCode;
 import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -27,6 +28,15 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.of(e.getResultCode(), null));
     }
 
+    @ExceptionHandler(PaymentGatewayException.class)
+    public ResponseEntity<ApiResponse<Void>> paymentGatewayException(PaymentGatewayException e) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(e.getResultCode().getStatus());
+        if (e.getRetryAfter() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, e.getRetryAfter().toSeconds())));
+        }
+        return response.body(ApiResponse.of(e.getResultCode(), null));
+    }
+
     @ExceptionHandler(JwtException.class)
     public ResponseEntity<ApiResponse<Void>> jwtException(JwtException e) {
         return ResponseEntity
@@ -0,0 +1,67 @@
+package com.energyfactory.energy_factory.exception;
+
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 결제 게이트웨이(토스페이먼츠) 호출 예외
+ * 호출 결과(outcome)에 따라 결제 상태 전이를 다르게 처리할 수 있도록 구분
+ */
+@Getter
+public class PaymentGatewayException extends BusinessException {
+
+    private final Outcome outcome;
+
+    /**
+     * 토스페이먼츠 에러 코드 (응답 본문에 포함된 경우)
+     */
+    private final String gatewayCode;
+
+    /**
+     * 재시도 가능 시점 (서킷 OPEN, 벌크헤드 포화 등 요청이 전송되지 않은 경우)
+     */
+    private Duration retryAfter;
+
+    public PaymentGatewayException(ResultCode resultCode, Outcome outcome, String gatewayCode) {
+        super(resultCode);
+        this.outcome = outcome;
+        this.gatewayCode = gatewayCode;
+    }
+
+    public PaymentGatewayException(ResultCode resultCode, Outcome outcome, Throwable cause) {
+        this(resultCode, outcome, (String) null);
+        initCause(cause);
+    }
+
+    /**
+     * 로컬 보호 장치에 의해 전송되지 않은 요청 예외 생성
+     */
+    public static PaymentGatewayException notSent(ResultCode resultCode, Duration retryAfter) {
+        PaymentGatewayException exception = new PaymentGatewayException(resultCode, Outcome.NOT_SENT, (String) null);
+        exception.retryAfter = retryAfter;
+        return exception;
+    }
+
+    public boolean isOutcomeUnknown() {
+        return outcome == Outcome.UNKNOWN;
+    }
+
+    public enum Outcome {
+        /**
+         * 게이트웨이가 요청을 거절함 (4xx) - 처리되지 않은 것이 확정된 상태
+         */
+        REJECTED,
+
+        /**
+         * 타임아웃, 5xx 등으로 게이트웨이 측 처리 결과를 알 수 없는 상태
+         */
+        UNKNOWN,
+
+        /**
+         * 벌크헤드, 서킷 브레이커 등 로컬 보호 장치에 의해 요청이 전송되지 않은 상태
+         */
+        NOT_SENT
+    }
+}
@@ -115,11 +115,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         // Access Token 생성 (userId 포함, 10분)
         String accessToken = jwtUtil.createAccessToken(userId, username, role, 10 * 60 * 1000L);
 
-        // Refresh Token 생성 (userId 포함, 7일)
-        String refreshToken = jwtUtil.createRefreshToken(userId, username, refreshTokenExpiration * 1000L);
-
-        // Refresh Token을 Redis에 저장
-        refreshTokenService.saveRefreshToken(username, refreshToken);
+        // Refresh Token 생성 및 Redis 저장 (기기별 토큰 패밀리, 7일)
+        String refreshToken = refreshTokenService.issueRefreshToken(userId, username);
 
         // HttpOnly 쿠키에 토큰 저장
         addTokenCookie(response, "accessToken", accessToken, 10 * 60); // 10분
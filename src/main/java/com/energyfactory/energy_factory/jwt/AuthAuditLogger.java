@@ -0,0 +1,106 @@
+package com.energyfactory.energy_factory.jwt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인증 경로 감사/추적 로그
+ *
+ * - 전용 로거(auth.audit)로 key=value 구조화 이벤트 기록 (logback-spring.xml의 비동기 어펜더로 출력)
+ * - 요청마다 발생하는 토큰 인증 성공 이벤트는 샘플링, 로그인/실패/거절 이벤트는 모두 기록
+ * - 이메일 등 민감 정보는 마스킹
+ * - 로그 레벨은 /actuator/loggers/auth.audit 으로 실행 중 변경 가능 (DEBUG: 샘플링 없이 전체 기록)
+ */
+@Component
+public class AuthAuditLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("auth.audit");
+
+    /**
+     * 토큰 인증 성공 이벤트 샘플링 비율 (0.0 ~ 1.0)
+     */
+    private final double sampleRate;
+
+    public AuthAuditLogger(@Value("${app.auth-log.sample-rate:0.01}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * 토큰 인증 성공 (요청마다 발생 - 샘플링)
+     */
+    public void tokenAuthenticated(Long userId, String tokenSource) {
+        if (log.isDebugEnabled()) {
+            log.atDebug().addKeyValue("event", "token_authenticated")
+                    .addKeyValue("userId", userId)
+                    .addKeyValue("source", tokenSource)
+                    .log("token authenticated");
+            return;
+        }
+        if (log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.atInfo().addKeyValue("event", "token_authenticated")
+                    .addKeyValue("userId", userId)
+                    .addKeyValue("source", tokenSource)
+                    .addKeyValue("sampled", sampleRate)
+                    .log("token authenticated");
+        }
+    }
+
+    /**
+     * 토큰 인증 거절 (만료, 폐기, 타입 불일치, 서명 오류 등)
+     */
+    public void tokenRejected(String reason, Long userId) {
+        log.atInfo().addKeyValue("event", "token_rejected")
+                .addKeyValue("reason", reason)
+                .addKeyValue("userId", userId)
+                .log("token rejected");
+    }
+
+    /**
+     * 리프레시 토큰 재사용 감지 (탈취 의심 - 패밀리 전체 폐기)
+     */
+    public void refreshTokenReused(Long userId, String familyId) {
+        log.atWarn().addKeyValue("event", "refresh_token_reused")
+                .addKeyValue("userId", userId)
+                .addKeyValue("familyId", familyId)
+                .log("refresh token reuse detected");
+    }
+
+    /**
+     * 로그인 성공
+     */
+    public void loginSucceeded(Long userId, String email) {
+        log.atInfo().addKeyValue("event", "login_success")
+                .addKeyValue("userId", userId)
+                .addKeyValue("email", maskEmail(email))
+                .log("login succeeded");
+    }
+
+    /**
+     * 로그인 실패
+     */
+    public void loginFailed(String email, String reason) {
+        log.atWarn().addKeyValue("event", "login_failure")
+                .addKeyValue("email", maskEmail(email))
+                .addKeyValue("reason", reason)
+                .log("login failed");
+    }
+
+    /**
+     * 이메일 마스킹 (앞 2자리와 도메인만 노출: ab***@example.com)
+     */
+    static String maskEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return null;
+        }
+        int at = email.indexOf('@');
+        if (at < 0) {
+            return "***";
+        }
+        String local = email.substring(0, at);
+        return local.substring(0, Math.min(2, local.length())) + "***" + email.substring(at);
+    }
+}
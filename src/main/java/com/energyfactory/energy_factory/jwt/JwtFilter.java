@@ -1,29 +1,40 @@
 package com.energyfactory.energy_factory.jwt;
 
 import com.energyfactory.energy_factory.dto.CustomUserDetails;
-import com.energyfactory.energy_factory.entity.User;
-import com.energyfactory.energy_factory.repository.UserRepository;
-import com.energyfactory.energy_factory.utils.enums.Role;
+import com.energyfactory.energy_factory.exception.BusinessException;
+import com.energyfactory.energy_factory.service.TokenRevocationService;
+import com.energyfactory.energy_factory.service.UserPrincipalCache;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.Optional;
 
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
-
-    public JwtFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthAuditLogger authAuditLogger;
+
+    /**
+     * true: 서명된 클레임만으로 인증 (DB 조회 없음), false: 사용자 캐시(미스 시 DB)에서 사용자 조회
+     */
+    private final boolean statelessAuth;
+
+    public JwtFilter(JwtUtil jwtUtil, UserPrincipalCache userPrincipalCache,
+                     TokenRevocationService tokenRevocationService, AuthAuditLogger authAuditLogger,
+                     boolean statelessAuth) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+        this.userPrincipalCache = userPrincipalCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authAuditLogger = authAuditLogger;
+        this.statelessAuth = statelessAuth;
     }
 
     @Override
@@ -31,11 +42,11 @@ public class JwtFilter extends OncePerRequestFilter {
 
         // 1. Authorization 헤더에서 토큰 추출 시도
         String token = null;
+        String tokenSource = "header";
         String authorization = request.getHeader("Authorization");
 
         if (authorization != null && authorization.startsWith("Bearer ")) {
             token = authorization.substring(7); // "Bearer " 제거
-            System.out.println("Token from header");
         }
 
         // 2. 헤더에 없으면 쿠키에서 토큰 추출 시도
@@ -45,7 +56,7 @@ public class JwtFilter extends OncePerRequestFilter {
                 for (Cookie cookie : cookies) {
                     if ("accessToken".equals(cookie.getName())) {
                         token = cookie.getValue();
-                        System.out.println("Token from cookie");
+                        tokenSource = "cookie";
                         break;
                     }
                 }
@@ -54,47 +65,68 @@ public class JwtFilter extends OncePerRequestFilter {
 
         // 3. 토큰이 없으면 필터 체인 계속 진행
         if (token == null) {
-            System.out.println("token null");
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
-            // 4. 토큰 소멸 시간 검증
-            if (jwtUtil.isExpired(token)) {
-                System.out.println("token expired");
+            // 4. 토큰 서명/만료 검증 및 클레임 추출 (요청당 한 번만 파싱)
+            JwtPrincipal principal;
+            try {
+                principal = jwtUtil.parse(token);
+            } catch (ExpiredJwtException e) {
+                authAuditLogger.tokenRejected("expired", null);
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // 5. 토큰에서 userId 획득
-            Long userId = jwtUtil.getUserId(token);
-
-            // 6. DB에서 실제 User 엔티티 조회 (PK 조회로 성능 향상)
-            Optional<User> userOptional = userRepository.findById(userId);
-            if (userOptional.isEmpty()) {
-                System.out.println("User not found: " + userId);
+            // 리프레시 토큰으로는 API 인증 불가
+            if (!principal.isAccessToken()) {
+                authAuditLogger.tokenRejected("token_type", principal.userId());
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            User user = userOptional.get();
+            // 비밀번호 변경/회원 탈퇴 등으로 폐기된 토큰 (서버 메모리 조회)
+            if (tokenRevocationService.isRevoked(principal)) {
+                authAuditLogger.tokenRejected("revoked", principal.userId());
+                filterChain.doFilter(request, response);
+                return;
+            }
 
-            // 7. UserDetails에 회원 정보 객체 담기
-            CustomUserDetails customUserDetails = new CustomUserDetails(user);
+            // 5. 토큰에서 userId 획득
+            Long userId = principal.userId();
+
+            // 6. 회원 정보 객체 생성 (기본: 서명된 클레임으로 생성, 권한 클레임이 없는 토큰은 사용자 캐시 조회)
+            CustomUserDetails customUserDetails;
+            if (statelessAuth && principal.role() != null) {
+                customUserDetails = CustomUserDetails.fromClaims(principal);
+            } else {
+                UserPrincipalCache.CachedUser cachedUser;
+                try {
+                    cachedUser = userPrincipalCache.getUser(userId);
+                } catch (BusinessException e) {
+                    authAuditLogger.tokenRejected("user_not_found", userId);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+                customUserDetails = CustomUserDetails.of(cachedUser.id(), cachedUser.email(), cachedUser.role());
+            }
 
-            // 8. 스프링 시큐리티 인증 토큰 생성
-            Authentication authToken = new UsernamePasswordAuthenticationToken(
+            // 7. 스프링 시큐리티 인증 토큰 생성 (검증된 클레임은 details와 요청 속성으로 전달)
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                 customUserDetails, null, customUserDetails.getAuthorities()
             );
+            authToken.setDetails(principal);
+            request.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, principal);
             
-            // 9. 세션에 사용자 등록
+            // 8. 세션에 사용자 등록
             SecurityContextHolder.getContext().setAuthentication(authToken);
-            System.out.println("authentication success: userId=" + userId + ", email=" + user.getEmail());
+            authAuditLogger.tokenAuthenticated(userId, tokenSource);
 
         } catch (Exception e) {
-            System.out.println("JWT processing error: " + e.getMessage());
             // 토큰이 유효하지 않은 경우 인증 없이 진행
+            authAuditLogger.tokenRejected(e.getClass().getSimpleName(), null);
         }
 
         filterChain.doFilter(request, response);
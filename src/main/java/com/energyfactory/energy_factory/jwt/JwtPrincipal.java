@@ -0,0 +1,36 @@
+package com.energyfactory.energy_factory.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임
+ * 토큰은 요청당 한 번만 파싱하고, 이후에는 이 객체를 요청 속성으로 전달해 재사용
+ *
+ * @param userId 사용자 ID
+ * @param username 사용자명 (이메일)
+ * @param role 권한 (리프레시 토큰에는 없음)
+ * @param tokenType 토큰 타입 (access / refresh)
+ * @param familyId 리프레시 토큰 패밀리 ID (기기별 로그인 세션, 액세스 토큰에는 없음)
+ * @param tokenId 토큰 ID (jti)
+ * @param issuedAt 발급 시각 (토큰 폐기 여부 판단에 사용)
+ * @param expiration 만료 시각
+ */
+public record JwtPrincipal(Long userId, String username, String role, String tokenType,
+                           String familyId, String tokenId, Instant issuedAt, Instant expiration) {
+
+    /**
+     * 검증된 클레임을 담는 요청 속성 이름
+     */
+    public static final String REQUEST_ATTRIBUTE = JwtPrincipal.class.getName();
+
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    public boolean isAccessToken() {
+        return ACCESS_TOKEN.equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH_TOKEN.equals(tokenType);
+    }
+}
@@ -1,5 +1,7 @@
 package com.energyfactory.energy_factory.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -7,66 +9,97 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 
 @Component
 public class JwtUtil {
-    private SecretKey secretKey;
 
-    public JwtUtil(@Value("${jwt.secret}")String secret) {
-
-        secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
-    }
-
-    public String getUsername(String token) {
+    /**
+     * 밀리초 단위 발급 시각 클레임 (표준 iat는 초 단위라 같은 초에 발급된 토큰을 구분할 수 없음)
+     */
+    private static final String ISSUED_AT_MILLIS = "iatMs";
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
-    }
-
-    public Long getUserId(String token) {
-
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("userId", Long.class);
-    }
+    private final SecretKey secretKey;
 
-    public String getRole(String token) {
+    /**
+     * 서명 검증 파서 (불변 객체로 스레드 안전 - 요청마다 새로 만들지 않고 재사용)
+     */
+    private final JwtParser jwtParser;
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
-    }
+    public JwtUtil(@Value("${jwt.secret}")String secret) {
 
-    public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
-    public String getTokenType(String token) {
-        try {
-            String tokenType = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("tokenType", String.class);
-            return tokenType != null ? tokenType : "access";
-        } catch (Exception e) {
-            return null;
-        }
+    /**
+     * 토큰 서명과 만료 시간을 한 번에 검증하고 클레임을 추출
+     *
+     * @param token JWT
+     * @return 검증된 클레임
+     * @throws io.jsonwebtoken.ExpiredJwtException 만료된 토큰
+     * @throws io.jsonwebtoken.JwtException 서명 불일치 등 유효하지 않은 토큰
+     */
+    public JwtPrincipal parse(String token) {
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        String tokenType = claims.get("tokenType", String.class);
+
+        return new JwtPrincipal(
+                claims.get("userId", Long.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                tokenType != null ? tokenType : JwtPrincipal.ACCESS_TOKEN,
+                claims.get("familyId", String.class),
+                claims.getId(),
+                issuedAt(claims),
+                claims.getExpiration().toInstant()
+        );
     }
 
-
     public String createAccessToken(Long userId, String username, String role, Long expiredMs) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .claim("userId", userId)
                 .claim("username", username)
                 .claim("role", role)
-                .claim("tokenType", "access")
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiredMs))
+                .claim("tokenType", JwtPrincipal.ACCESS_TOKEN)
+                .claim(ISSUED_AT_MILLIS, now)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiredMs))
                 .signWith(secretKey)
                 .compact();
     }
 
-    public String createRefreshToken(Long userId, String username, Long expiredMs) {
+    /**
+     * 리프레시 토큰 생성
+     *
+     * @param familyId 토큰 패밀리 ID (기기별 로그인 세션, 회전해도 유지)
+     * @param tokenId 토큰 ID (회전할 때마다 새로 발급)
+     */
+    public String createRefreshToken(Long userId, String username, String familyId, String tokenId, Long expiredMs) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .id(tokenId)
                 .claim("userId", userId)
                 .claim("username", username)
-                .claim("tokenType", "refresh")
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiredMs))
+                .claim("familyId", familyId)
+                .claim("tokenType", JwtPrincipal.REFRESH_TOKEN)
+                .claim(ISSUED_AT_MILLIS, now)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiredMs))
                 .signWith(secretKey)
                 .compact();
     }
+
+    /**
+     * 발급 시각 (밀리초 클레임이 없으면 초 단위 iat 사용)
+     */
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        if (issuedAtMillis != null) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+    }
 }
@@ -4,6 +4,7 @@ import com.energyfactory.energy_factory.dto.ApiResponse;
 import com.energyfactory.energy_factory.dto.CustomUserDetails;
 import com.energyfactory.energy_factory.dto.LoginRequestDto;
 import com.energyfactory.energy_factory.dto.LoginResponseDto;
+import com.energyfactory.energy_factory.exception.BusinessException;
 import com.energyfactory.energy_factory.service.RefreshTokenService;
 import com.energyfactory.energy_factory.utils.enums.ResultCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,7 +12,10 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -22,17 +26,21 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Iterator;
 
+@Slf4j
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final AuthAuditLogger authAuditLogger;
     private final boolean cookieSecure;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public LoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil, RefreshTokenService refreshTokenService, boolean cookieSecure) {
+    public LoginFilter(AuthenticationManager authenticationManager, JwtUtil jwtUtil, RefreshTokenService refreshTokenService,
+                       AuthAuditLogger authAuditLogger, boolean cookieSecure) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
         this.refreshTokenService = refreshTokenService;
+        this.authAuditLogger = authAuditLogger;
         this.cookieSecure = cookieSecure;
         setFilterProcessesUrl("/api/auth/login");
     }
@@ -40,15 +48,12 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
 
+        String email = null;
         try {
-            System.out.println("=== Login Attempt Started ===");
-
             // JSON만 처리 (form-data 지원 제거)
             String contentType = request.getContentType();
-            System.out.println("Content-Type: " + contentType);
 
             if (contentType == null || !contentType.contains("application/json")) {
-                System.out.println("ERROR: Invalid Content-Type");
                 throw new AuthenticationException("Content-Type must be application/json") {
                     @Override
                     public String getMessage() {
@@ -59,15 +64,11 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
             // JSON 요청 파싱
             LoginRequestDto loginRequest = objectMapper.readValue(request.getInputStream(), LoginRequestDto.class);
-            String email = loginRequest.getEmail();
+            email = loginRequest.getEmail();
             String password = loginRequest.getPassword();
 
-            System.out.println("Email: " + email);
-            System.out.println("Password length: " + (password != null ? password.length() : 0));
-
             // 이메일과 비밀번호 검증
             if (email == null || email.trim().isEmpty()) {
-                System.out.println("ERROR: Email is empty");
                 throw new AuthenticationException("Email is required") {
                     @Override
                     public String getMessage() {
@@ -77,7 +78,6 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
             }
 
             if (password == null || password.trim().isEmpty()) {
-                System.out.println("ERROR: Password is empty");
                 throw new AuthenticationException("Password is required") {
                     @Override
                     public String getMessage() {
@@ -89,16 +89,11 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
             // Spring Security에서 username으로 처리하지만 실제로는 email
             UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(email, password, null);
 
-            System.out.println("Attempting authentication with AuthenticationManager...");
-
             // AuthenticationManager로 인증 처리
-            Authentication result = authenticationManager.authenticate(authToken);
-
-            System.out.println("Authentication successful: " + result.isAuthenticated());
-            return result;
+            return authenticationManager.authenticate(authToken);
 
         } catch (IOException e) {
-            System.out.println("ERROR: Failed to parse request - " + e.getMessage());
+            authAuditLogger.loginFailed(null, "malformed_request");
             throw new AuthenticationException("Failed to parse authentication request") {
                 @Override
                 public String getMessage() {
@@ -106,8 +101,12 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
                 }
             };
         } catch (AuthenticationException e) {
-            System.out.println("ERROR: Authentication failed - " + e.getMessage());
+            authAuditLogger.loginFailed(email, e.getClass().getSimpleName());
             throw e;
+        } catch (BusinessException e) {
+            // 비밀번호 해시 스레드 풀 포화 (PASSWORD_HASHING_BUSY) - 실패 응답에서 503으로 변환
+            authAuditLogger.loginFailed(email, e.getResultCode().name());
+            throw new AuthenticationServiceException(e.getMessage(), e);
         }
     }
 
@@ -115,32 +114,20 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authentication) {
         try {
-            System.out.println("=== Login Success - Generating Tokens ===");
-
             CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
             String username = customUserDetails.getUsername();
             String role = authentication.getAuthorities().iterator().next().getAuthority();
             Long userId = customUserDetails.getUser().getId();
 
-            System.out.println("Username: " + username);
-            System.out.println("User ID: " + userId);
-            System.out.println("Role: " + role);
-
             // 토큰 생성 (userId 포함)
             String accessToken = jwtUtil.createAccessToken(userId, username, role, 30 * 60 * 1000L);
-            String refreshToken = jwtUtil.createRefreshToken(userId, username, 7 * 24 * 60 * 60 * 1000L);
-
-            System.out.println("Access Token generated: " + (accessToken != null));
-            System.out.println("Refresh Token generated: " + (refreshToken != null));
+            // 로그인(기기)마다 새 리프레시 토큰 패밀리 생성 (Redis 저장 포함)
+            String refreshToken = refreshTokenService.issueRefreshToken(userId, username);
 
-            // Redis에 Refresh Token 저장
-            refreshTokenService.saveRefreshToken(username, refreshToken);
-            System.out.println("Refresh Token saved to Redis");
 
             // HttpOnly 쿠키에 토큰 저장 (보안 강화)
             addTokenCookie(response, "accessToken", accessToken, 30 * 60); // 30분
             addTokenCookie(response, "refreshToken", refreshToken, 7 * 24 * 60 * 60); // 7일
-            System.out.println("Tokens added to cookies");
 
             // 응답 바디에도 토큰 포함 (개발 편의성 - Swagger 등에서 확인 가능)
             LoginResponseDto loginResponse = LoginResponseDto.builder()
@@ -152,11 +139,10 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
                     .build();
 
             writeJsonResponse(response, ApiResponse.of(ResultCode.LOGIN_SUCCESS, loginResponse));
-            System.out.println("Login response sent successfully");
+            authAuditLogger.loginSucceeded(userId, username);
 
         } catch (Exception e) {
-            System.out.println("ERROR in successfulAuthentication: " + e.getMessage());
-            e.printStackTrace();
+            log.error("로그인 토큰 발급 실패", e);
             unsuccessfulAuthentication(request, response, null);
         }
     }
@@ -165,14 +151,14 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) {
         try {
-            System.out.println("=== Login Failed ===");
-            if (failed != null) {
-                System.out.println("Failure reason: " + failed.getMessage());
-                failed.printStackTrace();
+            if (failed != null && failed.getCause() instanceof BusinessException businessException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeJsonResponse(response, ApiResponse.of(businessException.getResultCode(), null));
+                return;
             }
             writeJsonResponse(response, ApiResponse.of(ResultCode.LOGIN_FAILED, null));
         } catch (IOException e) {
-            System.out.println("ERROR writing failure response: " + e.getMessage());
+            log.error("로그인 실패 응답 작성 실패 - {}", e.getMessage());
             response.setStatus(500);
         }
     }
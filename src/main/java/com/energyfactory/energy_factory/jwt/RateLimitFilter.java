@@ -0,0 +1,201 @@
+package com.energyfactory.energy_factory.jwt;
+
+import com.energyfactory.energy_factory.config.RateLimitConfig;
+import com.energyfactory.energy_factory.dto.ApiResponse;
+import com.energyfactory.energy_factory.service.RateLimiterService;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 경로별 요청 속도 제한 필터
+ *
+ * 로그인(BCrypt 검증), 토큰 갱신, 인증 코드 발송/검증 요청을 인증 처리 전에 제한하여
+ * 무차별 대입 요청이 비밀번호 해시 계산과 DB 조회까지 도달하지 않도록 차단
+ * 제한 초과 시 429 + Retry-After(초) 응답
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * 이메일 추출을 위해 읽는 요청 본문 최대 크기
+     */
+    private static final int MAX_BODY_BYTES = 4096;
+
+    private final RateLimitConfig rateLimitConfig;
+    private final RateLimiterService rateLimiterService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitConfig rateLimitConfig, RateLimiterService rateLimiterService) {
+        this.rateLimitConfig = rateLimitConfig;
+        this.rateLimiterService = rateLimiterService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitConfig.isEnabled() || rateLimitConfig.getRules().isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        List<RateLimitConfig.Rule> rules = rateLimitConfig.getRules().stream()
+                .filter(rule -> matches(rule, request))
+                .toList();
+        if (rules.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest currentRequest = request;
+        String email = null;
+        if (rules.stream().anyMatch(rule -> rule.getKey() == RateLimitConfig.KeyType.EMAIL)) {
+            CachedBodyRequest cachedBodyRequest = new CachedBodyRequest(request);
+            currentRequest = cachedBodyRequest;
+            email = extractEmail(cachedBodyRequest.body);
+        }
+
+        for (RateLimitConfig.Rule rule : rules) {
+            Duration retryAfter = rateLimiterService.tryAcquire(rule, resolveKey(rule, request, email));
+            if (retryAfter != null) {
+                writeTooManyRequests(response, retryAfter);
+                return;
+            }
+        }
+
+        filterChain.doFilter(currentRequest, response);
+    }
+
+    private boolean matches(RateLimitConfig.Rule rule, HttpServletRequest request) {
+        if (rule.getMethod() != null && !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+            return false;
+        }
+        return pathMatcher.match(rule.getPath(), request.getRequestURI());
+    }
+
+    private String resolveKey(RateLimitConfig.Rule rule, HttpServletRequest request, String email) {
+        return switch (rule.getKey()) {
+            case EMAIL -> email != null ? "email:" + email : "ip:" + request.getRemoteAddr();
+            case USER -> {
+                Object principal = request.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE);
+                yield principal instanceof JwtPrincipal jwtPrincipal
+                        ? "user:" + jwtPrincipal.userId()
+                        : "ip:" + request.getRemoteAddr();
+            }
+            case IP -> "ip:" + request.getRemoteAddr();
+        };
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, Duration retryAfter) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        response.setStatus(HttpServletResponse.SC_TOO_MANY_REQUESTS);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.of(ResultCode.TOO_MANY_REQUESTS, null)));
+    }
+
+    /**
+     * 본문 앞부분을 미리 읽어 두고, 이후 필터/컨트롤러에는 읽은 부분 + 나머지 스트림을 그대로 전달하는 요청 래퍼
+     * 최대 크기를 넘는 본문은 이메일 추출 대상에서 제외
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.head = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            this.body = head.length > MAX_BODY_BYTES ? new byte[0] : head;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            InputStream source = new SequenceInputStream(new ByteArrayInputStream(head), super.getInputStream());
+            return new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 앞부분은 이미 메모리에 있고 나머지도 블로킹 스트림으로 바로 읽을 수 있으므로(isReady 항상 true)
+                 * 등록 즉시 onDataAvailable을 호출하고, 리스너가 끝까지 읽었으면 onAllDataRead까지 호출
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        if (finished) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() throws IOException {
+                    int b = source.read();
+                    finished = b < 0;
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = source.read(b, off, len);
+                    finished = n < 0;
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.energyfactory.energy_factory.repository;
+
+import com.energyfactory.energy_factory.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 미발송 항목 잠금 조회 (저장 순서, 다른 서버가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM notification_outbox WHERE processed_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<NotificationOutbox> lockPending(@Param("limit") int limit);
+
+    // 사용자별 가장 앞선 미발송 항목 ID (잠그지 않고 조회 - 다른 서버가 잠근 행 포함)
+    @Query("SELECT e.userId, MIN(e.id) FROM NotificationOutbox e WHERE e.processedAt IS NULL AND e.userId IN :userIds GROUP BY e.userId")
+    List<Object[]> findFirstPendingIds(@Param("userIds") Collection<Long> userIds);
+
+    // 발송 완료 표시
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox e SET e.processedAt = :processedAt WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") List<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    // 보관 기간이 지난 발송 완료 항목 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
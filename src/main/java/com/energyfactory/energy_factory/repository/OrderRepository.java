@@ -7,6 +7,7 @@ import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -56,4 +57,15 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.paymentStatus = :paymentStatus AND o.createdAt < :cutoffTime")
     List<Order> findTimeoutOrders(@Param("paymentStatus") PaymentStatus paymentStatus,
                                    @Param("cutoffTime") LocalDateTime cutoffTime);
-}
\ No newline at end of file
+
+    // 상태 일괄 변경 대상 잠금 조회 [id, user_id, order_number, status]
+    @Query(value = "SELECT id, user_id, order_number, status FROM orders WHERE id IN (:ids) FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockStatusByIds(@Param("ids") List<Long> ids);
+
+    // 주문 상태 일괄 변경
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt WHERE o.id IN :ids")
+    int updateStatusByIds(@Param("ids") List<Long> ids,
+                          @Param("status") OrderStatus status,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+}
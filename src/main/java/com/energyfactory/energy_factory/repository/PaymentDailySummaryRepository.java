@@ -0,0 +1,82 @@
+package com.energyfactory.energy_factory.repository;
+
+import com.energyfactory.energy_factory.entity.PaymentDailySummary;
+import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결제 일별 집계 레포지토리
+ * 결제 통계는 payments 테이블 대신 이 집계 테이블에서 조회
+ */
+@Repository
+public interface PaymentDailySummaryRepository extends JpaRepository<PaymentDailySummary, Long> {
+
+    /**
+     * 집계 증분 반영 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO payment_daily_summaries " +
+                   "(summary_date, payment_method, payment_status, payment_count, total_amount, updated_at) " +
+                   "VALUES (:summaryDate, :paymentMethod, :paymentStatus, :countDelta, :amountDelta, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE payment_count = payment_count + :countDelta, " +
+                   "total_amount = total_amount + :amountDelta, updated_at = NOW()",
+           nativeQuery = true)
+    void upsertDelta(@Param("summaryDate") LocalDate summaryDate,
+                     @Param("paymentMethod") String paymentMethod,
+                     @Param("paymentStatus") String paymentStatus,
+                     @Param("countDelta") long countDelta,
+                     @Param("amountDelta") BigDecimal amountDelta);
+
+    /**
+     * 기간 내 결제 원장으로부터 집계 재생성 (백필)
+     * 기존 행을 지우지 않고 다시 계산한 값으로 덮어씀 (실시간 증분 반영과 같은 행을 다투어도 중복 키 오류 없음)
+     * INSERT ... SELECT 는 읽은 결제 행을 공유 잠금하므로 백필 중 해당 결제의 상태 변경은 커밋 후로 미뤄짐
+     */
+    @Modifying
+    @Query(value = "INSERT INTO payment_daily_summaries " +
+                   "(summary_date, payment_method, payment_status, payment_count, total_amount, updated_at) " +
+                   "SELECT DATE(p.created_at), p.payment_method, p.payment_status, COUNT(*), COALESCE(SUM(p.amount), 0), NOW() " +
+                   "FROM payments p WHERE p.created_at >= :fromTime AND p.created_at < :toTime " +
+                   "GROUP BY DATE(p.created_at), p.payment_method, p.payment_status " +
+                   "ON DUPLICATE KEY UPDATE payment_count = VALUES(payment_count), " +
+                   "total_amount = VALUES(total_amount), updated_at = NOW()",
+           nativeQuery = true)
+    int backfill(@Param("fromTime") LocalDateTime fromTime, @Param("toTime") LocalDateTime toTime);
+
+    /**
+     * 백필 기간 내 원장에 더 이상 없는 집계 행을 0으로 보정 (백필 후)
+     */
+    @Modifying
+    @Query(value = "UPDATE payment_daily_summaries s SET s.payment_count = 0, s.total_amount = 0, s.updated_at = NOW() " +
+                   "WHERE s.summary_date >= :fromDate AND s.summary_date < :toDate " +
+                   "AND (s.payment_count <> 0 OR s.total_amount <> 0) " +
+                   "AND NOT EXISTS (SELECT 1 FROM payments p " +
+                   "WHERE p.created_at >= s.summary_date AND p.created_at < s.summary_date + INTERVAL 1 DAY " +
+                   "AND p.payment_method = s.payment_method AND p.payment_status = s.payment_status)",
+           nativeQuery = true)
+    int resetMissing(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * 기간 내 결제 수단별 통계 (건수, 총 금액)
+     */
+    @Query("SELECT s.paymentMethod, SUM(s.paymentCount), SUM(s.totalAmount) FROM PaymentDailySummary s " +
+           "WHERE s.paymentStatus = :status AND s.summaryDate >= :fromDate GROUP BY s.paymentMethod")
+    List<Object[]> findSummaryByMethod(@Param("status") PaymentStatus status, @Param("fromDate") LocalDate fromDate);
+
+    /**
+     * 일별 결제 통계 (건수, 총 금액)
+     */
+    @Query("SELECT s.summaryDate, SUM(s.paymentCount), SUM(s.totalAmount) FROM PaymentDailySummary s " +
+           "WHERE s.paymentStatus = :status AND s.summaryDate >= :fromDate " +
+           "GROUP BY s.summaryDate ORDER BY s.summaryDate DESC")
+    List<Object[]> findDailyStats(@Param("status") PaymentStatus status, @Param("fromDate") LocalDate fromDate);
+}
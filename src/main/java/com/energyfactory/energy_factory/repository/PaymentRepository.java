@@ -4,9 +4,11 @@ import com.energyfactory.energy_factory.entity.Order;
 import com.energyfactory.energy_factory.entity.Payment;
 import com.energyfactory.energy_factory.utils.enums.PaymentMethod;
 import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -38,6 +40,14 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     Optional<Payment> findByTransactionId(String transactionId);
 
+    /**
+     * 결제 상태 전이용 조회 (비관적 락)
+     * 승인 결과 반영이 여러 경로에서 동시에 일어나도 한 번만 적용되도록 보장
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order WHERE p.id = :id")
+    Optional<Payment> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * 결제 상태별 조회
      */
@@ -80,20 +90,25 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByPaymentStatusOrderByCreatedAtDesc(PaymentStatus paymentStatus);
 
     /**
-     * 결제 수단별 통계 (총 금액)
+     * 결제 대사 대상 조회 (거래 ID가 기록된 오래된 결제, ID 기준 키셋 페이징)
      */
-    @Query("SELECT p.paymentMethod, SUM(p.amount) FROM Payment p " +
-           "WHERE p.paymentStatus = :status GROUP BY p.paymentMethod")
-    List<Object[]> findPaymentSummaryByMethod(@Param("status") PaymentStatus status);
+    @Query("SELECT p FROM Payment p WHERE p.paymentStatus = :status AND p.transactionId IS NOT NULL " +
+           "AND p.createdAt < :cutoffTime AND p.id > :afterId ORDER BY p.id")
+    List<Payment> findReconciliationTargets(@Param("status") PaymentStatus status,
+                                            @Param("cutoffTime") LocalDateTime cutoffTime,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
 
     /**
-     * 일별 결제 통계
+     * 주문이 취소된 뒤 승인이 확정된 결제 조회 (자동 환불 대상, ID 기준 키셋 페이징)
      */
-    @Query("SELECT DATE(p.createdAt), COUNT(p), SUM(p.amount) FROM Payment p " +
-           "WHERE p.paymentStatus = :status AND p.createdAt >= :fromDate " +
-           "GROUP BY DATE(p.createdAt) ORDER BY DATE(p.createdAt) DESC")
-    List<Object[]> findDailyPaymentStats(@Param("status") PaymentStatus status, 
-                                        @Param("fromDate") LocalDateTime fromDate);
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order o WHERE p.paymentStatus = :status " +
+           "AND p.transactionId IS NOT NULL AND o.paymentStatus <> :status " +
+           "AND o.paymentStatus <> com.energyfactory.energy_factory.utils.enums.PaymentStatus.PENDING " +
+           "AND p.id > :afterId ORDER BY p.id")
+    List<Payment> findOrphanedCompletedPayments(@Param("status") PaymentStatus status,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
 
     /**
      * 환불 가능한 결제 조회 (완료 상태)
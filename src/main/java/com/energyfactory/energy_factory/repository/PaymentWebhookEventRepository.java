@@ -0,0 +1,63 @@
+package com.energyfactory.energy_factory.repository;
+
+import com.energyfactory.energy_factory.entity.PaymentWebhookEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, Long> {
+
+    // 이미 수신한 이벤트인지 확인 (중복 제거)
+    boolean existsByEventId(String eventId);
+
+    // 처리 시도 가능한 미처리 이벤트 조회 (수신 순서, FAILED 및 재시도 대기 중인 이벤트 제외)
+    @Query("SELECT e FROM PaymentWebhookEvent e " +
+           "WHERE e.processedAt IS NULL AND e.failedAt IS NULL " +
+           "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+           "ORDER BY e.id ASC")
+    List<PaymentWebhookEvent> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 처리 완료 표시
+    @Transactional
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.processedAt = :processedAt WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") List<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    // 처리 실패 기록 (시도 횟수 증가 + 다음 시도 시각 지정)
+    @Transactional
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+           "e.lastError = :lastError WHERE e.id IN :ids")
+    int scheduleRetry(@Param("ids") List<Long> ids,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("lastError") String lastError);
+
+    // 요청이 전송되지 않은 경우 시도 횟수 증가 없이 다음 시도 시각만 지정
+    @Transactional
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.nextAttemptAt = :nextAttemptAt WHERE e.id IN :ids")
+    int defer(@Param("ids") List<Long> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    // 최대 재시도 초과 이벤트를 FAILED로 보관
+    @Transactional
+    @Modifying
+    @Query("UPDATE PaymentWebhookEvent e SET e.attempts = e.attempts + 1, e.failedAt = :failedAt, " +
+           "e.lastError = :lastError WHERE e.id IN :ids")
+    int markFailed(@Param("ids") List<Long> ids,
+                   @Param("failedAt") LocalDateTime failedAt,
+                   @Param("lastError") String lastError);
+
+    // 보관 기간이 지난 처리 완료 이벤트 삭제
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PaymentWebhookEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,342 @@
+package com.energyfactory.energy_factory.repository;
+
+import com.energyfactory.energy_factory.dto.ProductBulkRecordDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 일괄 가져오기/내보내기 전용 JDBC 리포지토리
+ *
+ * 엔티티를 거치지 않고 JDBC batch로 상품/옵션/영양성분/태그를 저장하고,
+ * 내보내기는 ID 기준 페이지 단위로 조회 (하위 데이터는 페이지당 IN 쿼리 한 번씩)
+ * batch는 spring.datasource.hikari.data-source-properties.rewriteBatchedStatements=true(MySQL) 설정으로 다중 행 INSERT 하나로 전송됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkRepository {
+
+    private static final String DEFAULT_STATUS = "AVAILABLE";
+
+    private static final String INSERT_PRODUCT_SQL = """
+            INSERT INTO product (name, category, price, brand, original_price, discount_rate, weight, weight_unit,
+                                 status, image_url, description, storage, shipping_fee, free_shipping_threshold,
+                                 estimated_delivery_days, score_muscle_gain, score_weight_loss, score_energy,
+                                 score_recovery, score_health, average_rating, review_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0.0, 0, ?, ?)
+            """;
+
+    private static final String INSERT_VARIANT_SQL = """
+            INSERT INTO product_variant (product_id, variant_name, price, stock, reserved_stock, is_default, created_at, updated_at)
+            VALUES (?, ?, ?, ?, 0, ?, ?, ?)
+            """;
+
+    private static final String INSERT_NUTRIENT_SQL = """
+            INSERT INTO product_nutrients (product_id, name, value, unit, daily_percentage, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_TAG_SQL =
+            "INSERT IGNORE INTO tags (name, created_at, updated_at) VALUES (?, ?, ?)";
+
+    private static final String INSERT_PRODUCT_TAG_SQL =
+            "INSERT IGNORE INTO product_tags (product_id, tag_id, created_at) VALUES (?, ?, ?)";
+
+    private static final String SELECT_PRODUCT_PAGE_SQL = """
+            SELECT id, name, category, price, brand, original_price, discount_rate, weight, weight_unit, status,
+                   image_url, description, storage, shipping_fee, free_shipping_threshold, estimated_delivery_days,
+                   score_muscle_gain, score_weight_loss, score_energy, score_recovery, score_health
+            FROM product
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 상품-태그 연결 (상품 ID, 태그 ID)
+     */
+    public record ProductTagLink(long productId, long tagId) {
+    }
+
+    private record VariantRow(long productId, ProductBulkRecordDto.Variant variant) {
+    }
+
+    private record NutrientRow(long productId, ProductBulkRecordDto.Nutrient nutrient) {
+    }
+
+    /**
+     * 전체 태그 이름 -> ID
+     */
+    public Map<String, Long> findAllTagIds() {
+        Map<String, Long> tagIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM tags", rs -> {
+            tagIds.put(rs.getString("name"), rs.getLong("id"));
+        });
+        return tagIds;
+    }
+
+    /**
+     * 태그 일괄 생성 (이미 있으면 무시) 후 이름 -> ID 반환
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<String, Long> insertTags(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_TAG_SQL, names, names.size(), (ps, name) -> {
+            ps.setString(1, name);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+        });
+
+        Map<String, Long> tagIds = new HashMap<>();
+        namedParameterJdbcTemplate.query("SELECT id, name FROM tags WHERE name IN (:names)",
+                Map.of("names", names), rs -> {
+                    tagIds.put(rs.getString("name"), rs.getLong("id"));
+                });
+        return tagIds;
+    }
+
+    /**
+     * 상품 일괄 저장
+     *
+     * @return 저장 순서대로 생성된 상품 ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Long> insertProducts(List<ProductBulkRecordDto> records) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_PRODUCT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (ProductBulkRecordDto record : records) {
+                    ps.setString(1, record.getName());
+                    ps.setString(2, record.getCategory());
+                    ps.setBigDecimal(3, record.getPrice());
+                    ps.setString(4, record.getBrand());
+                    ps.setBigDecimal(5, record.getOriginalPrice());
+                    setInteger(ps, 6, record.getDiscount());
+                    ps.setBigDecimal(7, record.getWeight());
+                    ps.setString(8, record.getWeightUnit());
+                    ps.setString(9, record.getStatus() != null ? record.getStatus() : DEFAULT_STATUS);
+                    ps.setString(10, record.getImageUrl());
+                    ps.setString(11, record.getDescription());
+                    ps.setString(12, record.getStorage());
+                    ps.setBigDecimal(13, record.getShippingFee() != null ? record.getShippingFee() : BigDecimal.ZERO);
+                    ps.setBigDecimal(14, record.getFreeShippingThreshold());
+                    ps.setString(15, record.getEstimatedDeliveryDays());
+                    ps.setBigDecimal(16, record.getScoreMuscleGain());
+                    ps.setBigDecimal(17, record.getScoreWeightLoss());
+                    ps.setBigDecimal(18, record.getScoreEnergy());
+                    ps.setBigDecimal(19, record.getScoreRecovery());
+                    ps.setBigDecimal(20, record.getScoreHealth());
+                    ps.setTimestamp(21, now);
+                    ps.setTimestamp(22, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(records.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != records.size()) {
+                    throw new IllegalStateException("생성된 상품 ID 수가 저장한 상품 수와 다릅니다");
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 옵션 일괄 저장 (productIds는 records와 같은 순서)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertVariants(List<Long> productIds, List<ProductBulkRecordDto> records) {
+        List<VariantRow> rows = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            List<ProductBulkRecordDto.Variant> variants = records.get(i).getVariants();
+            if (variants == null) {
+                continue;
+            }
+            for (ProductBulkRecordDto.Variant variant : variants) {
+                rows.add(new VariantRow(productIds.get(i), variant));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_VARIANT_SQL, rows, rows.size(), (ps, row) -> {
+            ProductBulkRecordDto.Variant variant = row.variant();
+            ps.setLong(1, row.productId());
+            ps.setString(2, variant.getName());
+            ps.setBigDecimal(3, variant.getPrice());
+            ps.setLong(4, variant.getStock() != null ? variant.getStock() : 0L);
+            ps.setBoolean(5, Boolean.TRUE.equals(variant.getIsDefault()));
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    /**
+     * 영양성분 일괄 저장 (productIds는 records와 같은 순서)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertNutrients(List<Long> productIds, List<ProductBulkRecordDto> records) {
+        List<NutrientRow> rows = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            List<ProductBulkRecordDto.Nutrient> nutrients = records.get(i).getNutrients();
+            if (nutrients == null) {
+                continue;
+            }
+            for (ProductBulkRecordDto.Nutrient nutrient : nutrients) {
+                rows.add(new NutrientRow(productIds.get(i), nutrient));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_NUTRIENT_SQL, rows, rows.size(), (ps, row) -> {
+            ProductBulkRecordDto.Nutrient nutrient = row.nutrient();
+            ps.setLong(1, row.productId());
+            ps.setString(2, nutrient.getName());
+            ps.setString(3, nutrient.getValue());
+            ps.setString(4, nutrient.getUnit());
+            setInteger(ps, 5, nutrient.getDailyPercentage());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+    }
+
+    /**
+     * 상품-태그 연결 일괄 저장 (이미 있으면 무시)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void insertProductTags(List<ProductTagLink> links) {
+        if (links.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_TAG_SQL, links, links.size(), (ps, link) -> {
+            ps.setLong(1, link.productId());
+            ps.setLong(2, link.tagId());
+            ps.setTimestamp(3, now);
+        });
+    }
+
+    /**
+     * 내보내기용 상품 페이지 조회 (옵션/영양성분/태그 포함)
+     *
+     * @param afterId 이전 페이지의 마지막 상품 ID (첫 페이지는 0)
+     */
+    public List<ProductBulkRecordDto> findPageAfter(long afterId, int limit) {
+        Map<Long, ProductBulkRecordDto.ProductBulkRecordDtoBuilder> builders = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_PRODUCT_PAGE_SQL, rs -> {
+            long id = rs.getLong("id");
+            builders.put(id, ProductBulkRecordDto.builder()
+                    .id(id)
+                    .name(rs.getString("name"))
+                    .category(rs.getString("category"))
+                    .price(rs.getBigDecimal("price"))
+                    .brand(rs.getString("brand"))
+                    .originalPrice(rs.getBigDecimal("original_price"))
+                    .discount(rs.getObject("discount_rate", Integer.class))
+                    .weight(rs.getBigDecimal("weight"))
+                    .weightUnit(rs.getString("weight_unit"))
+                    .status(rs.getString("status"))
+                    .imageUrl(rs.getString("image_url"))
+                    .description(rs.getString("description"))
+                    .storage(rs.getString("storage"))
+                    .shippingFee(rs.getBigDecimal("shipping_fee"))
+                    .freeShippingThreshold(rs.getBigDecimal("free_shipping_threshold"))
+                    .estimatedDeliveryDays(rs.getString("estimated_delivery_days"))
+                    .scoreMuscleGain(rs.getBigDecimal("score_muscle_gain"))
+                    .scoreWeightLoss(rs.getBigDecimal("score_weight_loss"))
+                    .scoreEnergy(rs.getBigDecimal("score_energy"))
+                    .scoreRecovery(rs.getBigDecimal("score_recovery"))
+                    .scoreHealth(rs.getBigDecimal("score_health")));
+        }, afterId, limit);
+        if (builders.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Object> params = Map.of("ids", builders.keySet());
+        Map<Long, List<ProductBulkRecordDto.Variant>> variants = new HashMap<>();
+        namedParameterJdbcTemplate.query("""
+                SELECT product_id, variant_name, price, stock, is_default
+                FROM product_variant WHERE product_id IN (:ids) ORDER BY id
+                """, params, rs -> {
+            variants.computeIfAbsent(rs.getLong("product_id"), id -> new ArrayList<>())
+                    .add(ProductBulkRecordDto.Variant.builder()
+                            .name(rs.getString("variant_name"))
+                            .price(rs.getBigDecimal("price"))
+                            .stock(rs.getLong("stock"))
+                            .isDefault(rs.getBoolean("is_default"))
+                            .build());
+        });
+
+        Map<Long, List<ProductBulkRecordDto.Nutrient>> nutrients = new HashMap<>();
+        namedParameterJdbcTemplate.query("""
+                SELECT product_id, name, value, unit, daily_percentage
+                FROM product_nutrients WHERE product_id IN (:ids) ORDER BY id
+                """, params, rs -> {
+            nutrients.computeIfAbsent(rs.getLong("product_id"), id -> new ArrayList<>())
+                    .add(ProductBulkRecordDto.Nutrient.builder()
+                            .name(rs.getString("name"))
+                            .value(rs.getString("value"))
+                            .unit(rs.getString("unit"))
+                            .dailyPercentage(rs.getObject("daily_percentage", Integer.class))
+                            .build());
+        });
+
+        Map<Long, List<String>> tags = new HashMap<>();
+        namedParameterJdbcTemplate.query("""
+                SELECT pt.product_id, t.name
+                FROM product_tags pt JOIN tags t ON t.id = pt.tag_id
+                WHERE pt.product_id IN (:ids) ORDER BY pt.id
+                """, params, rs -> {
+            tags.computeIfAbsent(rs.getLong("product_id"), id -> new ArrayList<>()).add(rs.getString("name"));
+        });
+
+        List<ProductBulkRecordDto> records = new ArrayList<>(builders.size());
+        builders.forEach((id, builder) -> records.add(builder
+                .variants(variants.get(id))
+                .nutrients(nutrients.get(id))
+                .tags(tags.get(id))
+                .build()));
+        return records;
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.energyfactory.energy_factory.scheduler;
+
+import com.energyfactory.energy_factory.service.ImageGarbageCollector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 이미지 정리 스케줄러
+ *
+ * 교체/삭제된 상품 이미지를 모아서 S3에서 삭제하고, 상품에서 사용하지 않는 고아 이미지를 정리합니다.
+ * - 삭제 대기열 처리: app.image-upload.gc-flush-interval (이전 실행 종료 후)
+ * - 고아 이미지 정리: app.image-upload.orphan-sweep-cron (기본 매일 04:30)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true")  // AWS_S3_ENABLED=true일 때만 로드
+public class ImageGarbageCollectionScheduler {
+
+    private final ImageGarbageCollector imageGarbageCollector;
+
+    @Scheduled(fixedDelayString = "${app.image-upload.gc-flush-interval:10s}")
+    public void flush() {
+        try {
+            int deletedCount = imageGarbageCollector.flush();
+            if (deletedCount > 0) {
+                log.info("사용하지 않는 상품 이미지 삭제 - {}개 객체", deletedCount);
+            }
+        } catch (Exception e) {
+            log.error("상품 이미지 삭제 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.image-upload.orphan-sweep-cron:0 30 4 * * *}")
+    public void sweepOrphans() {
+        try {
+            int deletedCount = imageGarbageCollector.sweepOrphans();
+            log.info("고아 상품 이미지 정리 완료 - {}개 객체", deletedCount);
+        } catch (Exception e) {
+            log.error("고아 상품 이미지 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.energyfactory.energy_factory.scheduler;
+
+import com.energyfactory.energy_factory.service.NotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발신함 스케줄러
+ *
+ * 발신함 항목은 커밋 직후 발송되며, 이 스케줄러는 누락된 항목(서버 종료 등)을 다시 발송하고
+ * 발송 완료 후 하루가 지난 항목을 삭제합니다.
+ * - 재발송 주기: 5초 (이전 실행 종료 후)
+ * - 정리 주기: 1시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+    private final NotificationOutboxService notificationOutboxService;
+
+    @Scheduled(fixedDelay = 5_000)
+    public void relay() {
+        try {
+            int processedCount = notificationOutboxService.relay();
+            if (processedCount > 0) {
+                log.info("알림 발신함 재발송 완료 - {}건", processedCount);
+            }
+        } catch (Exception e) {
+            log.error("알림 발신함 발송 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 60_000)
+    public void purge() {
+        try {
+            int deletedCount = notificationOutboxService.purgeProcessed(LocalDateTime.now().minusDays(1));
+            if (deletedCount > 0) {
+                log.info("발송 완료된 알림 발신함 정리 - {}건", deletedCount);
+            }
+        } catch (Exception e) {
+            log.error("알림 발신함 정리 중 오류 발생", e);
+        }
+    }
+}
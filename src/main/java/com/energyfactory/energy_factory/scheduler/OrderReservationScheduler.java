@@ -2,15 +2,17 @@ package com.energyfactory.energy_factory.scheduler;
 
 import com.energyfactory.energy_factory.entity.Order;
 import com.energyfactory.energy_factory.entity.OrderItem;
+import com.energyfactory.energy_factory.entity.Payment;
 import com.energyfactory.energy_factory.entity.ProductVariant;
 import com.energyfactory.energy_factory.repository.OrderRepository;
+import com.energyfactory.energy_factory.service.PaymentReconciliationService;
 import com.energyfactory.energy_factory.utils.enums.OrderStatus;
 import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +23,7 @@ import java.util.List;
  * 일정 시간이 지난 PENDING 상태의 주문에 대해 자동으로 예약을 해제합니다.
  * - 타임아웃 시간: 15분
  * - 실행 주기: 5분마다
+ * - 해제 전에 결제 대사를 먼저 실행하여, 승인되었지만 반영되지 않은 주문의 재고를 해제하지 않도록 합니다.
  */
 @Slf4j
 @Component
@@ -28,6 +31,8 @@ import java.util.List;
 public class OrderReservationScheduler {
 
     private final OrderRepository orderRepository;
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final TransactionTemplate transactionTemplate;
 
     // 재고 예약 타임아웃 시간 (분)
     private static final int RESERVATION_TIMEOUT_MINUTES = 15;
@@ -36,10 +41,20 @@ public class OrderReservationScheduler {
      * 타임아웃된 주문의 재고 예약 자동 해제
      *
      * 매 5분마다 실행되며, 15분이 지난 PENDING 주문을 찾아 예약을 해제합니다.
+     * 결제 대사(외부 API 호출)는 트랜잭션 밖에서 먼저 실행하고, 예약 해제만 트랜잭션으로 처리합니다.
      */
     @Scheduled(cron = "0 */5 * * * *") // 5분마다 실행
-    @Transactional
     public void releaseTimeoutReservations() {
+        try {
+            paymentReconciliationService.reconcilePendingPayments();
+        } catch (Exception e) {
+            log.error("재고 예약 해제 전 결제 대사 실패", e);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> releaseTimeoutOrders());
+    }
+
+    private void releaseTimeoutOrders() {
         try {
             LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(RESERVATION_TIMEOUT_MINUTES);
 
@@ -58,8 +73,16 @@ public class OrderReservationScheduler {
 
             int processedCount = 0;
             int errorCount = 0;
+            int skippedCount = 0;
 
             for (Order order : timeoutOrders) {
+                // 토스페이먼츠 승인 결과가 아직 확정되지 않은 결제가 있으면 해제하지 않음 (결제 대사로 확정 후 처리)
+                if (hasUnresolvedPayment(order)) {
+                    skippedCount++;
+                    log.warn("승인 결과 미확정 결제가 있어 예약 해제 보류 - 주문번호: {}", order.getOrderNumber());
+                    continue;
+                }
+
                 try {
                     // 재고 예약 해제
                     for (OrderItem orderItem : order.getOrderItems()) {
@@ -85,10 +108,22 @@ public class OrderReservationScheduler {
                 }
             }
 
-            log.info("재고 예약 해제 완료 - 성공: {}건, 실패: {}건", processedCount, errorCount);
+            log.info("재고 예약 해제 완료 - 성공: {}건, 실패: {}건, 보류: {}건", processedCount, errorCount, skippedCount);
 
         } catch (Exception e) {
             log.error("재고 예약 해제 스케줄러 실행 중 오류 발생", e);
         }
     }
+
+    /**
+     * 토스페이먼츠에 승인 요청이 전달되었지만 결과가 확정되지 않은 결제 존재 여부
+     */
+    private boolean hasUnresolvedPayment(Order order) {
+        for (Payment payment : order.getPayments()) {
+            if (payment.getPaymentStatus() == PaymentStatus.PENDING && payment.getTransactionId() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
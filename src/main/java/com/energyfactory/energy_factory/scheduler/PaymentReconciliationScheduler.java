@@ -0,0 +1,31 @@
+package com.energyfactory.energy_factory.scheduler;
+
+import com.energyfactory.energy_factory.service.PaymentReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 대사 스케줄러
+ *
+ * 승인 결과를 확인하지 못한 PENDING 결제를 주기적으로 토스페이먼츠에 조회하여 확정합니다.
+ * - 실행 주기: 1분 (이전 실행 종료 후)
+ * - 재고 예약 해제 스케줄러도 실행 전에 대사를 먼저 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentReconciliationScheduler {
+
+    private final PaymentReconciliationService paymentReconciliationService;
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void reconcilePendingPayments() {
+        try {
+            paymentReconciliationService.reconcilePendingPayments();
+        } catch (Exception e) {
+            log.error("결제 대사 스케줄러 실행 중 오류 발생", e);
+        }
+    }
+}
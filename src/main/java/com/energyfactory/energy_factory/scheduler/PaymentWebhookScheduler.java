@@ -0,0 +1,46 @@
+package com.energyfactory.energy_factory.scheduler;
+
+import com.energyfactory.energy_factory.service.PaymentWebhookService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토스페이먼츠 웹훅 수신함 처리 스케줄러
+ *
+ * 웹훅 수신 API는 저장만 하고 즉시 응답하며, 결제/주문 상태 반영은 이 스케줄러가 수행합니다.
+ * - 실행 주기: 2초 (이전 실행 종료 후), 재시도 대기 중인 이벤트는 다음 시도 시각 이후에 처리
+ * - 정리 주기: 1시간 (보관 기간이 지난 처리 완료 이벤트 삭제)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentWebhookScheduler {
+
+    private final PaymentWebhookService paymentWebhookService;
+
+    @Scheduled(fixedDelay = 2_000)
+    public void processInbox() {
+        try {
+            int processedCount = paymentWebhookService.processInbox();
+            if (processedCount > 0) {
+                log.info("웹훅 수신함 처리 완료 - {}건", processedCount);
+            }
+        } catch (Exception e) {
+            log.error("웹훅 수신함 처리 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 60_000)
+    public void purge() {
+        try {
+            int deletedCount = paymentWebhookService.purgeProcessed();
+            if (deletedCount > 0) {
+                log.info("처리 완료된 웹훅 수신함 정리 - {}건", deletedCount);
+            }
+        } catch (Exception e) {
+            log.error("웹훅 수신함 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.energyfactory.energy_factory.scheduler;
+
+import com.energyfactory.energy_factory.service.SseConnectionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 하트비트 스케줄러
+ *
+ * 모든 SSE 연결에 주기적으로 하트비트를 보내고, 전송에 성공하지 못하는 연결을 정리합니다.
+ * 스케줄러 스레드는 대기열에 넣기만 하며 실제 쓰기는 디스패처 스레드가 수행합니다.
+ * - 실행 주기: app.notification.heartbeat-check-interval (이전 실행 종료 후, 하트비트 주기의 1/3 정도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+
+    private final SseConnectionRegistry connectionRegistry;
+
+    @Scheduled(fixedDelayString = "${app.notification.heartbeat-check-interval:5s}")
+    public void sendHeartbeats() {
+        try {
+            int evictedCount = connectionRegistry.sendHeartbeats();
+            if (evictedCount > 0) {
+                log.info("유휴 SSE 연결 정리 - {}건", evictedCount);
+            }
+        } catch (Exception e) {
+            log.error("SSE 하트비트 처리 중 오류 발생", e);
+        }
+    }
+}
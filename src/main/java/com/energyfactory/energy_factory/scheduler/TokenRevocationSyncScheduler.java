@@ -0,0 +1,38 @@
+package com.energyfactory.energy_factory.scheduler;
+
+import com.energyfactory.energy_factory.service.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 폐기 목록 동기화 스케줄러
+ *
+ * 폐기 이벤트는 Redis pub/sub으로 즉시 전파되며, 이 스케줄러는 서버 기동 시와
+ * 메시지 유실(Redis 재연결 등)에 대비해 Redis 저장 목록과 주기적으로 맞춥니다.
+ * - 실행 주기: 1분 (이전 실행 종료 후)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationSyncScheduler {
+
+    private final TokenRevocationService tokenRevocationService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void synchronizeOnStartup() {
+        synchronize();
+    }
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void synchronize() {
+        try {
+            tokenRevocationService.synchronize();
+        } catch (Exception e) {
+            log.error("토큰 폐기 목록 동기화 중 오류 발생", e);
+        }
+    }
+}
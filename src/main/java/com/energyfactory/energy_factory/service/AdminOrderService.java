@@ -0,0 +1,104 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.dto.OrderBulkStatusUpdateResponseDto;
+import com.energyfactory.energy_factory.dto.OrderBulkStatusUpdateResponseDto.Outcome;
+import com.energyfactory.energy_factory.repository.OrderRepository;
+import com.energyfactory.energy_factory.utils.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 주문 관리 서비스
+ *
+ * 주문 상태 일괄 변경은 엔티티를 하나씩 읽고 바꾸지 않고, 청크 단위 트랜잭션에서
+ * 대상 행을 잠금 조회한 뒤 UPDATE 한 번으로 변경하고 알림 발신함에 일괄 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdminOrderService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final NotificationOutboxService notificationOutboxService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 주문 상태 일괄 변경
+     * 청크마다 커밋하므로 도중에 실패하면 앞선 청크의 변경은 유지됨
+     *
+     * @param orderIds 주문 ID 목록 (중복은 한 번만 처리)
+     * @param newStatus 새로운 주문 상태
+     * @return 주문별 결과 (요청 순서)
+     */
+    public OrderBulkStatusUpdateResponseDto bulkUpdateOrderStatus(List<Long> orderIds, OrderStatus newStatus) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        Map<Long, Outcome> outcomes = new HashMap<>();
+
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+            transactionTemplate.executeWithoutResult(status -> updateChunk(chunk, newStatus, outcomes));
+        }
+
+        List<OrderBulkStatusUpdateResponseDto.Result> results = new ArrayList<>(distinctIds.size());
+        int updatedCount = 0;
+        int unchangedCount = 0;
+        int notFoundCount = 0;
+        for (Long orderId : distinctIds) {
+            Outcome outcome = outcomes.getOrDefault(orderId, Outcome.NOT_FOUND);
+            switch (outcome) {
+                case UPDATED -> updatedCount++;
+                case UNCHANGED -> unchangedCount++;
+                case NOT_FOUND -> notFoundCount++;
+            }
+            results.add(new OrderBulkStatusUpdateResponseDto.Result(orderId, outcome));
+        }
+
+        log.info("주문 상태 일괄 변경 - status: {}, 변경: {}건, 유지: {}건, 없음: {}건",
+                newStatus, updatedCount, unchangedCount, notFoundCount);
+
+        return OrderBulkStatusUpdateResponseDto.builder()
+                .updatedCount(updatedCount)
+                .unchangedCount(unchangedCount)
+                .notFoundCount(notFoundCount)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 청크 하나 처리 (잠금 조회 → 상태가 다른 주문만 UPDATE → 알림 발신함 일괄 저장)
+     */
+    private void updateChunk(List<Long> chunk, OrderStatus newStatus, Map<Long, Outcome> outcomes) {
+        List<Long> changedIds = new ArrayList<>();
+        List<NotificationOutboxService.OrderStatusChange> changes = new ArrayList<>();
+
+        for (Object[] row : orderRepository.lockStatusByIds(chunk)) {
+            Long orderId = ((Number) row[0]).longValue();
+            if (newStatus.name().equals(row[3])) {
+                outcomes.put(orderId, Outcome.UNCHANGED);
+                continue;
+            }
+            changedIds.add(orderId);
+            changes.add(new NotificationOutboxService.OrderStatusChange(
+                    ((Number) row[1]).longValue(), orderId, ((Number) row[2]).longValue(), newStatus.name()));
+        }
+
+        if (changedIds.isEmpty()) {
+            return;
+        }
+
+        orderRepository.updateStatusByIds(changedIds, newStatus, LocalDateTime.now());
+        notificationOutboxService.enqueueOrderStatuses(changes);
+        changedIds.forEach(orderId -> outcomes.put(orderId, Outcome.UPDATED));
+    }
+}
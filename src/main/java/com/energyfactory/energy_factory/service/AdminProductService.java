@@ -11,6 +11,7 @@ import com.energyfactory.energy_factory.repository.ProductRepository;
 import com.energyfactory.energy_factory.repository.ProductTagRepository;
 import com.energyfactory.energy_factory.repository.TagRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +28,7 @@ public class AdminProductService {
     private final ProductTagRepository productTagRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductService productService;
+    private final ObjectProvider<ImageGarbageCollector> imageGarbageCollector;  // S3 사용 시에만 존재
 
     /**
      * 상품 생성
@@ -76,6 +78,8 @@ public class AdminProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다. ID: " + id));
 
+        String previousImageUrl = product.getImageUrl();
+
         // 상품 정보 업데이트
         product.update(
                 requestDto.getName(),
@@ -100,6 +104,11 @@ public class AdminProductService {
                 requestDto.getScoreHealth()
         );
 
+        // 교체된 이미지는 커밋 후 삭제 대기열로
+        if (previousImageUrl != null && !previousImageUrl.equals(product.getImageUrl())) {
+            imageGarbageCollector.ifAvailable(collector -> collector.enqueue(previousImageUrl));
+        }
+
         // 태그 처리
         if (requestDto.getTags() != null) {
             // 기존 태그 삭제
@@ -130,6 +139,9 @@ public class AdminProductService {
 
         // 상품 삭제
         productRepository.delete(product);
+
+        // 상품 이미지는 커밋 후 삭제 대기열로
+        imageGarbageCollector.ifAvailable(collector -> collector.enqueue(product.getImageUrl()));
     }
 
     /**
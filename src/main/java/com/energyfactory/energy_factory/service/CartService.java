@@ -20,7 +20,7 @@ import java.util.stream.Collectors;
 public class CartService {
 
     private final CartItemRepository cartItemRepository;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     private final ProductRepository productRepository;
     private final ProductVariantRepository productVariantRepository;
 
@@ -32,8 +32,7 @@ public class CartService {
      * 장바구니 조회
      */
     public CartListResponseDto getCart(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         List<CartItem> cartItems = cartItemRepository.findByUserOrderByCreatedAtDesc(user);
 
@@ -88,8 +87,7 @@ public class CartService {
     @Transactional
     public CartItemResponseDto addToCart(Long userId, CartItemAddRequestDto requestDto) {
         // 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         // 2. 상품 조회
         Product product = productRepository.findById(requestDto.getProductId())
@@ -137,8 +135,7 @@ public class CartService {
      */
     @Transactional
     public CartItemResponseDto updateCartItemQuantity(Long userId, Long cartItemId, CartItemUpdateRequestDto requestDto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         CartItem cartItem = cartItemRepository.findByUserAndId(user, cartItemId)
                 .orElseThrow(() -> new BusinessException(ResultCode.CART_ITEM_NOT_FOUND));
@@ -158,8 +155,7 @@ public class CartService {
      */
     @Transactional
     public void deleteCartItem(Long userId, Long cartItemId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         CartItem cartItem = cartItemRepository.findByUserAndId(user, cartItemId)
                 .orElseThrow(() -> new BusinessException(ResultCode.CART_ITEM_NOT_FOUND));
@@ -172,8 +168,7 @@ public class CartService {
      */
     @Transactional
     public void clearCart(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         cartItemRepository.deleteByUser(user);
     }
@@ -183,8 +178,7 @@ public class CartService {
      */
     @Transactional
     public void deleteSelectedCartItems(Long userId, List<Long> cartItemIds) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         cartItemRepository.deleteByUserAndIdIn(user, cartItemIds);
     }
@@ -4,13 +4,17 @@ import com.energyfactory.energy_factory.dto.CustomUserDetails;
 import com.energyfactory.energy_factory.entity.User;
 import com.energyfactory.energy_factory.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
-public class CustomUserDetailService implements UserDetailsService {
+public class CustomUserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -25,4 +29,18 @@ public class CustomUserDetailService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         return new CustomUserDetails(user);
     }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 work factor가 현재 설정과 다르면 호출됨 (DaoAuthenticationProvider)
+     * 인증에 사용한 평문 비밀번호로 다시 계산한 해시를 저장
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        log.info("비밀번호 재해시 - userId: {}", user.getId());
+        return new CustomUserDetails(user);
+    }
 }
@@ -0,0 +1,228 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.ImageUploadConfig;
+import com.energyfactory.energy_factory.utils.enums.ImageVariant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 축소본 생성 서비스
+ *
+ * 원본을 한 번만 디코딩하고 ImageVariant별 축소 이미지(JPEG)를 병렬로 생성
+ * - 동시에 처리하는 이미지 수를 derivativeConcurrency로 제한 (디코딩된 원본의 메모리 사용량 제한)
+ * - 축소/인코딩은 고정 크기 스레드 풀에서 수행
+ * - 해상도는 디코딩 전에 헤더로 확인하여 과도하게 큰 이미지는 거부
+ * - 큰 원본은 가장 큰 축소 이미지 크기에 맞춰 건너뛰며 디코딩 (원본 전체 해상도를 힙에 올리지 않음)
+ * - 디코딩할 수 없는 이미지(CMYK/YCCK JPEG 등)는 축소 이미지 없이 원본만 저장
+ * - 원본보다 크게 확대하지 않으며, 투명 배경은 흰색으로 채움
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true")  // AWS_S3_ENABLED=true일 때만 로드
+public class ImageDerivativeService implements DisposableBean {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    /**
+     * 가장 큰 축소 이미지의 긴 변 길이 (디코딩 배율 계산 기준)
+     */
+    private static final int LARGEST_DIMENSION = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::getMaxDimension)
+            .max()
+            .orElseThrow();
+
+    private final ImageUploadConfig imageUploadConfig;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final Timer processTimer;
+
+    /**
+     * 생성된 축소 이미지
+     */
+    public record Derivative(ImageVariant variant, byte[] bytes) {
+    }
+
+    public ImageDerivativeService(ImageUploadConfig imageUploadConfig, MeterRegistry meterRegistry) {
+        this.imageUploadConfig = imageUploadConfig;
+        this.permits = new Semaphore(imageUploadConfig.getDerivativeConcurrency());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(imageUploadConfig.getDerivativeThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "image-derivative-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.processTimer = Timer.builder("image.derivative.process")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 축소 이미지 생성
+     *
+     * @return ImageVariant 순서의 축소 이미지 (ImageIO로 읽거나 디코딩할 수 없는 이미지면 빈 목록)
+     * @throws IllegalArgumentException 해상도가 허용 범위를 넘는 경우
+     */
+    public List<Derivative> createDerivatives(MultipartFile file) throws IOException, InterruptedException {
+        if (!permits.tryAcquire(imageUploadConfig.getDerivativeMaxWait().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new IllegalStateException("이미지 처리 대기열이 가득 찼습니다");
+        }
+        long startedAt = System.nanoTime();
+        try {
+            BufferedImage source = decode(file);
+            if (source == null) {
+                log.info("Unsupported or undecodable image, skipping derivatives: {}", file.getOriginalFilename());
+                return List.of();
+            }
+
+            List<Future<Derivative>> futures = new ArrayList<>();
+            for (ImageVariant variant : ImageVariant.values()) {
+                futures.add(executor.submit(() -> new Derivative(variant, encode(resize(source, variant.getMaxDimension())))));
+            }
+
+            List<Derivative> derivatives = new ArrayList<>(futures.size());
+            try {
+                for (Future<Derivative> future : futures) {
+                    derivatives.add(future.get());
+                }
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw new IOException("축소 이미지 생성 실패: " + e.getCause().getMessage(), e.getCause());
+            }
+            return derivatives;
+        } finally {
+            permits.release();
+            processTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 해상도 확인 후 디코딩 (첫 프레임)
+     * 가장 큰 축소 이미지보다 작아지지 않는 범위에서 정수 배율로 건너뛰며 읽어, 원본 해상도와 관계없이
+     * 디코딩 결과의 메모리 사용량을 (가장 큰 축소 이미지 변 길이 × 2)² 픽셀 이내로 제한
+     *
+     * @return 디코딩한 이미지 (ImageIO로 읽을 수 없는 형식이면 null)
+     */
+    private BufferedImage decode(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream();
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > imageUploadConfig.getMaxSourcePixels()) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다");
+                }
+
+                int subsampling = Math.max(1, Math.max(width, height) / LARGEST_DIMENSION);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } catch (IIOException e) {
+                // CMYK/YCCK JPEG 등 헤더는 읽히지만 기본 리더가 디코딩하지 못하는 경우 → 원본만 저장
+                log.warn("Image decode failed: {}, error: {}",
+                        file.getOriginalFilename(), e.getMessage());
+                return null;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxDimension 이하가 되도록 축소 (절반씩 단계적으로 줄여 품질 유지)
+     */
+    private static BufferedImage resize(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    /**
+     * RGB 이미지로 다시 그리기 (투명 영역은 흰색)
+     */
+    private static BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = result.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return result;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(imageUploadConfig.getDerivativeQuality());
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,319 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.ImageUploadConfig;
+import com.energyfactory.energy_factory.utils.enums.ImageVariant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 상품 이미지 정리 서비스
+ *
+ * 상품 이미지 교체/상품 삭제로 더 이상 쓰지 않는 S3 이미지를 요청 처리와 분리하여 삭제
+ * - 대기열: 커밋 후 URL을 메모리 대기열에 넣기만 함 (관리자 요청 지연 없음, 롤백 시 삭제하지 않음)
+ * - 삭제: 스케줄러가 모아서 DeleteObjects(요청당 최대 1000개)로 원본과 축소 이미지를 함께 삭제
+ *   삭제 직전에 다른 상품이 같은 key의 이미지를 사용 중인지 확인 (해석할 수 없는 URL이 있으면 삭제하지 않음)
+ * - 고아 이미지 정리: 버킷 목록에서 유예 기간이 지난 객체를 모아, 배치마다 삭제 직전에 product.image_url 참조 여부 확인
+ *   (대기열 유실, 업로드 후 상품에 연결되지 않은 이미지 등), 여러 서버 중 한 곳에서만 실행
+ *   URL은 호스트와 관계없이 key 경로로 비교하고, 해석할 수 없는 URL이 있으면 중단하며,
+ *   1회 실행 삭제 수 상한(orphanSweepMaxDeletes)과 dry-run 모드를 둠
+ * - 참조 확인은 상품 이미지 URL 전체를 읽지 않고 삭제 후보 key를 포함하는 URL만 조회
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true")  // AWS_S3_ENABLED=true일 때만 로드
+public class ImageGarbageCollector {
+
+    private static final String SWEEP_LOCK_KEY = "image_gc:sweep_lock";
+    private static final Duration SWEEP_LOCK_TTL = Duration.ofHours(1);
+    private static final int FLUSH_BATCH_SIZE = 1000;
+
+    /**
+     * 참조 확인 쿼리 하나에 넣는 key 수 (LIKE 조건 수)
+     */
+    private static final int REFERENCE_QUERY_CHUNK_SIZE = 100;
+
+    /**
+     * 고아 이미지 정리 대상 디렉토리
+     */
+    private static final String PRODUCT_IMAGE_PREFIX = "products/";
+
+    private final S3Service s3Service;
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ImageUploadConfig imageUploadConfig;
+    private final BlockingQueue<String> pendingUrls;
+    private final Counter deletedCounter;
+    private final Counter droppedCounter;
+
+    public ImageGarbageCollector(S3Service s3Service,
+                                 JdbcTemplate jdbcTemplate,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 ImageUploadConfig imageUploadConfig,
+                                 MeterRegistry meterRegistry) {
+        this.s3Service = s3Service;
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.imageUploadConfig = imageUploadConfig;
+        this.pendingUrls = new LinkedBlockingQueue<>(imageUploadConfig.getGcQueueCapacity());
+        this.deletedCounter = Counter.builder("image.gc.deleted")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("image.gc.dropped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미지 삭제 예약 (트랜잭션 안이면 커밋 후)
+     */
+    public void enqueue(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(imageUrl);
+                }
+            });
+        } else {
+            offer(imageUrl);
+        }
+    }
+
+    /**
+     * 대기열의 이미지 삭제
+     *
+     * @return 삭제 요청한 객체 수
+     */
+    public int flush() {
+        int deletedCount = 0;
+        List<String> batch = new ArrayList<>();
+        while (pendingUrls.drainTo(batch, FLUSH_BATCH_SIZE) > 0) {
+            deletedCount += deleteUnreferenced(batch);
+            batch.clear();
+        }
+        return deletedCount;
+    }
+
+    /**
+     * 고아 이미지 정리 (다른 서버가 실행 중이면 건너뜀)
+     * 참조 이미지는 호스트와 관계없이 URL 경로의 key로 비교 (버킷 URL, CDN, 이전 public-url 모두 같은 key로 인식)
+     *
+     * @return 삭제 요청한 객체 수 (dry-run이면 0)
+     * @throws IllegalStateException 해석할 수 없는 상품 이미지 URL이 있는 경우 (사용 중인 이미지 삭제 방지를 위해 중단)
+     */
+    public int sweepOrphans() {
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(SWEEP_LOCK_KEY, "1", SWEEP_LOCK_TTL);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("고아 이미지 정리 건너뜀 - 다른 서버에서 실행 중");
+            return 0;
+        }
+
+        try {
+            boolean dryRun = imageUploadConfig.isOrphanSweepDryRun();
+            int maxDeletes = imageUploadConfig.getOrphanSweepMaxDeletes();
+            Instant cutoff = Instant.now().minus(imageUploadConfig.getOrphanGracePeriod());
+            List<String> candidateKeys = new ArrayList<>();
+            int[] counts = new int[2];  // [0]: 고아 객체 수, [1]: 삭제 수
+            s3Service.forEachObject(PRODUCT_IMAGE_PREFIX, object -> {
+                if (object.lastModified().isAfter(cutoff) || counts[0] > maxDeletes) {
+                    return;
+                }
+                candidateKeys.add(object.key());
+                if (candidateKeys.size() >= FLUSH_BATCH_SIZE) {
+                    sweepBatch(candidateKeys, dryRun, maxDeletes, counts);
+                    candidateKeys.clear();
+                }
+            });
+            sweepBatch(candidateKeys, dryRun, maxDeletes, counts);
+
+            if (dryRun) {
+                log.info("고아 이미지 정리(dry-run) - 삭제 대상 {}개 객체, 삭제하지 않음", Math.min(counts[0], maxDeletes));
+            } else if (counts[0] > maxDeletes) {
+                log.warn("고아 이미지 정리 - 최대 {}개까지 삭제, 나머지는 다음 실행에서 처리", maxDeletes);
+            }
+            return counts[1];
+        } finally {
+            redisTemplate.delete(SWEEP_LOCK_KEY);
+        }
+    }
+
+    private void offer(String imageUrl) {
+        if (!pendingUrls.offer(imageUrl)) {
+            // 고아 이미지 정리에서 삭제됨
+            droppedCounter.increment();
+            log.warn("이미지 삭제 대기열 초과 - 고아 이미지 정리로 처리: {}", imageUrl);
+        }
+    }
+
+    /**
+     * 목록 배치 하나에서 참조되지 않는 객체 삭제 (삭제 직전에 참조 확인)
+     * 원본이 참조되는 축소 이미지 디렉토리의 객체는 모두 사용 중으로 봄
+     */
+    private void sweepBatch(List<String> candidateKeys, boolean dryRun, int maxDeletes, int[] counts) {
+        if (candidateKeys.isEmpty()) {
+            return;
+        }
+
+        // 하위 디렉토리의 객체는 디렉토리 단위로, products/ 바로 아래 객체는 key 단위로 조회
+        Set<String> fragments = new LinkedHashSet<>();
+        for (String key : candidateKeys) {
+            String directory = directoryOf(key);
+            fragments.add(PRODUCT_IMAGE_PREFIX.equals(directory) ? key : directory);
+        }
+        Set<String> referencedKeys = findReferencedKeys(fragments);
+        Set<String> referencedDirectories = new HashSet<>();
+        for (String s3Key : referencedKeys) {
+            if (ImageVariant.THUMBNAIL.resolveUrl(s3Key) != null) {
+                referencedDirectories.add(directoryOf(s3Key));
+            }
+        }
+
+        List<String> orphanKeys = new ArrayList<>();
+        for (String key : candidateKeys) {
+            if (referencedKeys.contains(key) || referencedDirectories.contains(directoryOf(key))) {
+                continue;
+            }
+            if (++counts[0] > maxDeletes) {
+                break;
+            }
+            if (dryRun) {
+                log.info("고아 이미지 정리(dry-run) - 삭제 대상: {}", key);
+                continue;
+            }
+            orphanKeys.add(key);
+        }
+        counts[1] += deleteKeys(orphanKeys);
+    }
+
+    /**
+     * 어떤 상품도 사용하지 않는 이미지만 삭제
+     * 참조 여부는 고아 이미지 정리와 같이 호스트와 관계없이 key로 비교 (CDN/이전 public-url로 같은 객체를 가리키는 상품 보호)
+     */
+    private int deleteUnreferenced(List<String> imageUrls) {
+        Set<String> candidateKeys = new LinkedHashSet<>();
+        for (String imageUrl : imageUrls) {
+            String s3Key = s3Service.findS3Key(imageUrl);
+            if (s3Key == null || !s3Key.startsWith(PRODUCT_IMAGE_PREFIX)) {
+                // 이 버킷의 상품 이미지가 아님 (외부 URL 등)
+                log.debug("S3 상품 이미지가 아니므로 삭제하지 않음: {}", imageUrl);
+                continue;
+            }
+            candidateKeys.add(s3Key);
+        }
+        if (candidateKeys.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            candidateKeys.removeAll(findReferencedKeys(candidateKeys));
+        } catch (IllegalStateException e) {
+            // 참조 여부를 확인할 수 없으므로 삭제하지 않음 (남은 객체는 URL 수정 후 고아 이미지 정리에서 처리)
+            log.warn("이미지 삭제 건너뜀 - {}개 객체: {}", candidateKeys.size(), e.getMessage());
+            return 0;
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (String s3Key : candidateKeys) {
+            keys.add(s3Key);
+            for (ImageVariant variant : ImageVariant.values()) {
+                String variantKey = variant.resolveUrl(s3Key);
+                if (variantKey != null) {
+                    keys.add(variantKey);
+                }
+            }
+        }
+        return deleteKeys(keys);
+    }
+
+    /**
+     * key 경로 조각(key 또는 디렉토리)을 포함하는 상품 이미지 URL만 조회하여 참조 중인 key 반환
+     * LIKE는 후보를 좁히는 용도이며, 실제 참조 여부는 반환된 key를 호출 측에서 정확히 비교
+     *
+     * @throws IllegalStateException 조회된 URL 중 해석할 수 없는 URL이 있는 경우
+     */
+    private Set<String> findReferencedKeys(Collection<String> keyFragments) {
+        List<String> fragments = new ArrayList<>(keyFragments);
+        Set<String> referencedKeys = new HashSet<>();
+        for (int from = 0; from < fragments.size(); from += REFERENCE_QUERY_CHUNK_SIZE) {
+            List<String> chunk = fragments.subList(from, Math.min(from + REFERENCE_QUERY_CHUNK_SIZE, fragments.size()));
+            String sql = "SELECT DISTINCT image_url FROM product WHERE "
+                    + String.join(" OR ", Collections.nCopies(chunk.size(), "image_url LIKE ?"));
+            Object[] patterns = chunk.stream().map(fragment -> "%/" + escapeLike(fragment) + "%").toArray();
+            for (String imageUrl : jdbcTemplate.queryForList(sql, String.class, patterns)) {
+                String s3Key = findReferencedKey(imageUrl);
+                if (s3Key != null) {
+                    referencedKeys.add(s3Key);
+                }
+            }
+        }
+        return referencedKeys;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static String directoryOf(String s3Key) {
+        return s3Key.substring(0, s3Key.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * 상품 이미지 URL의 S3 key (호스트/접두 경로와 무관하게 경로의 products/ 세그먼트부터)
+     *
+     * @return 고아 이미지 정리 대상 디렉토리 밖의 URL(외부 이미지 등)이면 null
+     * @throws IllegalStateException URL을 해석할 수 없는 경우
+     */
+    private static String findReferencedKey(String imageUrl) {
+        if (imageUrl.isBlank()) {
+            return null;
+        }
+        String path;
+        try {
+            path = new URI(imageUrl.trim()).getPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("해석할 수 없는 상품 이미지 URL: " + imageUrl, e);
+        }
+        if (path == null) {
+            throw new IllegalStateException("해석할 수 없는 상품 이미지 URL: " + imageUrl);
+        }
+
+        // 경로 세그먼트 경계에서 시작하는 products/ 찾기 (path-style 버킷 이름, CDN 경로 접두사 무시)
+        int index = path.indexOf(PRODUCT_IMAGE_PREFIX);
+        while (index > 0 && path.charAt(index - 1) != '/') {
+            index = path.indexOf(PRODUCT_IMAGE_PREFIX, index + 1);
+        }
+        return index < 0 ? null : path.substring(index);
+    }
+
+    private int deleteKeys(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        int failedCount = s3Service.deleteObjects(keys);
+        int deletedCount = keys.size() - failedCount;
+        deletedCounter.increment(deletedCount);
+        return deletedCount;
+    }
+}
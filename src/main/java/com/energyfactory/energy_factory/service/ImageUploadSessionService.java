@@ -0,0 +1,257 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.ImageUploadConfig;
+import com.energyfactory.energy_factory.dto.ImageUploadSessionRequestDto;
+import com.energyfactory.energy_factory.dto.ImageUploadSessionResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 직접 업로드 세션 서비스
+ *
+ * 이미지 파일을 서버를 거치지 않고 클라이언트가 S3에 바로 올리도록 pre-signed PUT URL 발급
+ * - 저장 경로(key)는 서버가 정하며 지정한 디렉토리 아래로만 발급 (클라이언트가 경로 선택 불가)
+ * - Content-Type과 Content-Length를 서명에 포함하여 선언한 형식/크기로만 업로드 가능
+ * - 완료 요청 시 HEAD로 크기/형식을, 앞부분 몇 바이트로 실제 이미지 여부를 확인하고 URL 반환
+ *   (확인에 실패한 객체는 삭제)
+ * - 서버와 클라이언트는 작은 JSON만 주고받음 (축소 이미지는 서버 업로드 경로에서만 생성)
+ *
+ * 키 구조
+ * - image_upload_session:{sessionId} - 업로드 세션 (key, contentType, size), TTL: uploadSessionTtl
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true")  // AWS_S3_ENABLED=true일 때만 로드
+public class ImageUploadSessionService {
+
+    private static final String SESSION_PREFIX = "image_upload_session:";
+
+    /**
+     * 허용 확장자별 Content-Type
+     */
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp"
+    );
+
+    /**
+     * 이미지 형식 확인에 읽는 앞부분 크기
+     */
+    private static final int SIGNATURE_LENGTH = 12;
+
+    /**
+     * 업로드 세션
+     */
+    private record UploadSession(String key, String contentType, long size) {
+    }
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3Service s3Service;
+    private final ImageUploadConfig imageUploadConfig;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    public ImageUploadSessionService(S3Client s3Client,
+                                     S3Presigner s3Presigner,
+                                     S3Service s3Service,
+                                     ImageUploadConfig imageUploadConfig,
+                                     RedisTemplate<String, String> redisTemplate,
+                                     ObjectMapper objectMapper) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.s3Service = s3Service;
+        this.imageUploadConfig = imageUploadConfig;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 업로드 세션 생성 (pre-signed PUT URL 발급)
+     *
+     * @param directory 저장 디렉토리 (예: products)
+     * @throws IllegalArgumentException 형식/크기가 허용 범위를 벗어난 경우
+     */
+    public ImageUploadSessionResponseDto createSession(String directory, ImageUploadSessionRequestDto request) {
+        String extension = getFileExtension(request.getFileName()).toLowerCase();
+        String contentType = CONTENT_TYPES.get(extension);
+        if (contentType == null) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. (jpg, jpeg, png, gif, webp만 가능)");
+        }
+        if (!contentType.equalsIgnoreCase(request.getContentType())) {
+            throw new IllegalArgumentException("파일 확장자와 Content-Type이 일치하지 않습니다");
+        }
+        if (request.getSize() > imageUploadConfig.getMaxFileSize().toBytes()) {
+            throw new IllegalArgumentException(
+                    "파일 크기는 " + imageUploadConfig.getMaxFileSize().toMegabytes() + "MB를 초과할 수 없습니다");
+        }
+
+        String sessionId = UUID.randomUUID().toString();
+        String s3Key = directory + "/" + UUID.randomUUID() + "." + extension;
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(imageUploadConfig.getPresignExpiry())
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .contentType(contentType)
+                        .contentLength(request.getSize())
+                        .build())
+                .build());
+
+        // 업로드 요청에 포함해야 하는 서명 헤더 (Host는 클라이언트가 자동으로 설정)
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        UploadSession session = new UploadSession(s3Key, contentType, request.getSize());
+        redisTemplate.opsForValue().set(SESSION_PREFIX + sessionId, toJson(session),
+                imageUploadConfig.getUploadSessionTtl().toMillis(), TimeUnit.MILLISECONDS);
+
+        log.info("Image upload session created: sessionId={}, key={}, size={}", sessionId, s3Key, request.getSize());
+
+        return ImageUploadSessionResponseDto.builder()
+                .sessionId(sessionId)
+                .uploadUrl(presigned.url().toString())
+                .method("PUT")
+                .headers(headers)
+                .expiresAt(presigned.expiration())
+                .build();
+    }
+
+    /**
+     * 업로드 완료 확인 및 이미지 URL 반환
+     *
+     * @throws IllegalArgumentException 세션이 없거나, 업로드되지 않았거나, 선언과 다른 파일인 경우
+     */
+    public String completeSession(String sessionId) {
+        String json = redisTemplate.opsForValue().get(SESSION_PREFIX + sessionId);
+        if (json == null) {
+            throw new IllegalArgumentException("업로드 세션이 없거나 만료되었습니다");
+        }
+        UploadSession session = fromJson(json);
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(session.key())
+                    .build());
+        } catch (NoSuchKeyException e) {
+            // 세션은 유지 (업로드 후 다시 완료 요청 가능)
+            throw new IllegalArgumentException("업로드된 파일이 없습니다");
+        }
+
+        if (head.contentLength() == null || head.contentLength() != session.size()
+                || !session.contentType().equalsIgnoreCase(head.contentType())
+                || !hasImageSignature(session)) {
+            deleteObject(session.key());
+            redisTemplate.delete(SESSION_PREFIX + sessionId);
+            throw new IllegalArgumentException("업로드된 파일이 요청한 형식/크기와 다릅니다");
+        }
+
+        redisTemplate.delete(SESSION_PREFIX + sessionId);
+        String fileUrl = s3Service.getObjectUrl(session.key());
+        log.info("Image upload session completed: sessionId={}, url={}", sessionId, fileUrl);
+        return fileUrl;
+    }
+
+    /**
+     * 파일 앞부분으로 선언한 이미지 형식인지 확인
+     */
+    private boolean hasImageSignature(UploadSession session) {
+        ResponseBytes<GetObjectResponse> bytes = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(session.key())
+                .range("bytes=0-" + (SIGNATURE_LENGTH - 1))
+                .build());
+        byte[] header = bytes.asByteArray();
+
+        return switch (session.contentType()) {
+            case "image/jpeg" -> startsWith(header, 0, (byte) 0xFF, (byte) 0xD8, (byte) 0xFF);
+            case "image/png" -> startsWith(header, 0, (byte) 0x89, (byte) 'P', (byte) 'N', (byte) 'G');
+            case "image/gif" -> startsWith(header, 0, "GIF8".getBytes(StandardCharsets.US_ASCII));
+            case "image/webp" -> startsWith(header, 0, "RIFF".getBytes(StandardCharsets.US_ASCII))
+                    && startsWith(header, 8, "WEBP".getBytes(StandardCharsets.US_ASCII));
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(byte[] data, int offset, byte... prefix) {
+        if (data.length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void deleteObject(String s3Key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to delete rejected upload: key={}, error={}", s3Key, e.getMessage());
+        }
+    }
+
+    private String getFileExtension(String filename) {
+        if (filename == null || filename.lastIndexOf(".") == -1) {
+            throw new IllegalArgumentException("파일 확장자를 찾을 수 없습니다");
+        }
+        return filename.substring(filename.lastIndexOf(".") + 1);
+    }
+
+    private String toJson(UploadSession session) {
+        try {
+            return objectMapper.writeValueAsString(session);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("업로드 세션 직렬화 실패", e);
+        }
+    }
+
+    private UploadSession fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, UploadSession.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("업로드 세션 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.MailConfig;
+import com.energyfactory.energy_factory.utils.enums.MailTemplateType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 메일 발송 워커
+ *
+ * MailQueue에 저장된 메일을 워커 스레드가 가져와 발송
+ * - 워커마다 SMTP 연결 하나를 열어 두고 여러 메일에 재사용 (메일마다 연결/TLS/인증을 반복하지 않음)
+ * - 유휴 시간이 connectionIdleTimeout을 넘은 연결은 닫고 다음 발송 시 새로 연결
+ * - 템플릿은 시작 시 한 번 읽어 고정 문자열/변수 조각으로 나눠 두고, 발송 시 이어 붙이기만 함
+ * - 실패 시 지수 백오프(지터 포함)로 재시도, 수신자 주소 오류나 최대 시도 초과 시 실패 목록으로 이동
+ * - 유효 시간이 지난 메일(만료된 인증 코드 등)은 발송하지 않고 제거
+ * - 메일마다 발송 직전에 처리 제한 시간(lease)을 연장하고, SMTP 연결/읽기/쓰기 타임아웃(spring.mail.properties)은
+ *   lease보다 충분히 짧게 설정하여 느린 SMTP 서버 때문에 같은 메일이 다른 워커에게 중복 발송되지 않도록 함
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "spring.mail.host")
+public class MailDispatcher implements DisposableBean {
+
+    private final MailQueue mailQueue;
+    private final MailConfig mailConfig;
+    private final JavaMailSenderImpl mailSender;
+
+    private final Map<MailTemplateType, CompiledTemplate> templates = new EnumMap<>(MailTemplateType.class);
+    private final ExecutorService workers;
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Counter expiredCounter;
+    private final Timer deliveryTimer;
+
+    /**
+     * 미리 분석한 템플릿 (고정 문자열과 변수 이름이 번갈아 나옴)
+     */
+    private record CompiledTemplate(List<String> literals, List<String> variables) {
+
+        private static final Pattern VARIABLE = Pattern.compile("\\{\\{(\\w+)}}");
+
+        static CompiledTemplate compile(String source) {
+            List<String> literals = new ArrayList<>();
+            List<String> variables = new ArrayList<>();
+            Matcher matcher = VARIABLE.matcher(source);
+            int position = 0;
+            while (matcher.find()) {
+                literals.add(source.substring(position, matcher.start()));
+                variables.add(matcher.group(1));
+                position = matcher.end();
+            }
+            literals.add(source.substring(position));
+            return new CompiledTemplate(List.copyOf(literals), List.copyOf(variables));
+        }
+
+        String render(Map<String, String> params) {
+            StringBuilder builder = new StringBuilder(literals.stream().mapToInt(String::length).sum() + 64);
+            for (int i = 0; i < variables.size(); i++) {
+                String value = params.get(variables.get(i));
+                if (value == null) {
+                    throw new IllegalArgumentException("템플릿 변수 누락: " + variables.get(i));
+                }
+                builder.append(literals.get(i)).append(HtmlUtils.htmlEscape(value));
+            }
+            return builder.append(literals.get(literals.size() - 1)).toString();
+        }
+    }
+
+    public MailDispatcher(MailQueue mailQueue,
+                          MailConfig mailConfig,
+                          JavaMailSenderImpl mailSender,
+                          MeterRegistry meterRegistry) {
+        this.mailQueue = mailQueue;
+        this.mailConfig = mailConfig;
+        this.mailSender = mailSender;
+
+        for (MailTemplateType type : MailTemplateType.values()) {
+            templates.put(type, CompiledTemplate.compile(loadTemplate(type)));
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(mailConfig.getWorkerThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "mail-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.sentCounter = Counter.builder("mail.sent").register(meterRegistry);
+        this.retryCounter = Counter.builder("mail.retry").register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.failed").register(meterRegistry);
+        this.expiredCounter = Counter.builder("mail.expired").register(meterRegistry);
+        this.deliveryTimer = Timer.builder("mail.delivery.latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 후 워커 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        for (int i = 0; i < mailConfig.getWorkerThreads(); i++) {
+            workers.execute(new Worker());
+        }
+        log.info("메일 발송 워커 시작 - {}개", mailConfig.getWorkerThreads());
+    }
+
+    /**
+     * 새 메일이 저장되었음을 알림 (대기 중인 워커를 바로 깨움)
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() < mailConfig.getWorkerThreads()) {
+            wakeUps.release();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 발송 워커 (SMTP 연결 하나를 소유)
+     */
+    private final class Worker implements Runnable {
+
+        private Transport transport;
+        private long lastUsedAt;
+
+        @Override
+        public void run() {
+            try {
+                while (running && !Thread.currentThread().isInterrupted()) {
+                    List<MailQueue.MailJob> jobs;
+                    try {
+                        jobs = mailQueue.claim(mailConfig.getClaimBatchSize(), mailConfig.getLease());
+                    } catch (Exception e) {
+                        log.error("메일 대기열 조회 실패", e);
+                        jobs = List.of();
+                    }
+
+                    if (jobs.isEmpty()) {
+                        closeIfIdle();
+                        wakeUps.tryAcquire(mailConfig.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                        continue;
+                    }
+                    for (MailQueue.MailJob job : jobs) {
+                        process(job);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        private void process(MailQueue.MailJob job) {
+            try {
+                if (job.isExpired(System.currentTimeMillis())) {
+                    mailQueue.complete(job);
+                    expiredCounter.increment();
+                    log.info("유효 시간이 지난 메일 제거: id={}, to={}", job.id(), job.to());
+                    return;
+                }
+
+                if (!mailQueue.renew(job, mailConfig.getLease())) {
+                    log.debug("이미 처리된 메일 - 건너뜀: id={}", job.id());
+                    return;
+                }
+                send(buildMessage(job));
+                mailQueue.complete(job);
+                sentCounter.increment();
+                deliveryTimer.record(Math.max(System.currentTimeMillis() - job.createdAt(), 0), TimeUnit.MILLISECONDS);
+                log.info("이메일 발송 성공: {}", job.to());
+            } catch (Exception e) {
+                handleFailure(job, e);
+            }
+        }
+
+        private void send(MimeMessage message) throws MessagingException {
+            Transport connected = connect();
+            try {
+                connected.sendMessage(message, message.getAllRecipients());
+                lastUsedAt = System.currentTimeMillis();
+            } catch (MessagingException e) {
+                // 연결 상태를 알 수 없으므로 다음 발송은 새 연결로
+                close();
+                throw e;
+            }
+        }
+
+        private Transport connect() throws MessagingException {
+            closeIfIdle();
+            if (transport == null) {
+                String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : "smtp";
+                Transport created = mailSender.getSession().getTransport(protocol);
+                created.connect(mailSender.getHost(), mailSender.getPort(),
+                        mailSender.getUsername(), mailSender.getPassword());
+                transport = created;
+                lastUsedAt = System.currentTimeMillis();
+            }
+            return transport;
+        }
+
+        private void closeIfIdle() {
+            if (transport != null
+                    && System.currentTimeMillis() - lastUsedAt > mailConfig.getConnectionIdleTimeout().toMillis()) {
+                close();
+            }
+        }
+
+        private void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+
+    private MimeMessage buildMessage(MailQueue.MailJob job) throws MessagingException, IOException {
+        MailTemplateType type = MailTemplateType.valueOf(job.template());
+        String content = templates.get(type).render(job.params());
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom(mailConfig.getFrom(), mailConfig.getFromName());
+        helper.setTo(job.to());
+        helper.setSubject(type.getSubject());
+        helper.setText(content, true); // HTML 사용
+        message.setSentDate(new Date());
+        message.saveChanges();
+        return message;
+    }
+
+    private void handleFailure(MailQueue.MailJob job, Exception e) {
+        MailQueue.MailJob attempted = job.withAttempts(job.attempts() + 1);
+        try {
+            if (isPermanent(e) || attempted.attempts() >= mailConfig.getMaxAttempts()) {
+                mailQueue.deadLetter(attempted, e.getClass().getSimpleName() + ": " + e.getMessage(),
+                        mailConfig.getDeadLetterMaxSize());
+                failedCounter.increment();
+                log.error("이메일 발송 실패 - 재시도 중단: id={}, to={}, attempts={}",
+                        job.id(), job.to(), attempted.attempts(), e);
+                return;
+            }
+
+            Duration delay = backoff(attempted.attempts());
+            mailQueue.retry(attempted, delay);
+            retryCounter.increment();
+            log.warn("이메일 발송 실패 - {}ms 후 재시도: id={}, to={}, attempts={}, error={}",
+                    delay.toMillis(), job.id(), job.to(), attempted.attempts(), e.getMessage());
+        } catch (Exception queueError) {
+            // 대기열 갱신에 실패해도 처리 제한 시간이 지나면 다시 발송됨
+            log.error("메일 재시도 예약 실패: id={}", job.id(), queueError);
+        }
+    }
+
+    /**
+     * 재시도 대기 시간 (initialBackoff × 2^(시도-1), 최대 maxBackoff, 절반 구간 무작위 지터)
+     */
+    private Duration backoff(int attempts) {
+        long initial = mailConfig.getInitialBackoff().toMillis();
+        long max = mailConfig.getMaxBackoff().toMillis();
+        long delay = Math.min(max, initial << Math.min(attempts - 1, 20));
+        return Duration.ofMillis(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+
+    /**
+     * 재시도해도 성공할 수 없는 실패 (수신자 주소 오류, 템플릿/데이터 오류)
+     */
+    private static boolean isPermanent(Exception e) {
+        if (e instanceof SendFailedException sendFailed) {
+            return sendFailed.getInvalidAddresses() != null && sendFailed.getInvalidAddresses().length > 0;
+        }
+        return e instanceof IllegalArgumentException;
+    }
+
+    private static String loadTemplate(MailTemplateType type) {
+        try {
+            return StreamUtils.copyToString(new ClassPathResource(type.getPath()).getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("메일 템플릿 로드 실패: " + type.getPath(), e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.energyfactory.energy_factory.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 메일 발송 대기열 (Redis)
+ *
+ * 요청 스레드는 대기열에 저장만 하고, 발송은 MailDispatcher 워커가 수행
+ * - 발송 예정 시각을 점수로 하는 sorted set 하나로 신규/재시도 메일을 함께 관리
+ * - 워커가 가져간 메일은 점수를 처리 제한 시각(lease)으로 바꿔 두므로, 워커/서버가 중단되면
+ *   제한 시각 이후 다른 워커가 다시 가져감 (최소 한 번 발송)
+ * - 최대 시도 횟수를 넘긴 메일은 본문 변수(인증 코드 등)를 뺀 요약만 실패 목록에 보관
+ *
+ * 키 구조
+ * - mail:jobs (hash) - 메일 ID → 직렬화된 MailJob
+ * - mail:schedule (zset) - 메일 ID, 점수: 발송 예정(또는 처리 제한) 시각(ms)
+ * - mail:dead (list) - 실패한 메일 요약 (최근 deadLetterMaxSize건)
+ */
+@Slf4j
+@Service
+public class MailQueue {
+
+    private static final String JOBS_KEY = "mail:jobs";
+    private static final String SCHEDULE_KEY = "mail:schedule";
+    private static final String DEAD_KEY = "mail:dead";
+
+    /**
+     * 저장/재시도 예약
+     * KEYS[1]: 예약 키, KEYS[2]: 메일 키, ARGV[1]: 메일 ID, ARGV[2]: 직렬화된 메일, ARGV[3]: 발송 예정 시각
+     */
+    private static final RedisScript<Long> SCHEDULE_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            return redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+            """, Long.class);
+
+    /**
+     * 발송할 메일 가져오기 (가져간 메일은 처리 제한 시각까지 다른 워커가 가져가지 않음)
+     * KEYS[1]: 예약 키, KEYS[2]: 메일 키, ARGV[1]: 현재 시각, ARGV[2]: 처리 제한 시각, ARGV[3]: 최대 개수
+     * 반환: [ID, 직렬화된 메일, ID, 직렬화된 메일, ...]
+     */
+    private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3])
+            local result = {}
+            for _, id in ipairs(ids) do
+                local job = redis.call('HGET', KEYS[2], id)
+                if job then
+                    redis.call('ZADD', KEYS[1], ARGV[2], id)
+                    result[#result + 1] = id
+                    result[#result + 1] = job
+                else
+                    redis.call('ZREM', KEYS[1], id)
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 처리 제한 시각 연장 (대기열에 남아 있는 경우에만)
+     * KEYS[1]: 예약 키, ARGV[1]: 메일 ID, ARGV[2]: 새 처리 제한 시각
+     * 반환: 1 연장, 0 이미 제거됨(다른 워커가 처리 완료)
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of("""
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 대기열에서 제거 (발송 완료/만료/실패)
+     * KEYS[1]: 예약 키, KEYS[2]: 메일 키, KEYS[3]: 실패 목록 키
+     * ARGV[1]: 메일 ID, ARGV[2]: 실패 요약 (빈 문자열이면 기록 안 함), ARGV[3]: 실패 목록 최대 크기
+     */
+    private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of("""
+            redis.call('ZREM', KEYS[1], ARGV[1])
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            if ARGV[2] ~= '' then
+                redis.call('LPUSH', KEYS[3], ARGV[2])
+                redis.call('LTRIM', KEYS[3], 0, tonumber(ARGV[3]) - 1)
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 대기열의 메일
+     *
+     * @param id        메일 ID
+     * @param template  템플릿 이름 (MailTemplateType)
+     * @param to        수신자 이메일
+     * @param params    템플릿 변수
+     * @param attempts  지금까지의 발송 시도 횟수
+     * @param createdAt 저장 시각(ms)
+     * @param expiresAt 이 시각(ms)이 지나면 발송하지 않음 (0: 제한 없음)
+     */
+    public record MailJob(String id, String template, String to, Map<String, String> params,
+                          int attempts, long createdAt, long expiresAt) {
+
+        public MailJob withAttempts(int attempts) {
+            return new MailJob(id, template, to, params, attempts, createdAt, expiresAt);
+        }
+
+        public boolean isExpired(long now) {
+            return expiresAt > 0 && now > expiresAt;
+        }
+    }
+
+    /**
+     * 실패 목록 항목 (템플릿 변수는 보관하지 않음)
+     */
+    public record DeadLetter(String id, String template, String to, int attempts, String error, long failedAt) {
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public MailQueue(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 메일 저장 (즉시 발송 대상)
+     *
+     * @param validity 유효 시간 (지나면 발송하지 않음, null이면 제한 없음)
+     */
+    public MailJob enqueue(String template, String to, Map<String, String> params, Duration validity) {
+        long now = System.currentTimeMillis();
+        MailJob job = new MailJob(UUID.randomUUID().toString(), template, to, params, 0, now,
+                validity == null ? 0 : now + validity.toMillis());
+        schedule(job, now);
+        return job;
+    }
+
+    /**
+     * 발송할 메일 가져오기
+     *
+     * @param maxCount 최대 개수
+     * @param lease    처리 제한 시간
+     */
+    @SuppressWarnings("unchecked")
+    public List<MailJob> claim(int maxCount, Duration lease) {
+        long now = System.currentTimeMillis();
+        List<String> result = redisTemplate.execute(CLAIM_SCRIPT, List.of(SCHEDULE_KEY, JOBS_KEY),
+                String.valueOf(now), String.valueOf(now + lease.toMillis()), String.valueOf(maxCount));
+        if (result == null || result.isEmpty()) {
+            return List.of();
+        }
+
+        List<MailJob> jobs = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            try {
+                jobs.add(objectMapper.readValue(result.get(i + 1), MailJob.class));
+            } catch (JsonProcessingException e) {
+                log.error("메일 대기열 항목 역직렬화 실패 - 제거: id={}", result.get(i), e);
+                remove(result.get(i), "");
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * 발송 직전 처리 제한 시간 연장
+     * 한 번에 여러 메일을 가져가므로, 메일마다 발송 시작 시점부터 다시 lease를 적용하여
+     * 앞선 메일 발송이 오래 걸려도 뒤의 메일이 제한 시간을 넘겨 다른 워커에게 중복 발송되지 않도록 함
+     *
+     * @return 연장 여부 (false면 이미 다른 워커가 처리 완료)
+     */
+    public boolean renew(MailJob job, Duration lease) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(SCHEDULE_KEY),
+                job.id(), String.valueOf(System.currentTimeMillis() + lease.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 발송 완료 (또는 만료) 처리
+     */
+    public void complete(MailJob job) {
+        remove(job.id(), "");
+    }
+
+    /**
+     * 재시도 예약
+     *
+     * @param delay 재시도까지 대기 시간
+     */
+    public void retry(MailJob job, Duration delay) {
+        schedule(job, System.currentTimeMillis() + delay.toMillis());
+    }
+
+    /**
+     * 실패 처리 (대기열에서 제거하고 실패 목록에 요약 기록)
+     */
+    public void deadLetter(MailJob job, String error, int maxSize) {
+        DeadLetter deadLetter = new DeadLetter(job.id(), job.template(), job.to(), job.attempts(), error,
+                System.currentTimeMillis());
+        redisTemplate.execute(REMOVE_SCRIPT, List.of(SCHEDULE_KEY, JOBS_KEY, DEAD_KEY),
+                job.id(), toJson(deadLetter), String.valueOf(maxSize));
+    }
+
+    private void schedule(MailJob job, long dueAt) {
+        redisTemplate.execute(SCHEDULE_SCRIPT, List.of(SCHEDULE_KEY, JOBS_KEY),
+                job.id(), toJson(job), String.valueOf(dueAt));
+    }
+
+    private void remove(String id, String deadLetter) {
+        redisTemplate.execute(REMOVE_SCRIPT, List.of(SCHEDULE_KEY, JOBS_KEY, DEAD_KEY), id, deadLetter, "0");
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메일 대기열 항목 직렬화 실패", e);
+        }
+    }
+}
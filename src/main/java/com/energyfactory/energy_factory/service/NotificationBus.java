@@ -0,0 +1,291 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.NotificationConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 서버 간 알림 전달 버스 (Redis pub/sub)
+ *
+ * 알림은 사용자 ID 해시로 나눈 파티션 채널(notifications:{partition})에 발행하고,
+ * 각 서버는 로컬 SSE 연결이 있는 파티션만 구독하여 자신에게 연결된 사용자에게 전달
+ * - 발행: 호출 스레드는 대기열에 넣기만 하고, 발행 스레드가 flushInterval마다 파티션별로 묶어 한 번에 발행
+ *   (발신함 발송기는 publishNow로 기록과 발행이 끝날 때까지 기다리고 실패를 예외로 받음)
+ * - 발행 전에 사용자별 알림 기록(NotificationLog)에 남기고, 기록 ID를 SSE 이벤트 ID로 사용
+ * - 수신: 메시지(배치) 단위로 로컬 전달 핸들러 호출
+ * - 발행 요청 시각은 Envelope에 담아 전달 (전송 시 notification.delivery.latency로 기록)
+ */
+@Slf4j
+@Service
+public class NotificationBus implements MessageListener, DisposableBean {
+
+    private static final String CHANNEL_PREFIX = "notifications:";
+    private static final TypeReference<List<Envelope>> BATCH_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * 서버 간 전달 단위
+     *
+     * @param userId    수신 사용자 ID
+     * @param id        알림 기록 ID (기록 실패 시 null)
+     * @param payload   직렬화된 NotificationDto (발행 시 한 번만 직렬화)
+     * @param createdAt 발행 요청 시각 (epoch 밀리초)
+     */
+    public record Envelope(Long userId, String id, String payload, long createdAt) {
+
+        Envelope withId(String id) {
+            return new Envelope(userId, id, payload, createdAt);
+        }
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final NotificationConfig notificationConfig;
+    private final NotificationLog notificationLog;
+
+    private final BlockingQueue<Envelope> pending;
+    private final ScheduledExecutorService publisher;
+
+    /**
+     * 파티션별 로컬 연결 수 (0 → 1 구독, 1 → 0 구독 해제)
+     */
+    private final int[] subscriberCounts;
+    private int subscribedPartitions;
+
+    private volatile Consumer<List<Envelope>> localDelivery = batch -> {
+    };
+
+    private final Counter droppedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public NotificationBus(RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           ObjectMapper objectMapper,
+                           NotificationConfig notificationConfig,
+                           NotificationLog notificationLog,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.notificationConfig = notificationConfig;
+        this.notificationLog = notificationLog;
+        this.pending = new LinkedBlockingQueue<>(notificationConfig.getMaxPending());
+        this.subscriberCounts = new int[notificationConfig.getPartitions()];
+
+        this.droppedCounter = Counter.builder("notification.publish.dropped")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("notification.publish.batch.size")
+                .register(meterRegistry);
+        Gauge.builder("notification.publish.pending", pending, BlockingQueue::size)
+                .register(meterRegistry);
+        Gauge.builder("notification.subscribed.partitions", this, NotificationBus::getSubscribedPartitions)
+                .register(meterRegistry);
+
+        this.publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = notificationConfig.getFlushInterval().toMillis();
+        publisher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 로컬 전달 핸들러 등록 (수신한 배치 중 이 서버에 연결된 사용자 알림 전달)
+     */
+    public void setLocalDelivery(Consumer<List<Envelope>> localDelivery) {
+        this.localDelivery = localDelivery;
+    }
+
+    /**
+     * 알림 발행 요청 (대기열에 넣고 즉시 반환)
+     *
+     * @param userId  수신 사용자 ID
+     * @param payload 직렬화된 알림
+     */
+    public void publish(Long userId, String payload) {
+        if (!pending.offer(new Envelope(userId, null, payload, System.currentTimeMillis()))) {
+            droppedCounter.increment();
+            log.warn("알림 발행 대기열 초과 - userId: {}", userId);
+        }
+    }
+
+    /**
+     * 알림 즉시 발행 (대기열을 거치지 않고 기록과 발행이 끝난 뒤 반환)
+     * 기록 또는 발행에 실패하면 예외를 던지므로, 호출 측은 성공한 경우에만 발송 완료로 처리
+     *
+     * @param payloadsByUser 사용자 ID별 직렬화된 알림
+     * @throws IllegalStateException 기록 또는 발행 실패
+     */
+    public void publishNow(Map<Long, String> payloadsByUser) {
+        long now = System.currentTimeMillis();
+        List<Envelope> envelopes = new ArrayList<>(payloadsByUser.size());
+        payloadsByUser.forEach((userId, payload) -> envelopes.add(new Envelope(userId, null, payload, now)));
+
+        int maxBatchSize = notificationConfig.getMaxBatchSize();
+        for (Map.Entry<Integer, List<Envelope>> entry : groupByPartition(envelopes).entrySet()) {
+            List<Envelope> partitionEnvelopes = entry.getValue();
+            for (int from = 0; from < partitionEnvelopes.size(); from += maxBatchSize) {
+                List<Envelope> batch = withIds(partitionEnvelopes.subList(
+                        from, Math.min(from + maxBatchSize, partitionEnvelopes.size())));
+                try {
+                    redisTemplate.convertAndSend(CHANNEL_PREFIX + entry.getKey(), objectMapper.writeValueAsString(batch));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("알림 배치 직렬화 실패", e);
+                }
+                batchSizeSummary.record(batch.size());
+            }
+        }
+    }
+
+    /**
+     * 사용자의 로컬 연결 등록 (해당 파티션의 첫 연결이면 채널 구독)
+     */
+    public synchronized void subscribe(Long userId) {
+        int partition = partitionOf(userId);
+        if (subscriberCounts[partition]++ == 0) {
+            listenerContainer.addMessageListener(this, topicOf(partition));
+            subscribedPartitions++;
+        }
+    }
+
+    /**
+     * 사용자의 로컬 연결 해제 (해당 파티션의 마지막 연결이면 구독 해제)
+     */
+    public synchronized void unsubscribe(Long userId) {
+        int partition = partitionOf(userId);
+        if (subscriberCounts[partition] == 0) {
+            return;
+        }
+        if (--subscriberCounts[partition] == 0) {
+            listenerContainer.removeMessageListener(this, topicOf(partition));
+            subscribedPartitions--;
+        }
+    }
+
+    public synchronized int getSubscribedPartitions() {
+        return subscribedPartitions;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        List<Envelope> batch;
+        try {
+            batch = objectMapper.readValue(message.getBody(), BATCH_TYPE);
+        } catch (Exception e) {
+            log.warn("알림 메시지 형식 오류 - channel: {}", new String(message.getChannel()));
+            return;
+        }
+
+        localDelivery.accept(batch);
+    }
+
+    @Override
+    public void destroy() {
+        publisher.shutdown();
+        flush();
+    }
+
+    /**
+     * 대기 중인 알림을 파티션별로 묶어 발행
+     */
+    private void flush() {
+        try {
+            List<Envelope> drained = new ArrayList<>();
+            pending.drainTo(drained);
+            if (drained.isEmpty()) {
+                return;
+            }
+
+            int maxBatchSize = notificationConfig.getMaxBatchSize();
+            for (Map.Entry<Integer, List<Envelope>> entry : groupByPartition(drained).entrySet()) {
+                List<Envelope> envelopes = entry.getValue();
+                for (int from = 0; from < envelopes.size(); from += maxBatchSize) {
+                    List<Envelope> batch = envelopes.subList(from, Math.min(from + maxBatchSize, envelopes.size()));
+                    send(entry.getKey(), batch);
+                }
+            }
+        } catch (Exception e) {
+            log.error("알림 발행 실패", e);
+        }
+    }
+
+    private void send(int partition, List<Envelope> batch) {
+        batch = record(batch);
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + partition, objectMapper.writeValueAsString(batch));
+            batchSizeSummary.record(batch.size());
+        } catch (JsonProcessingException e) {
+            log.error("알림 배치 직렬화 실패 - partition: {}", partition, e);
+        } catch (Exception e) {
+            droppedCounter.increment(batch.size());
+            log.error("알림 발행 실패 - partition: {}, count: {}, error: {}", partition, batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 알림 기록 후 기록 ID를 채운 배치 반환
+     * 기록에 실패해도 실시간 전달은 계속 (해당 알림은 재연결 시 재전송되지 않음)
+     */
+    private List<Envelope> record(List<Envelope> batch) {
+        try {
+            return withIds(batch);
+        } catch (Exception e) {
+            log.warn("알림 기록 실패 - count: {}, error: {}", batch.size(), e.getMessage());
+            return batch;
+        }
+    }
+
+    /**
+     * 알림 기록 후 기록 ID를 채운 배치 반환 (기록 실패 시 예외)
+     */
+    private List<Envelope> withIds(List<Envelope> batch) {
+        List<String> ids = notificationLog.append(batch);
+        List<Envelope> recorded = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            recorded.add(batch.get(i).withId(ids.get(i)));
+        }
+        return recorded;
+    }
+
+    private Map<Integer, List<Envelope>> groupByPartition(List<Envelope> envelopes) {
+        Map<Integer, List<Envelope>> byPartition = new HashMap<>();
+        for (Envelope envelope : envelopes) {
+            byPartition.computeIfAbsent(partitionOf(envelope.userId()), key -> new ArrayList<>()).add(envelope);
+        }
+        return byPartition;
+    }
+
+    private int partitionOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), subscriberCounts.length);
+    }
+
+    private ChannelTopic topicOf(int partition) {
+        return new ChannelTopic(CHANNEL_PREFIX + partition);
+    }
+}
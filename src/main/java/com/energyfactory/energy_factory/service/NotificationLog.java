@@ -0,0 +1,188 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.NotificationConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 알림 기록 (Redis Stream)
+ *
+ * SSE 연결이 끊긴 동안 발송된 알림을 재연결 시(Last-Event-ID) 다시 보내기 위해 보관
+ * - 스트림 ID(밀리초-순번)를 SSE 이벤트 ID로 사용 (사용자별로 단조 증가)
+ * - 개수(logMaxLength, 근사 trim)와 기간(logMaxAge) 기준으로 제한
+ * - 발행 배치를 사용자별로 나누어 사용자마다 Lua 스크립트 한 번씩, 파이프라인 한 번에 기록
+ *   (스크립트가 한 키만 다루므로 Redis Cluster에서도 CROSSSLOT 오류 없음)
+ *
+ * 키 구조
+ * - notification_log:{userId} (stream) - payload(직렬화된 NotificationDto)
+ */
+@Slf4j
+@Service
+public class NotificationLog {
+
+    private static final String LOG_PREFIX = "notification_log:";
+    private static final String PAYLOAD_FIELD = "payload";
+
+    /**
+     * 사용자 한 명의 알림 기록
+     * KEYS[1]: 사용자 기록 키, ARGV[1]: 최대 개수, ARGV[2]: TTL(초), ARGV[2 + i]: payload
+     * 반환: 각 알림의 스트림 ID
+     */
+    private static final byte[] APPEND_SCRIPT = """
+            local ids = {}
+            for i = 3, #ARGV do
+                ids[i - 2] = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'payload', ARGV[i])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return ids
+            """.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 재전송할 알림
+     *
+     * @param id      스트림 ID (SSE 이벤트 ID)
+     * @param payload 직렬화된 NotificationDto
+     */
+    public record Entry(String id, String payload) {
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationConfig notificationConfig;
+
+    public NotificationLog(RedisTemplate<String, String> redisTemplate, NotificationConfig notificationConfig) {
+        this.redisTemplate = redisTemplate;
+        this.notificationConfig = notificationConfig;
+    }
+
+    /**
+     * 알림 배치 기록
+     *
+     * @return 입력 순서대로의 스트림 ID
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> append(List<NotificationBus.Envelope> envelopes) {
+        // 사용자별 입력 위치 (발생 순서 유지)
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < envelopes.size(); i++) {
+            indexesByUser.computeIfAbsent(envelopes.get(i).userId(), key -> new ArrayList<>()).add(i);
+        }
+
+        byte[] maxLength = toBytes(String.valueOf(notificationConfig.getLogMaxLength()));
+        byte[] ttlSeconds = toBytes(String.valueOf(notificationConfig.getLogMaxAge().toSeconds()));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<Long, List<Integer>> userIndexes : indexesByUser.entrySet()) {
+                List<Integer> indexes = userIndexes.getValue();
+                byte[][] keysAndArgs = new byte[indexes.size() + 3][];
+                keysAndArgs[0] = toBytes(LOG_PREFIX + userIndexes.getKey());
+                keysAndArgs[1] = maxLength;
+                keysAndArgs[2] = ttlSeconds;
+                for (int i = 0; i < indexes.size(); i++) {
+                    keysAndArgs[i + 3] = toBytes(envelopes.get(indexes.get(i)).payload());
+                }
+                connection.scriptingCommands().eval(APPEND_SCRIPT, ReturnType.MULTI, 1, keysAndArgs);
+            }
+            return null;
+        }, StringRedisSerializer.UTF_8);
+
+        if (results.size() != indexesByUser.size()) {
+            throw new IllegalStateException("알림 기록 결과 불일치");
+        }
+        String[] ids = new String[envelopes.size()];
+        int userIndex = 0;
+        for (List<Integer> indexes : indexesByUser.values()) {
+            List<String> userIds = (List<String>) results.get(userIndex++);
+            if (userIds == null || userIds.size() != indexes.size()) {
+                throw new IllegalStateException("알림 기록 결과 불일치");
+            }
+            for (int i = 0; i < indexes.size(); i++) {
+                ids[indexes.get(i)] = userIds.get(i);
+            }
+        }
+        return List.of(ids);
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 마지막으로 받은 이벤트 이후의 알림 조회 (보관 기간 이내, 최대 logMaxLength건)
+     *
+     * @param userId      사용자 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (Last-Event-ID)
+     */
+    public List<Entry> readAfter(Long userId, String lastEventId) {
+        long[] lastId = parseId(lastEventId);
+        if (lastId == null) {
+            return List.of();
+        }
+
+        // 다음 ID부터 (포함) 조회, 보관 기간보다 오래된 기록은 제외
+        String startId = lastId[0] + "-" + (lastId[1] + 1);
+        long oldestMillis = System.currentTimeMillis() - notificationConfig.getLogMaxAge().toMillis();
+        if (lastId[0] < oldestMillis) {
+            startId = oldestMillis + "-0";
+        }
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                LOG_PREFIX + userId,
+                Range.rightUnbounded(Range.Bound.inclusive(startId)),
+                Limit.limit().count(notificationConfig.getLogMaxLength()));
+        if (records == null) {
+            return List.of();
+        }
+
+        List<Entry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Object payload = record.getValue().get(PAYLOAD_FIELD);
+            if (payload != null) {
+                entries.add(new Entry(record.getId().getValue(), payload.toString()));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 두 스트림 ID 비교 (형식이 올바르지 않은 ID는 가장 작은 값으로 취급)
+     */
+    public static int compareIds(String left, String right) {
+        long[] leftId = parseId(left);
+        long[] rightId = parseId(right);
+        if (leftId == null || rightId == null) {
+            return leftId == null ? (rightId == null ? 0 : -1) : 1;
+        }
+        int result = Long.compare(leftId[0], rightId[0]);
+        return result != 0 ? result : Long.compare(leftId[1], rightId[1]);
+    }
+
+    /**
+     * 스트림 ID("밀리초-순번") 파싱 (형식이 다르면 null)
+     */
+    private static long[] parseId(String id) {
+        if (id == null) {
+            return null;
+        }
+        int separator = id.indexOf('-');
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            return new long[]{Long.parseLong(id.substring(0, separator)), Long.parseLong(id.substring(separator + 1))};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
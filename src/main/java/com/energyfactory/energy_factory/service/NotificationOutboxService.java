@@ -0,0 +1,257 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.dto.NotificationDto;
+import com.energyfactory.energy_factory.entity.NotificationOutbox;
+import com.energyfactory.energy_factory.repository.NotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 상태 알림 발신함 서비스 (transactional outbox)
+ *
+ * - 저장: 주문 상태 변경 트랜잭션 안에서 발신함 행만 추가 (알림 직렬화/발송은 트랜잭션 밖에서 수행)
+ * - 발송: 커밋 직후 짧은 지연 후 한 번에 모아 발송하고, 같은 주문의 연속 상태 변경은 마지막 상태만 발송
+ *   같은 사용자의 여러 주문 상태 변경은 알림 하나로 묶어 발송 (일괄 상태 변경 시 주문마다 알림이 나가지 않도록)
+ * - 롤백된 상태 변경은 발신함 행도 함께 롤백되므로 알림이 나가지 않음
+ * - 커밋 직후 발송이 누락된 경우(서버 종료 등) 스케줄러가 주기적으로 다시 발송
+ * - 여러 서버가 동시에 발송해도 행 잠금(SKIP LOCKED)으로 같은 항목을 중복 발송하지 않음
+ *   다른 서버가 같은 사용자의 앞선 항목을 잠그고 있으면 그 사용자는 건너뛰어 발송 순서를 유지
+ * - 알림 기록(Redis Stream)과 발행이 끝난 뒤에만 발송 완료로 표시 (실패한 항목은 발송 대기로 남아 다시 발송)
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService implements DisposableBean {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification_outbox (user_id, order_id, order_number, status, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    /**
+     * 커밋 후 발송 지연 (연속된 상태 변경을 한 번에 모아 발송)
+     */
+    private static final long RELAY_DELAY_MILLIS = 20;
+
+    /**
+     * 일괄 저장할 주문 상태 변경 알림
+     */
+    public record OrderStatusChange(Long userId, Long orderId, Long orderNumber, String status) {
+    }
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ScheduledExecutorService relayExecutor;
+    private final AtomicBoolean relayScheduled = new AtomicBoolean(false);
+
+    /**
+     * 동시 실행 방지 (커밋 후 발송과 주기 실행이 겹치는 경우)
+     */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public NotificationOutboxService(NotificationOutboxRepository notificationOutboxRepository,
+                                     NotificationService notificationService,
+                                     TransactionTemplate transactionTemplate,
+                                     JdbcTemplate jdbcTemplate) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.relayExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 주문 상태 변경 알림 저장 (호출 측 트랜잭션에 참여, 커밋 후 발송 예약)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueOrderStatus(Long userId, Long orderId, Long orderNumber, String status) {
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .orderNumber(orderNumber)
+                .status(status)
+                .build());
+
+        relayAfterCommit();
+    }
+
+    /**
+     * 주문 상태 변경 알림 일괄 저장 (JDBC batch insert, 호출 측 트랜잭션에 참여)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueOrderStatuses(List<OrderStatusChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, BATCH_SIZE, (ps, change) -> {
+            ps.setLong(1, change.userId());
+            ps.setLong(2, change.orderId());
+            ps.setLong(3, change.orderNumber());
+            ps.setString(4, change.status());
+            ps.setTimestamp(5, now);
+        });
+        relayAfterCommit();
+    }
+
+    /**
+     * 미발송 알림 발송
+     *
+     * @return 발송 완료 처리된 발신함 항목 수
+     */
+    public int relay() {
+        if (!running.compareAndSet(false, true)) {
+            // 실행 중인 발송이 끝난 뒤 다시 확인
+            requestRelay();
+            return 0;
+        }
+
+        try {
+            int processedCount = 0;
+            while (true) {
+                Integer count = transactionTemplate.execute(status -> relayBatch());
+                if (count == null || count == 0) {
+                    break;
+                }
+                processedCount += count;
+                if (count < BATCH_SIZE) {
+                    break;
+                }
+            }
+            return processedCount;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 항목 삭제
+     */
+    public int purgeProcessed(LocalDateTime before) {
+        return notificationOutboxRepository.deleteProcessedBefore(before);
+    }
+
+    @Override
+    public void destroy() {
+        relayExecutor.shutdown();
+    }
+
+    private void relayAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestRelay();
+            }
+        });
+    }
+
+    /**
+     * 발송 예약 (이미 예약되어 있으면 그 실행에 합류)
+     */
+    private void requestRelay() {
+        if (!relayScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        relayExecutor.schedule(() -> {
+            relayScheduled.set(false);
+            try {
+                relay();
+            } catch (Exception e) {
+                log.error("알림 발신함 발송 실패 - 스케줄러에서 재시도", e);
+            }
+        }, RELAY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 배치 하나를 잠그고 주문별 마지막 상태를 사용자별로 묶어 발송한 뒤 완료 표시
+     * - 알림 기록과 발행이 끝난 뒤에만 완료 표시 (실패하면 예외로 트랜잭션을 롤백하여 발송 대기로 남김)
+     * - 다른 서버가 더 앞선 항목을 잠그고 있는 사용자는 이번 배치에서 제외 (같은 사용자의 상태 변경 순서 보장)
+     *
+     * @return 발송 완료 처리된 항목 수
+     */
+    private int relayBatch() {
+        List<NotificationOutbox> pending = notificationOutboxRepository.lockPending(BATCH_SIZE);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 사용자별 이번 배치의 가장 앞선 항목
+        Map<Long, Long> firstIdByUser = new HashMap<>();
+        for (NotificationOutbox outbox : pending) {
+            firstIdByUser.merge(outbox.getUserId(), outbox.getId(), Math::min);
+        }
+        Set<Long> deferredUsers = new HashSet<>();
+        for (Object[] row : notificationOutboxRepository.findFirstPendingIds(firstIdByUser.keySet())) {
+            Long userId = ((Number) row[0]).longValue();
+            if (((Number) row[1]).longValue() < firstIdByUser.get(userId)) {
+                deferredUsers.add(userId);
+            }
+        }
+
+        // 같은 주문의 상태 변경은 마지막 것만 (저장 순서 유지)
+        List<Long> processedIds = new ArrayList<>(pending.size());
+        Map<Long, NotificationOutbox> latestByOrder = new LinkedHashMap<>();
+        for (NotificationOutbox outbox : pending) {
+            if (deferredUsers.contains(outbox.getUserId())) {
+                continue;
+            }
+            processedIds.add(outbox.getId());
+            latestByOrder.remove(outbox.getOrderId());
+            latestByOrder.put(outbox.getOrderId(), outbox);
+        }
+
+        // 사용자별로 묶어 알림 하나씩 (첫 변경 순서 유지)
+        Map<Long, List<OrderStatusChange>> changesByUser = new LinkedHashMap<>();
+        for (NotificationOutbox outbox : latestByOrder.values()) {
+            changesByUser.computeIfAbsent(outbox.getUserId(), key -> new ArrayList<>())
+                    .add(new OrderStatusChange(
+                            outbox.getUserId(), outbox.getOrderId(), outbox.getOrderNumber(), outbox.getStatus()));
+        }
+        Map<Long, NotificationDto> notifications = new LinkedHashMap<>();
+        changesByUser.forEach((userId, changes) -> {
+            NotificationDto notification = notificationService.toOrderNotification(changes);
+            if (notification != null) {
+                notifications.put(userId, notification);
+            }
+        });
+
+        notificationService.sendNotificationsNow(notifications);
+        if (!processedIds.isEmpty()) {
+            notificationOutboxRepository.markProcessed(processedIds, LocalDateTime.now());
+        }
+        if (!deferredUsers.isEmpty()) {
+            // 앞선 항목을 가진 서버가 커밋한 뒤 다시 발송
+            requestRelay();
+        }
+        log.debug("알림 발신함 발송 - 항목: {}건, 주문: {}건, 사용자: {}명, 보류 사용자: {}명",
+                processedIds.size(), latestByOrder.size(), changesByUser.size(), deferredUsers.size());
+        return processedIds.size();
+    }
+}
@@ -1,19 +1,25 @@
 package com.energyfactory.energy_factory.service;
 
 import com.energyfactory.energy_factory.dto.NotificationDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 /**
  * SSE 알림 서비스
  * 사용자별 SSE Emitter를 관리하고 실시간 알림을 전송
+ *
+ * 알림은 NotificationBus(Redis pub/sub)로 발행되어, 사용자가 연결된 서버에서 전달됨
  */
 @Service
 @RequiredArgsConstructor
@@ -21,91 +27,92 @@ import java.util.concurrent.ConcurrentHashMap;
 public class NotificationService {
 
     private final ObjectMapper objectMapper;
+    private final NotificationBus notificationBus;
 
     /**
-     * 사용자 ID별 SSE Emitter 저장소
-     * ConcurrentHashMap을 사용하여 동시성 문제 해결
+     * SSE 연결 저장소 (사용자당 여러 연결, 연결별 송신 대기열)
      */
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    private final SseConnectionRegistry connectionRegistry;
+
+    /**
+     * 사용자별 알림 기록 (재연결 시 재전송)
+     */
+    private final NotificationLog notificationLog;
 
     /**
      * SSE 연결 타임아웃 (30분)
      */
     private static final Long DEFAULT_TIMEOUT = 30 * 60 * 1000L;
 
+    /**
+     * 알림을 보내는 주문 상태 (sendOrderNotification의 상태별 알림과 동일)
+     */
+    private static final Set<String> NOTIFIED_ORDER_STATUSES = Set.of("CONFIRMED", "SHIPPED", "DELIVERED", "CANCELLED");
+
+    @PostConstruct
+    void registerLocalDelivery() {
+        notificationBus.setLocalDelivery(this::deliverLocal);
+    }
+
     /**
      * SSE Emitter 생성 및 저장
+     * 같은 사용자의 기존 연결(다른 탭/기기)은 유지
      *
      * @param userId 사용자 ID
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (Last-Event-ID, 없으면 null)
      * @return SseEmitter
      */
-    public SseEmitter createEmitter(Long userId) {
+    public SseEmitter createEmitter(Long userId, String lastEventId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
-        // 기존 연결이 있으면 종료
-        removeEmitter(userId);
-
-        // 새 Emitter 저장
-        emitters.put(userId, emitter);
-        log.info("SSE 연결 생성: userId={}", userId);
-
-        // 연결 완료 시 제거
-        emitter.onCompletion(() -> {
-            log.info("SSE 연결 완료: userId={}", userId);
-            emitters.remove(userId);
-        });
+        // 새 연결 저장 (이 서버가 사용자 파티션 채널을 구독하도록 등록)
+        // 재전송 알림을 조회하는 동안 도착한 실시간 알림은 연결 대기열에 보류됨
+        SseConnectionRegistry.SseConnection connection = connectionRegistry.register(userId, emitter);
+        log.info("SSE 연결 생성: userId={}, connectionId={}", userId, connection.getId());
 
-        // 타임아웃 시 제거
-        emitter.onTimeout(() -> {
-            log.info("SSE 연결 타임아웃: userId={}", userId);
-            emitters.remove(userId);
-        });
-
-        // 에러 발생 시 제거
-        emitter.onError((e) -> {
-            log.error("SSE 연결 에러: userId={}, error={}", userId, e.getMessage());
-            emitters.remove(userId);
-        });
-
-        // 초기 연결 확인 메시지 전송
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connect")
-                    .data("SSE 연결 성공"));
-        } catch (IOException e) {
-            log.error("초기 연결 메시지 전송 실패: userId={}", userId, e);
-            emitters.remove(userId);
+        // 초기 연결 확인 메시지 + 끊긴 동안 놓친 알림을 한 번에 전송
+        List<SseConnectionRegistry.Event> initialEvents = new ArrayList<>();
+        initialEvents.add(new SseConnectionRegistry.Event("connect", null, "SSE 연결 성공", 0));
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                for (NotificationLog.Entry entry : notificationLog.readAfter(userId, lastEventId)) {
+                    initialEvents.add(new SseConnectionRegistry.Event("notification", entry.id(), entry.payload(), 0, true));
+                }
+                log.info("SSE 알림 재전송: userId={}, count={}", userId, initialEvents.size() - 1);
+            } catch (Exception e) {
+                log.warn("SSE 알림 재전송 조회 실패: userId={}, error={}", userId, e.getMessage());
+            }
         }
+        connection.resume(initialEvents);
 
         return emitter;
     }
 
     /**
      * 특정 사용자에게 알림 전송
+     * 발행 대기열에 넣고 즉시 반환 (실제 전송은 사용자가 연결된 서버에서 수행)
      *
      * @param userId 사용자 ID
      * @param notification 알림 내용
      */
     public void sendNotification(Long userId, NotificationDto notification) {
-        SseEmitter emitter = emitters.get(userId);
-
-        if (emitter == null) {
-            log.warn("SSE 연결이 없음: userId={}", userId);
-            return;
-        }
-
         try {
-            // NotificationDto를 JSON으로 변환하여 전송
+            // NotificationDto를 JSON으로 변환하여 발행
             String jsonData = objectMapper.writeValueAsString(notification);
+            notificationBus.publish(userId, jsonData);
+        } catch (JsonProcessingException e) {
+            log.error("알림 직렬화 실패: userId={}, type={}", userId, notification.getType(), e);
+        }
+    }
 
-            emitter.send(SseEmitter.event()
-                    .name("notification")
-                    .data(jsonData));
-
-            log.info("알림 전송 성공: userId={}, type={}", userId, notification.getType());
-        } catch (IOException e) {
-            log.error("알림 전송 실패: userId={}, error={}", userId, e.getMessage());
-            emitters.remove(userId);
+    /**
+     * 수신한 알림 배치 중 이 서버에 연결된 사용자의 송신 대기열에 추가
+     */
+    private void deliverLocal(List<NotificationBus.Envelope> batch) {
+        for (NotificationBus.Envelope envelope : batch) {
+            SseConnectionRegistry.Event event = new SseConnectionRegistry.Event(
+                    "notification", envelope.id(), envelope.payload(), envelope.createdAt());
+            connectionRegistry.enqueue(envelope.userId(), event);
         }
     }
 
@@ -118,6 +125,65 @@ public class NotificationService {
      * @param status 주문 상태
      */
     public void sendOrderNotification(Long userId, Long orderId, Long orderNumber, String status) {
+        NotificationDto notification = toOrderNotification(orderId, orderNumber, status);
+        if (notification != null) {
+            sendNotification(userId, notification);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 여러 주문 상태 변경을 알림 하나로 생성 (발신함 발송기가 사용자별로 묶어 호출)
+     * 알림 대상 상태가 한 건뿐이면 주문 상태 변경 알림과 같음
+     *
+     * @param changes 주문별 마지막 상태 변경 (발생 순서)
+     * @return 알림 (알림 대상 상태가 없으면 null)
+     */
+    public NotificationDto toOrderNotification(List<NotificationOutboxService.OrderStatusChange> changes) {
+        List<NotificationOutboxService.OrderStatusChange> notified = changes.stream()
+                .filter(change -> NOTIFIED_ORDER_STATUSES.contains(change.status()))
+                .toList();
+        if (notified.isEmpty()) {
+            return null;
+        }
+        if (notified.size() == 1) {
+            NotificationOutboxService.OrderStatusChange change = notified.get(0);
+            return toOrderNotification(change.orderId(), change.orderNumber(), change.status());
+        }
+
+        List<NotificationDto.OrderStatusItem> orders = notified.stream()
+                .map(change -> NotificationDto.OrderStatusItem.builder()
+                        .type("ORDER_" + change.status())
+                        .orderId(change.orderId())
+                        .orderNumber(change.orderNumber())
+                        .build())
+                .toList();
+        return NotificationDto.ofOrderStatuses(
+                "주문 상태 변경", String.format("주문 %d건의 상태가 변경되었습니다.", orders.size()), orders
+        );
+    }
+
+    /**
+     * 여러 사용자에게 알림 즉시 전송 (기록과 발행이 끝난 뒤 반환, 발신함 발송기용)
+     *
+     * @param notifications 사용자 ID별 알림
+     * @throws IllegalStateException 기록 또는 발행 실패 (호출 측이 다시 시도)
+     */
+    public void sendNotificationsNow(Map<Long, NotificationDto> notifications) {
+        Map<Long, String> payloads = new LinkedHashMap<>();
+        notifications.forEach((userId, notification) -> {
+            try {
+                payloads.put(userId, objectMapper.writeValueAsString(notification));
+            } catch (JsonProcessingException e) {
+                // 다시 시도해도 실패하므로 건너뜀
+                log.error("알림 직렬화 실패: userId={}, type={}", userId, notification.getType(), e);
+            }
+        });
+        if (!payloads.isEmpty()) {
+            notificationBus.publishNow(payloads);
+        }
+    }
+
+    private NotificationDto toOrderNotification(Long orderId, Long orderNumber, String status) {
         String type;
         String title;
         String message;
@@ -145,30 +211,19 @@ public class NotificationService {
                 break;
             default:
                 log.warn("알 수 없는 주문 상태: status={}", status);
-                return;
+                return null;
         }
 
-        NotificationDto notification = NotificationDto.ofOrderStatus(
-                type, title, message, orderId, orderNumber
-        );
-
-        sendNotification(userId, notification);
+        return NotificationDto.ofOrderStatus(type, title, message, orderId, orderNumber);
     }
 
     /**
-     * 특정 사용자의 Emitter 제거
+     * 특정 사용자의 모든 SSE 연결 종료
      *
      * @param userId 사용자 ID
      */
     public void removeEmitter(Long userId) {
-        SseEmitter emitter = emitters.remove(userId);
-        if (emitter != null) {
-            try {
-                emitter.complete();
-            } catch (Exception e) {
-                log.error("Emitter 종료 중 에러: userId={}", userId, e);
-            }
-        }
+        connectionRegistry.closeAll(userId);
     }
 
     /**
@@ -177,6 +232,6 @@ public class NotificationService {
      * @return 연결된 사용자 수
      */
     public int getConnectedUserCount() {
-        return emitters.size();
+        return connectionRegistry.getConnectedUserCount();
     }
 }
@@ -27,17 +27,16 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     private final ProductRepository productRepository;
     private final ProductVariantRepository productVariantRepository;
     private final CartItemRepository cartItemRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Transactional
     public OrderResponseDto createOrder(Long userId, OrderCreateRequestDto requestDto) {
         // 1. 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         // 2. 주문 생성
         Order order = Order.builder()
@@ -133,8 +132,7 @@ public class OrderService {
     }
 
     public OrderListResponseDto getOrders(Long userId, String status, String paymentStatus, Pageable pageable) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         Page<Order> orderPage;
 
@@ -175,8 +173,7 @@ public class OrderService {
     }
 
     public OrderResponseDto getOrder(Long userId, Long orderId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new BusinessException(ResultCode.NOT_FOUND));
@@ -190,8 +187,7 @@ public class OrderService {
     }
 
     public OrderResponseDto getOrderByNumber(Long userId, Long orderNumber) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         Order order = orderRepository.findByOrderNumber(orderNumber)
                 .orElseThrow(() -> new BusinessException(ResultCode.NOT_FOUND));
@@ -206,8 +202,7 @@ public class OrderService {
 
     @Transactional
     public OrderResponseDto cancelOrder(Long userId, Long orderId, String reason) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new BusinessException(ResultCode.NOT_FOUND));
@@ -247,8 +242,7 @@ public class OrderService {
 
     @Transactional
     public OrderResponseDto cancelOrderByNumber(Long userId, Long orderNumber, String reason) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        User user = userPrincipalCache.getUserReference(userId);
 
         Order order = orderRepository.findByOrderNumber(orderNumber)
                 .orElseThrow(() -> new BusinessException(ResultCode.NOT_FOUND));
@@ -416,7 +410,7 @@ public class OrderService {
 
     /**
      * 주문 상태 변경 (관리자용)
-     * 주문 상태가 변경되면 사용자에게 SSE 알림 전송
+     * 주문 상태가 변경되면 커밋 후 사용자에게 SSE 알림 전송
      *
      * @param orderId 주문 ID
      * @param newStatus 새로운 주문 상태
@@ -430,8 +424,8 @@ public class OrderService {
         // 주문 상태 변경
         order.updateStatus(newStatus);
 
-        // SSE 알림 전송
-        notificationService.sendOrderNotification(
+        // SSE 알림은 발신함에 저장하고 커밋 후 발송 (롤백 시 알림도 나가지 않음)
+        notificationOutboxService.enqueueOrderStatus(
                 order.getUser().getId(),
                 order.getId(),
                 order.getOrderNumber(),
@@ -0,0 +1,173 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.PasswordEncoderConfig;
+import com.energyfactory.energy_factory.exception.BusinessException;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 서비스 (PasswordEncoder 빈)
+ *
+ * BCrypt 계산은 CPU를 오래 점유하므로 요청 스레드가 아닌 전용 스레드 풀에서 실행
+ * - 동시 계산 수는 풀 크기로 제한되어, 로그인이 몰려도 다른 API의 CPU를 잠식하지 않음
+ * - 대기열이 가득 차거나 최대 대기 시간을 넘기면 PASSWORD_HASHING_BUSY(503)
+ * - work factor는 시작 시 목표 소요 시간 기준으로 측정하여 결정 (고정값 설정 가능)
+ * - 저장된 해시의 work factor가 현재 값과 다르면 로그인 성공 시 재해시
+ *   (CustomUserDetailService.updatePassword)
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements PasswordEncoder, DisposableBean {
+
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+    private final long maxWaitMillis;
+    private final int strength;
+    private final BCryptPasswordEncoder encoder;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(PasswordEncoderConfig config, MeterRegistry meterRegistry) {
+        int poolSize = config.getPoolSize() > 0 ? config.getPoolSize() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.threadPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "password.hashing");
+        this.maxWaitMillis = config.getMaxWait().toMillis();
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .register(meterRegistry);
+
+        this.strength = config.getStrength() > 0 ? config.getStrength() : calibrate(config);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        log.info("비밀번호 해시 설정 - strength: {}, poolSize: {}, queueCapacity: {}",
+                strength, poolSize, config.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        // 해시가 없는 계정(OAuth 전용 등)은 계산 없이 불일치
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        return execute(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 저장된 해시의 work factor가 현재 값과 다른지 여부
+     *
+     * 노드마다 측정값이 1 정도 차이날 수 있으므로, 낮은 쪽은 즉시 재해시하고
+     * 높은 쪽은 2 이상 차이날 때만 재해시 (노드 간 반복 재해시 방지)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedStrength = parseStrength(encodedPassword);
+        if (storedStrength < 0) {
+            return false;
+        }
+        return storedStrength < strength || storedStrength > strength + 1;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public void destroy() {
+        threadPool.shutdown();
+    }
+
+    /**
+     * 전용 스레드 풀에서 실행하고 완료까지 대기
+     */
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BusinessException(ResultCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new BusinessException(ResultCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ResultCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 계산 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 목표 소요 시간을 넘지 않는 가장 큰 work factor 측정
+     * work factor가 1 증가할 때마다 소요 시간이 2배가 되므로 최소값 측정 결과로 계산
+     */
+    private static int calibrate(PasswordEncoderConfig config) {
+        int minStrength = config.getMinStrength();
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration-warmup");
+
+        long startTime = System.nanoTime();
+        probe.encode("calibration-probe");
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+
+        double ratio = (double) config.getTargetLatency().toNanos() / elapsedNanos;
+        int extra = ratio >= 1 ? (int) Math.floor(Math.log(ratio) / Math.log(2)) : 0;
+        int strength = Math.min(minStrength + extra, config.getMaxStrength());
+
+        log.info("BCrypt work factor 측정 - strength {}: {}ms, 선택: {}",
+                minStrength, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), strength);
+        return strength;
+    }
+
+    /**
+     * BCrypt 해시($2a$10$...)에서 work factor 추출 (형식이 다르면 -1)
+     */
+    private static int parseStrength(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.client.TossPaymentsClient;
+import com.energyfactory.energy_factory.config.TossPaymentsConfig;
+import com.energyfactory.energy_factory.dto.TossPaymentResponseDto;
+import com.energyfactory.energy_factory.entity.Payment;
+import com.energyfactory.energy_factory.exception.PaymentGatewayException;
+import com.energyfactory.energy_factory.repository.PaymentRepository;
+import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 결제 대사(reconciliation) 서비스
+ *
+ * 승인 요청이 타임아웃 등으로 결과를 확인하지 못해 PENDING으로 남은 결제를
+ * 토스페이먼츠 결제 조회 API로 확인하여 완료/실패로 확정
+ *
+ * - 조회는 배치 단위로 제한된 동시성(maxParallelism)으로 실행
+ * - 상태 반영은 결제 1건당 하나의 짧은 트랜잭션으로 처리
+ * - 실패 확정은 토스페이먼츠 결제가 종료 상태일 때만 (진행 중인 결제를 로컬에서 실패 처리하면
+ *   이후 승인되었을 때 주문/재고가 없음)
+ * - 주문 취소 후 승인된 결제는 PaymentRefundService로 환불 재시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentReconciliationService {
+
+    /**
+     * 결제가 진행되지 않고 종료된 토스페이먼츠 결제 상태
+     */
+    private static final Set<String> TERMINAL_FAILURE_STATUSES = Set.of("CANCELED", "PARTIAL_CANCELED", "ABORTED", "EXPIRED");
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentTransactionService paymentTransactionService;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final TossPaymentsConfig tossPaymentsConfig;
+    private final PaymentRefundService paymentRefundService;
+
+    /**
+     * 동시 실행 방지 (주기 실행과 재고 예약 해제 전 실행이 겹치는 경우)
+     */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 오래된 PENDING 결제 대사
+     *
+     * @return 완료 또는 실패로 확정된 결제 수
+     */
+    public int reconcilePendingPayments() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("결제 대사 실행 중 - 건너뜀");
+            return 0;
+        }
+
+        try {
+            TossPaymentsConfig.ReconciliationProperties properties = tossPaymentsConfig.getReconciliation();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime cutoffTime = now.minus(properties.getMinAge());
+            LocalDateTime expiryTime = now.minus(properties.getMaxPendingAge());
+
+            int resolvedCount = 0;
+            int unresolvedCount = 0;
+            long afterId = 0L;
+
+            while (true) {
+                List<Payment> batch = paymentRepository.findReconciliationTargets(
+                        PaymentStatus.PENDING, cutoffTime, afterId, PageRequest.of(0, properties.getBatchSize()));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                afterId = batch.get(batch.size() - 1).getId();
+
+                for (GatewayResult result : queryGateway(batch, properties.getMaxParallelism())) {
+                    if (apply(result, expiryTime)) {
+                        resolvedCount++;
+                    } else {
+                        unresolvedCount++;
+                    }
+                }
+
+                if (batch.size() < properties.getBatchSize()) {
+                    break;
+                }
+            }
+
+            if (resolvedCount > 0 || unresolvedCount > 0) {
+                log.info("결제 대사 완료 - 확정: {}건, 미확정: {}건", resolvedCount, unresolvedCount);
+            }
+
+            paymentRefundService.refundOrphanedPayments();
+            return resolvedCount;
+
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 단건 결제 대사 (웹훅 등으로 상태 변경이 통지된 경우)
+     * 통지 내용은 신뢰하지 않고 토스페이먼츠 결제 조회 결과를 기준으로 반영
+     *
+     * @param paymentKey 토스페이먼츠 결제 키
+     * @return 결제 상태가 확정(변경)되었는지 여부
+     * @throws PaymentGatewayException 토스페이먼츠 조회 결과를 확인할 수 없는 경우 (호출 측에서 재시도)
+     */
+    public boolean reconcilePayment(String paymentKey) {
+        Payment payment = paymentRepository.findByTransactionId(paymentKey).orElse(null);
+        if (payment == null) {
+            log.warn("대사 대상 결제 없음 - paymentKey: {}", paymentKey);
+            return false;
+        }
+
+        LocalDateTime expiryTime = LocalDateTime.now().minus(tossPaymentsConfig.getReconciliation().getMaxPendingAge());
+        try {
+            TossPaymentResponseDto response = tossPaymentsClient.getPayment(paymentKey);
+            return apply(new GatewayResult(payment, response, null), expiryTime);
+        } catch (PaymentGatewayException e) {
+            if (e.getOutcome() != PaymentGatewayException.Outcome.REJECTED) {
+                throw e;
+            }
+            return apply(new GatewayResult(payment, null, e), expiryTime);
+        }
+    }
+
+    /**
+     * 배치 내 결제들을 제한된 동시성으로 조회 (개별 조회 실패는 결과에 담아 반환)
+     */
+    private List<GatewayResult> queryGateway(List<Payment> batch, int maxParallelism) {
+        return Flux.fromIterable(batch)
+                .flatMap(payment -> tossPaymentsClient.getPaymentAsync(payment.getTransactionId())
+                                .map(response -> new GatewayResult(payment, response, null))
+                                .onErrorResume(e -> Mono.just(new GatewayResult(payment, null, e))),
+                        maxParallelism)
+                .collectList()
+                .block();
+    }
+
+    /**
+     * 조회 결과 반영
+     *
+     * @return 결제가 완료 또는 실패로 확정되었는지 여부
+     */
+    private boolean apply(GatewayResult result, LocalDateTime expiryTime) {
+        Payment payment = result.payment();
+
+        try {
+            if (result.error() != null) {
+                // 토스페이먼츠에 존재하지 않는 결제 - 승인 요청이 도달하지 않은 것이 확정
+                if (result.error() instanceof PaymentGatewayException gatewayException
+                        && gatewayException.getOutcome() == PaymentGatewayException.Outcome.REJECTED
+                        && gatewayException.getResultCode() == ResultCode.NOT_FOUND) {
+                    paymentTransactionService.failPayment(payment.getId());
+                    return true;
+                }
+                log.warn("결제 대사 조회 실패 - paymentId: {}, error: {}", payment.getId(), result.error().getMessage());
+                return false;
+            }
+
+            String status = result.response().getStatus();
+
+            // 완료된 결제가 토스페이먼츠에서 취소된 경우 (관리자 콘솔 취소 등)
+            if (payment.getPaymentStatus() == PaymentStatus.COMPLETED) {
+                if (!"CANCELED".equals(status)) {
+                    return false;
+                }
+                log.info("결제 대사 - 취소 확인, paymentId: {}", payment.getId());
+                paymentTransactionService.applyCancelResult(payment.getId(), result.response());
+                return true;
+            }
+            if (payment.getPaymentStatus() != PaymentStatus.PENDING) {
+                return false;
+            }
+
+            if ("DONE".equals(status)) {
+                log.info("결제 대사 - 승인 확인, paymentId: {}", payment.getId());
+                paymentTransactionService.applyConfirmResult(payment.getId(), result.response());
+                return true;
+            }
+            if (TERMINAL_FAILURE_STATUSES.contains(status)) {
+                log.info("결제 대사 - 실패 확정, paymentId: {}, status: {}", payment.getId(), status);
+                paymentTransactionService.failPayment(payment.getId());
+                return true;
+            }
+            // 진행 중(READY, IN_PROGRESS, WAITING_FOR_DEPOSIT) - 토스페이먼츠에서 만료/취소될 때까지 PENDING 유지
+            if (payment.getCreatedAt().isBefore(expiryTime)) {
+                log.warn("결제 대사 - 장기 미확정 결제, paymentId: {}, status: {}", payment.getId(), status);
+            }
+            return false;
+
+        } catch (Exception e) {
+            log.error("결제 대사 반영 실패 - paymentId: {}", payment.getId(), e);
+            return false;
+        }
+    }
+
+    private record GatewayResult(Payment payment, TossPaymentResponseDto response, Throwable error) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.client.TossPaymentsClient;
+import com.energyfactory.energy_factory.dto.TossPaymentCancelRequestDto;
+import com.energyfactory.energy_factory.dto.TossPaymentResponseDto;
+import com.energyfactory.energy_factory.entity.Order;
+import com.energyfactory.energy_factory.entity.Payment;
+import com.energyfactory.energy_factory.repository.PaymentRepository;
+import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 취소된 주문에 대한 결제 자동 환불 서비스
+ *
+ * 승인 결과가 늦게 확정되는 사이 주문이 취소(재고 예약 해제)된 경우, 결제는 COMPLETED로 기록되지만
+ * 주문은 결제 완료가 아님 → 토스페이먼츠에 취소를 요청하고 결제를 환불 처리 (재고는 이미 해제되어 변경하지 않음)
+ * - 승인 반영 커밋 직후 바로 시도하고, 실패하면 결제 대사 주기마다 DB 상태를 기준으로 다시 시도
+ * - 취소 요청 전에 결제를 조회하여 이미 취소된 결제는 환불 반영만 수행 (중복 취소 요청 방지)
+ */
+@Slf4j
+@Service
+public class PaymentRefundService {
+
+    private static final String CANCEL_REASON = "주문 취소 후 승인된 결제 자동 환불";
+    private static final int BATCH_SIZE = 100;
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentSummaryService paymentSummaryService;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final TransactionTemplate transactionTemplate;
+
+    public PaymentRefundService(PaymentRepository paymentRepository,
+                                PaymentSummaryService paymentSummaryService,
+                                TossPaymentsClient tossPaymentsClient,
+                                TransactionTemplate transactionTemplate) {
+        this.paymentRepository = paymentRepository;
+        this.paymentSummaryService = paymentSummaryService;
+        this.tossPaymentsClient = tossPaymentsClient;
+        // 커밋 후(afterCommit) 호출에서도 새 트랜잭션으로 반영되도록 REQUIRES_NEW
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 커밋 후 환불 시도 예약 (실패하면 refundOrphanedPayments에서 재시도)
+     */
+    public void refundAfterCommit(Long paymentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refundQuietly(paymentId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refundQuietly(paymentId);
+            }
+        });
+    }
+
+    /**
+     * 환불되지 않은 취소 주문의 완료 결제 환불
+     *
+     * @return 환불 처리된 결제 수
+     */
+    public int refundOrphanedPayments() {
+        int refundedCount = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Payment> batch = paymentRepository.findOrphanedCompletedPayments(
+                    PaymentStatus.COMPLETED, afterId, PageRequest.of(0, BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            afterId = batch.get(batch.size() - 1).getId();
+            for (Payment payment : batch) {
+                if (refundQuietly(payment.getId())) {
+                    refundedCount++;
+                }
+            }
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        if (refundedCount > 0) {
+            log.info("취소 주문 결제 자동 환불 완료 - {}건", refundedCount);
+        }
+        return refundedCount;
+    }
+
+    /**
+     * @return 환불 반영 여부 (실패 시 다음 주기에 재시도)
+     */
+    private boolean refundQuietly(Long paymentId) {
+        try {
+            return refund(paymentId);
+        } catch (Exception e) {
+            log.warn("취소 주문 결제 환불 실패 - 재시도 예정, paymentId: {}, error: {}", paymentId, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean refund(Long paymentId) {
+        String paymentKey = transactionTemplate.execute(status -> paymentRepository.findById(paymentId)
+                .filter(PaymentRefundService::isOrphaned)
+                .map(Payment::getTransactionId)
+                .orElse(null));
+        if (paymentKey == null) {
+            return false;
+        }
+
+        // 토스페이먼츠 호출은 트랜잭션 밖에서 실행
+        TossPaymentResponseDto response = tossPaymentsClient.getPayment(paymentKey);
+        if ("DONE".equals(response.getStatus())) {
+            response = tossPaymentsClient.cancelPayment(paymentKey,
+                    TossPaymentCancelRequestDto.builder()
+                            .cancelReason(CANCEL_REASON)
+                            .build());
+        }
+        if (!"CANCELED".equals(response.getStatus())) {
+            log.warn("취소 주문 결제 환불 보류 - paymentId: {}, status: {}", paymentId, response.getStatus());
+            return false;
+        }
+
+        Boolean refunded = transactionTemplate.execute(status -> applyRefund(paymentId));
+        return Boolean.TRUE.equals(refunded);
+    }
+
+    /**
+     * 환불 반영 (재고는 주문 취소 시 이미 해제되었으므로 변경하지 않음)
+     */
+    private boolean applyRefund(Long paymentId) {
+        Payment payment = paymentRepository.findByIdForUpdate(paymentId).orElse(null);
+        if (payment == null || !isOrphaned(payment)) {
+            return false;
+        }
+        PaymentSummaryService.Snapshot before = PaymentSummaryService.Snapshot.of(payment);
+        payment.refund();
+        paymentSummaryService.recordTransition(before, payment);
+        payment.getOrder().updatePaymentStatus(PaymentStatus.REFUNDED);
+        log.info("취소 주문 결제 환불 완료 - paymentId: {}, orderNumber: {}",
+                paymentId, payment.getOrder().getOrderNumber());
+        return true;
+    }
+
+    private static boolean isOrphaned(Payment payment) {
+        Order order = payment.getOrder();
+        return payment.getPaymentStatus() == PaymentStatus.COMPLETED
+                && payment.getTransactionId() != null
+                && order.getPaymentStatus() != PaymentStatus.COMPLETED
+                && order.getPaymentStatus() != PaymentStatus.PENDING;
+    }
+}
@@ -0,0 +1,147 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.dto.PaymentStatsResponseDto;
+import com.energyfactory.energy_factory.entity.Payment;
+import com.energyfactory.energy_factory.exception.BusinessException;
+import com.energyfactory.energy_factory.repository.PaymentDailySummaryRepository;
+import com.energyfactory.energy_factory.utils.enums.PaymentMethod;
+import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 결제 통계 집계 서비스
+ *
+ * 결제 상태가 바뀔 때마다 같은 트랜잭션 안에서 일별 집계 행을 증분 갱신
+ * (이전 상태 행에서 -1건/-금액, 새 상태 행에서 +1건/+금액)
+ * 통계 조회는 payments 테이블 전체를 GROUP BY 하지 않고 집계 행만 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentSummaryService {
+
+    private static final int MAX_BACKFILL_DAYS = 366;
+
+    private final PaymentDailySummaryRepository paymentDailySummaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 집계 키가 되는 결제 상태 스냅샷 (상태 변경 전 값을 보관하기 위해 사용)
+     */
+    public record Snapshot(LocalDate date, PaymentMethod method, PaymentStatus status, BigDecimal amount) {
+
+        public static Snapshot of(Payment payment) {
+            return new Snapshot(payment.getCreatedAt().toLocalDate(), payment.getPaymentMethod(),
+                    payment.getPaymentStatus(), payment.getAmount());
+        }
+    }
+
+    /**
+     * 신규 결제 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Payment payment) {
+        apply(Snapshot.of(payment), 1);
+    }
+
+    /**
+     * 결제 상태 전이 반영 (결제 수단/금액 확정도 포함)
+     *
+     * @param before 변경 전 스냅샷
+     * @param payment 변경 후 결제
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Snapshot before, Payment payment) {
+        Snapshot after = Snapshot.of(payment);
+        if (before.equals(after)) {
+            return;
+        }
+        apply(before, -1);
+        apply(after, 1);
+    }
+
+    /**
+     * 결제 원장으로부터 집계 재생성 (기존 데이터 백필 / 집계 보정)
+     * 하루 단위 트랜잭션으로 나누어 처리하며, 실시간 증분 반영과 경합하지 않도록 행을 지우지 않고 덮어씀
+     *
+     * @param fromDate 시작일 (포함)
+     * @param toDate 종료일 (포함)
+     * @return 재생성된 집계 행 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfill(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate) || fromDate.plusDays(MAX_BACKFILL_DAYS).isBefore(toDate)) {
+            throw new BusinessException(ResultCode.INVALID_REQUEST);
+        }
+
+        int rowCount = 0;
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            LocalDate day = date;
+            Integer inserted = transactionTemplate.execute(status -> {
+                int upserted = paymentDailySummaryRepository.backfill(day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+                paymentDailySummaryRepository.resetMissing(day, day.plusDays(1));
+                return upserted;
+            });
+            rowCount += Objects.requireNonNullElse(inserted, 0);
+        }
+        log.info("결제 집계 백필 완료 - 기간: {} ~ {}, 집계 행: {}건", fromDate, toDate, rowCount);
+        return rowCount;
+    }
+
+    /**
+     * 일별 결제 통계
+     *
+     * @param status 결제 상태
+     * @param days 조회 일수 (오늘 포함)
+     */
+    public List<PaymentStatsResponseDto> getDailyStats(PaymentStatus status, int days) {
+        LocalDate fromDate = LocalDate.now().minusDays(days - 1L);
+        return paymentDailySummaryRepository.findDailyStats(status, fromDate).stream()
+                .map(row -> PaymentStatsResponseDto.builder()
+                        .date((LocalDate) row[0])
+                        .paymentCount(((Number) row[1]).longValue())
+                        .totalAmount((BigDecimal) row[2])
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 결제 수단별 통계
+     *
+     * @param status 결제 상태
+     * @param days 조회 일수 (오늘 포함)
+     */
+    public List<PaymentStatsResponseDto> getSummaryByMethod(PaymentStatus status, int days) {
+        LocalDate fromDate = LocalDate.now().minusDays(days - 1L);
+        return paymentDailySummaryRepository.findSummaryByMethod(status, fromDate).stream()
+                .map(row -> PaymentStatsResponseDto.builder()
+                        .paymentMethod(((PaymentMethod) row[0]).name())
+                        .paymentCount(((Number) row[1]).longValue())
+                        .totalAmount((BigDecimal) row[2])
+                        .build())
+                .toList();
+    }
+
+    private void apply(Snapshot snapshot, int sign) {
+        BigDecimal amount = snapshot.amount() == null ? BigDecimal.ZERO : snapshot.amount();
+        paymentDailySummaryRepository.upsertDelta(
+                snapshot.date(),
+                snapshot.method().name(),
+                snapshot.status().name(),
+                sign,
+                sign < 0 ? amount.negate() : amount
+        );
+    }
+}
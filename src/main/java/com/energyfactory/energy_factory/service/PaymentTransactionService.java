@@ -0,0 +1,290 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.dto.TossPaymentResponseDto;
+import com.energyfactory.energy_factory.entity.CartItem;
+import com.energyfactory.energy_factory.entity.Order;
+import com.energyfactory.energy_factory.entity.Payment;
+import com.energyfactory.energy_factory.exception.BusinessException;
+import com.energyfactory.energy_factory.repository.CartItemRepository;
+import com.energyfactory.energy_factory.repository.OrderRepository;
+import com.energyfactory.energy_factory.repository.PaymentRepository;
+import com.energyfactory.energy_factory.utils.enums.OrderStatus;
+import com.energyfactory.energy_factory.utils.enums.PaymentMethod;
+import com.energyfactory.energy_factory.utils.enums.PaymentStatus;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Optional;
+
+/**
+ * 결제 상태 전이 서비스
+ * 토스페이먼츠 API 호출을 DB 트랜잭션 밖으로 분리하기 위해, 호출 전후의 상태 변경을 짧은 트랜잭션 단위로 제공
+ *
+ * 승인 흐름: 준비(PENDING 기록) → [트랜잭션 밖에서 API 호출] → 결과 반영(COMPLETED / FAILED)
+ * 승인 결과를 알 수 없는 경우(타임아웃, 5xx)에는 PENDING 상태로 남겨 이후 대사 대상으로 둠
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentTransactionService {
+
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final CartItemRepository cartItemRepository;
+    private final PaymentSummaryService paymentSummaryService;
+    private final PaymentRefundService paymentRefundService;
+
+    /**
+     * 1단계: 결제 준비
+     * 주문을 검증하고 paymentKey를 거래 ID로 하는 PENDING 결제를 기록
+     * 같은 paymentKey로 다시 요청하면 기존 결제를 그대로 반환 (중복 승인 요청 방지)
+     *
+     * @param orderNumber 주문번호
+     * @param paymentKey 토스페이먼츠 결제 키
+     * @return 준비된 결제 (금액은 서버에서 주문 정보로 계산)
+     */
+    @Transactional
+    public Payment prepareTossPayment(Long orderNumber, String paymentKey) {
+        Order order = orderRepository.findByOrderNumber(orderNumber)
+                .orElseThrow(() -> new BusinessException(ResultCode.NOT_FOUND));
+
+        Optional<Payment> existingPayment = paymentRepository.findByTransactionId(paymentKey);
+        if (existingPayment.isPresent()) {
+            Payment payment = existingPayment.get();
+            if (!payment.getOrder().getId().equals(order.getId())) {
+                log.error("다른 주문의 결제 키로 승인 요청 - orderNumber: {}, paymentKey: {}", orderNumber, paymentKey);
+                throw new BusinessException(ResultCode.INVALID_REQUEST);
+            }
+            return payment;
+        }
+
+        // 이미 결제 완료되었거나 타임아웃으로 취소된 주문은 승인하지 않음
+        if (order.getPaymentStatus() != PaymentStatus.PENDING) {
+            log.error("결제 대기 상태가 아닌 주문 - orderNumber: {}, paymentStatus: {}",
+                    orderNumber, order.getPaymentStatus());
+            throw new BusinessException(ResultCode.INVALID_REQUEST);
+        }
+
+        // 서버에서 주문 금액 계산 (보안: 클라이언트가 보낸 금액은 사용하지 않음)
+        BigDecimal orderAmount = order.getTotalPrice().setScale(0, RoundingMode.HALF_UP);
+        log.info("결제 준비 - orderNumber: {}, 주문 금액: {}", orderNumber, orderAmount);
+
+        Payment payment = paymentRepository.save(Payment.prepareTossPayment(order, paymentKey, orderAmount));
+        paymentSummaryService.recordCreated(payment);
+        return payment;
+    }
+
+    /**
+     * 2단계: 승인 결과 반영
+     * DONE이면 결제 완료 + 재고 예약 확정 + 장바구니 정리, 그 외 상태면 결제 실패 처리
+     * 이미 최종 상태인 결제는 변경하지 않음 (동시 반영/중복 반영 방지)
+     *
+     * @param paymentId 결제 ID
+     * @param tossResponse 토스페이먼츠 결제 응답
+     * @return 반영 후 결제
+     */
+    @Transactional
+    public Payment applyConfirmResult(Long paymentId, TossPaymentResponseDto tossResponse) {
+        Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+                .orElseThrow(() -> new BusinessException(ResultCode.NOT_FOUND));
+
+        if (payment.getPaymentStatus() != PaymentStatus.PENDING) {
+            log.info("이미 처리된 결제 - paymentId: {}, status: {}", paymentId, payment.getPaymentStatus());
+            return payment;
+        }
+
+        PaymentSummaryService.Snapshot before = PaymentSummaryService.Snapshot.of(payment);
+
+        if (!"DONE".equals(tossResponse.getStatus())) {
+            payment.failPayment();
+            paymentSummaryService.recordTransition(before, payment);
+            log.error("토스페이먼츠 결제 상태 이상 - status: {}", tossResponse.getStatus());
+            return payment;
+        }
+
+        Order order = payment.getOrder();
+        payment.applyApproval(
+                convertTossMethodToEnum(tossResponse.getMethod(), tossResponse.getEasyPay()),
+                tossResponse.getTotalAmount()
+        );
+        payment.completePayment();
+        paymentSummaryService.recordTransition(before, payment);
+
+        // 승인 결과가 늦게 확정되는 사이 주문이 이미 취소(예약 해제)된 경우 - 재고는 건드리지 않고 커밋 후 자동 환불
+        if (order.getPaymentStatus() != PaymentStatus.PENDING) {
+            log.error("취소된 주문에 대한 결제 승인 확정 - 자동 환불 진행, orderNumber: {}, paymentKey: {}",
+                    order.getOrderNumber(), tossResponse.getPaymentKey());
+            paymentRefundService.refundAfterCommit(paymentId);
+            return payment;
+        }
+
+        order.updatePaymentStatus(PaymentStatus.COMPLETED);
+
+        // 결제 완료 시 예약 확정 (예약 해제 + 총재고 차감)
+        order.getOrderItems().forEach(orderItem -> {
+            if (orderItem.getProductVariant() != null) {
+                orderItem.getProductVariant().confirmReservedStock(orderItem.getQuantity().longValue());
+                log.info("재고 예약 확정 - 상품변형 ID: {}, 수량: {}, 남은 재고: {}",
+                        orderItem.getProductVariant().getId(),
+                        orderItem.getQuantity(),
+                        orderItem.getProductVariant().getAvailableStock());
+            }
+        });
+
+        // 결제 완료 시 장바구니에서 해당 상품들 삭제
+        deleteCartItemsForCompletedOrder(order);
+
+        log.info("토스페이먼츠 결제 승인 완료 - paymentKey: {}", tossResponse.getPaymentKey());
+        return payment;
+    }
+
+    /**
+     * 승인 거절 반영
+     * 토스페이먼츠가 승인을 거절한 것이 확정된 경우에만 호출 (주문은 PENDING 유지 - 다른 결제 수단으로 재시도 가능)
+     *
+     * @param paymentId 결제 ID
+     */
+    @Transactional
+    public void failPayment(Long paymentId) {
+        paymentRepository.findByIdForUpdate(paymentId)
+                .filter(payment -> payment.getPaymentStatus() == PaymentStatus.PENDING)
+                .ifPresent(payment -> {
+                    PaymentSummaryService.Snapshot before = PaymentSummaryService.Snapshot.of(payment);
+                    payment.failPayment();
+                    paymentSummaryService.recordTransition(before, payment);
+                    log.info("결제 실패 처리 - paymentId: {}", paymentId);
+                });
+    }
+
+    /**
+     * 취소 대상 결제 검증 (본인 결제 + 결제 완료 상태)
+     *
+     * @param userId 사용자 ID
+     * @param paymentId 결제 ID
+     * @return 취소 가능한 결제
+     */
+    @Transactional(readOnly = true)
+    public Payment getCancellablePayment(Long userId, Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new BusinessException(ResultCode.NOT_FOUND));
+
+        // 결제가 해당 사용자의 것인지 확인 (보안: IDOR 방지)
+        if (!payment.getOrder().getUser().getId().equals(userId)) {
+            log.error("결제 취소 권한 없음 - userId: {}, paymentUserId: {}", userId, payment.getOrder().getUser().getId());
+            throw new BusinessException(ResultCode.ACCESS_DENIED);
+        }
+
+        // 환불 가능 상태 확인
+        if (payment.getPaymentStatus() != PaymentStatus.COMPLETED) {
+            throw new BusinessException(ResultCode.INVALID_REQUEST);
+        }
+
+        return payment;
+    }
+
+    /**
+     * 취소 결과 반영
+     * CANCELED이면 환불 처리 + 주문 취소 + 재고 복원
+     *
+     * @param paymentId 결제 ID
+     * @param tossResponse 토스페이먼츠 결제 응답
+     * @return 반영 후 결제
+     */
+    @Transactional
+    public Payment applyCancelResult(Long paymentId, TossPaymentResponseDto tossResponse) {
+        Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+                .orElseThrow(() -> new BusinessException(ResultCode.NOT_FOUND));
+
+        if (!"CANCELED".equals(tossResponse.getStatus()) || payment.getPaymentStatus() != PaymentStatus.COMPLETED) {
+            return payment;
+        }
+
+        PaymentSummaryService.Snapshot before = PaymentSummaryService.Snapshot.of(payment);
+        payment.refund();
+        paymentSummaryService.recordTransition(before, payment);
+
+        // 주문 상태 업데이트
+        Order order = payment.getOrder();
+        order.updatePaymentStatus(PaymentStatus.REFUNDED);
+        order.updateStatus(OrderStatus.CANCELLED);
+
+        // 재고 복원 (이미 결제 완료된 건이므로 총재고만 복원)
+        order.getOrderItems().forEach(orderItem -> {
+            if (orderItem.getProductVariant() != null) {
+                orderItem.getProductVariant().increaseStock(orderItem.getQuantity().longValue());
+                log.info("재고 복원 - 상품변형 ID: {}, 수량: {}, 복원 후 재고: {}",
+                        orderItem.getProductVariant().getId(),
+                        orderItem.getQuantity(),
+                        orderItem.getProductVariant().getAvailableStock());
+            }
+        });
+
+        log.info("토스페이먼츠 결제 취소 완료 - paymentKey: {}", tossResponse.getPaymentKey());
+        return payment;
+    }
+
+    /**
+     * 토스페이먼츠 결제 수단을 enum으로 변환
+     * 간편결제일 경우 easyPay.provider를 확인하여 구체적인 결제 수단 반환
+     */
+    private PaymentMethod convertTossMethodToEnum(String method, TossPaymentResponseDto.EasyPay easyPay) {
+        if (method == null) {
+            return PaymentMethod.CREDIT_CARD;
+        }
+
+        // 간편결제인 경우 provider로 구분
+        if ("간편결제".equals(method) && easyPay != null && easyPay.getProvider() != null) {
+            return switch (easyPay.getProvider()) {
+                case "토스페이" -> PaymentMethod.TOSS_PAY;
+                case "카카오페이" -> PaymentMethod.KAKAO_PAY;
+                case "네이버페이" -> PaymentMethod.NAVER_PAY;
+                case "페이코" -> PaymentMethod.PAYCO;
+                default -> {
+                    log.warn("알 수 없는 간편결제 수단: {}", easyPay.getProvider());
+                    yield PaymentMethod.CREDIT_CARD;
+                }
+            };
+        }
+
+        // 일반 결제 수단
+        return switch (method) {
+            case "카드" -> PaymentMethod.CREDIT_CARD;
+            case "가상계좌" -> PaymentMethod.VIRTUAL_ACCOUNT;
+            case "계좌이체" -> PaymentMethod.BANK_TRANSFER;
+            case "휴대폰" -> PaymentMethod.MOBILE_PAYMENT;
+            default -> {
+                log.warn("알 수 없는 결제 수단: {}", method);
+                yield PaymentMethod.CREDIT_CARD;
+            }
+        };
+    }
+
+    /**
+     * 결제 완료된 주문의 상품들을 장바구니에서 삭제
+     * 주문 항목의 상품 variant를 기준으로 사용자 장바구니에서 찾아 삭제
+     *
+     * @param order 결제 완료된 주문
+     */
+    private void deleteCartItemsForCompletedOrder(Order order) {
+        order.getOrderItems().forEach(orderItem -> {
+            if (orderItem.getProductVariant() != null) {
+                // 사용자의 장바구니에서 해당 상품 variant를 가진 아이템 찾기
+                CartItem cartItem = cartItemRepository.findByUserAndProductVariant(
+                        order.getUser(),
+                        orderItem.getProductVariant()
+                ).orElse(null);
+
+                if (cartItem != null) {
+                    cartItemRepository.delete(cartItem);
+                    log.info("장바구니 삭제 - 사용자 ID: {}, 상품변형 ID: {}",
+                            order.getUser().getId(), orderItem.getProductVariant().getId());
+                }
+            }
+        });
+    }
+}
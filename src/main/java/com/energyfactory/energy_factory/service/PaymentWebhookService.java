@@ -0,0 +1,199 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.TossPaymentsConfig;
+import com.energyfactory.energy_factory.dto.TossWebhookEventDto;
+import com.energyfactory.energy_factory.entity.PaymentWebhookEvent;
+import com.energyfactory.energy_factory.exception.BusinessException;
+import com.energyfactory.energy_factory.exception.PaymentGatewayException;
+import com.energyfactory.energy_factory.repository.PaymentWebhookEventRepository;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 토스페이먼츠 웹훅 서비스
+ *
+ * - 수신: 형식 검증 후 수신함(payment_webhook_events)에 저장만 하고 즉시 반환 (이벤트 ID로 중복 제거)
+ * - 처리: 미처리 이벤트를 주문별로 묶어 수신 순서대로 결제/주문 상태에 반영 (실패 시 지수 백오프로 재시도)
+ * - 정리: 보관 기간이 지난 처리 완료 이벤트 삭제
+ *
+ * 웹훅 내용 자체는 신뢰하지 않고, 처리 시점에 토스페이먼츠 결제 조회 결과를 기준으로 상태를 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentWebhookService {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PaymentWebhookEventRepository paymentWebhookEventRepository;
+    private final PaymentReconciliationService paymentReconciliationService;
+    private final TossPaymentsConfig tossPaymentsConfig;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 웹훅 수신 (수신함 저장)
+     *
+     * @param transmissionId 토스페이먼츠 웹훅 전송 ID (재전송 시에도 동일)
+     * @param payload 웹훅 원문
+     * @return 새로 저장된 경우 true, 중복이거나 처리 대상이 아닌 이벤트면 false
+     */
+    public boolean receive(String transmissionId, String payload) {
+        TossWebhookEventDto event;
+        try {
+            event = objectMapper.readValue(payload, TossWebhookEventDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("토스페이먼츠 웹훅 형식 오류: {}", e.getOriginalMessage());
+            throw new BusinessException(ResultCode.INVALID_REQUEST);
+        }
+
+        // 결제 객체를 포함하지 않는 이벤트(가상계좌 입금 콜백 등)는 처리 대상이 아님
+        if (event.getEventType() == null || event.getData() == null || event.getData().getPaymentKey() == null) {
+            log.info("처리 대상이 아닌 토스페이먼츠 웹훅 - eventType: {}", event.getEventType());
+            return false;
+        }
+
+        String eventId = transmissionId != null
+                ? transmissionId
+                : event.getData().getPaymentKey() + ":" + event.getData().getStatus() + ":" + event.getCreatedAt();
+
+        if (paymentWebhookEventRepository.existsByEventId(eventId)) {
+            log.debug("중복 웹훅 수신 - eventId: {}", eventId);
+            return false;
+        }
+
+        try {
+            paymentWebhookEventRepository.save(PaymentWebhookEvent.builder()
+                    .eventId(eventId)
+                    .eventType(event.getEventType())
+                    .paymentKey(event.getData().getPaymentKey())
+                    .orderId(event.getData().getOrderId())
+                    .status(event.getData().getStatus())
+                    .payload(payload)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 이벤트가 재전송된 경우
+            log.debug("중복 웹훅 수신 - eventId: {}", eventId);
+            return false;
+        }
+
+        log.info("토스페이먼츠 웹훅 수신 - eventType: {}, orderId: {}, status: {}",
+                event.getEventType(), event.getData().getOrderId(), event.getData().getStatus());
+        return true;
+    }
+
+    /**
+     * 수신함 처리
+     * 주문별로 묶어 수신 순서대로 처리하며, 같은 결제에 대한 여러 이벤트는 최신 상태를 한 번만 조회하여 반영
+     *
+     * - 처리 실패 시 지수 백오프(지터 포함)로 다음 시도 시각을 지정
+     * - 서킷 OPEN 등으로 요청이 전송되지 않은 경우(NOT_SENT)는 시도 횟수에 포함하지 않음
+     * - 최대 시도 횟수를 넘기면 처리 완료가 아닌 FAILED로 보관 (수동 확인 대상)
+     *
+     * @return 처리 완료된 이벤트 수
+     */
+    public int processInbox() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PaymentWebhookEvent> events = paymentWebhookEventRepository.findDue(now, PageRequest.of(0, BATCH_SIZE));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<PaymentWebhookEvent>> eventsByOrder = events.stream()
+                .collect(Collectors.groupingBy(
+                        event -> event.getOrderId() != null ? event.getOrderId() : event.getPaymentKey(),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+
+        int processedCount = 0;
+        for (Map.Entry<String, List<PaymentWebhookEvent>> entry : eventsByOrder.entrySet()) {
+            List<PaymentWebhookEvent> orderEvents = entry.getValue();
+            List<Long> ids = orderEvents.stream().map(PaymentWebhookEvent::getId).toList();
+
+            try {
+                orderEvents.stream()
+                        .map(PaymentWebhookEvent::getPaymentKey)
+                        .distinct()
+                        .forEach(paymentReconciliationService::reconcilePayment);
+
+                paymentWebhookEventRepository.markProcessed(ids, LocalDateTime.now());
+                processedCount += ids.size();
+
+            } catch (PaymentGatewayException e) {
+                if (e.getOutcome() != PaymentGatewayException.Outcome.NOT_SENT) {
+                    handleFailure(entry.getKey(), orderEvents, e);
+                    continue;
+                }
+                // 요청이 전송되지 않았으므로 시도 횟수는 그대로 두고 재시도 가능 시점까지 대기
+                Duration delay = e.getRetryAfter() != null
+                        ? e.getRetryAfter()
+                        : tossPaymentsConfig.getWebhook().getInitialBackoff();
+                log.debug("웹훅 처리 보류(요청 미전송) - orderId: {}, retryAfter: {}", entry.getKey(), delay);
+                paymentWebhookEventRepository.defer(ids, LocalDateTime.now().plus(delay));
+
+            } catch (Exception e) {
+                handleFailure(entry.getKey(), orderEvents, e);
+            }
+        }
+
+        return processedCount;
+    }
+
+    /**
+     * 보관 기간이 지난 처리 완료 이벤트 삭제 (FAILED 이벤트는 유지)
+     */
+    public int purgeProcessed() {
+        LocalDateTime before = LocalDateTime.now().minus(tossPaymentsConfig.getWebhook().getRetention());
+        return paymentWebhookEventRepository.deleteProcessedBefore(before);
+    }
+
+    private void handleFailure(String orderKey, List<PaymentWebhookEvent> orderEvents, Exception e) {
+        TossPaymentsConfig.WebhookProperties properties = tossPaymentsConfig.getWebhook();
+        List<Long> ids = orderEvents.stream().map(PaymentWebhookEvent::getId).toList();
+        String lastError = truncate(e.getClass().getSimpleName() + ": " + e.getMessage());
+
+        // 묶인 이벤트 중 가장 많이 시도한 이벤트 기준 (같은 주문의 이벤트는 함께 재시도되므로)
+        int attempts = orderEvents.stream().mapToInt(PaymentWebhookEvent::getAttempts).max().orElse(0) + 1;
+        if (attempts >= properties.getMaxAttempts()) {
+            log.error("웹훅 최대 재시도 초과, FAILED 처리 - orderId: {}, eventIds: {}, error: {}",
+                    orderKey, ids, e.getMessage());
+            paymentWebhookEventRepository.markFailed(ids, LocalDateTime.now(), lastError);
+            return;
+        }
+
+        Duration backoff = backoff(attempts, properties);
+        log.warn("웹훅 처리 실패, {} 후 재시도 예정 ({}/{}) - orderId: {}, error: {}",
+                backoff, attempts, properties.getMaxAttempts(), orderKey, e.getMessage());
+        paymentWebhookEventRepository.scheduleRetry(ids, LocalDateTime.now().plus(backoff), lastError);
+    }
+
+    /**
+     * 지수 백오프 (initialBackoff * 2^(attempts-1), 상한 maxBackoff) + 최대 20% 지터
+     */
+    private static Duration backoff(int attempts, TossPaymentsConfig.WebhookProperties properties) {
+        long initialMillis = properties.getInitialBackoff().toMillis();
+        long maxMillis = properties.getMaxBackoff().toMillis();
+        int shift = Math.min(attempts - 1, 30);
+        long delayMillis = initialMillis > (maxMillis >> shift) ? maxMillis : Math.min(initialMillis << shift, maxMillis);
+        long jitterMillis = ThreadLocalRandom.current().nextLong(delayMillis / 5 + 1);
+        return Duration.ofMillis(delayMillis + jitterMillis);
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
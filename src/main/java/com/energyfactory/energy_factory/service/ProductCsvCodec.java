@@ -0,0 +1,445 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.dto.ProductBulkRecordDto;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 상품 일괄 가져오기/내보내기 CSV 변환기 (RFC 4180)
+ *
+ * 한 행에 상품 하나, 첫 행은 열 이름 (순서 무관, 모르는 열은 무시)
+ * - tags: 태그명을 | 로 구분 (예: 고단백|다이어트)
+ * - variants: 옵션명:가격:재고[:default] 를 | 로 구분 (예: 500g:29900:100:default|1kg:55000:50)
+ * - nutrients: 이름:값:단위[:일일권장%] 를 | 로 구분 (예: 단백질:25.5:g:50|칼로리:300:kcal)
+ * - 태그/옵션/영양성분의 이름과 값에 들어간 |, :, \ 는 \ 로 이스케이프 (예: 1\:1 세트), 내보내기 시 자동 적용
+ * - id: 내보내기 전용 (값이 있는 레코드는 가져오기에서 거부)
+ */
+final class ProductCsvCodec {
+
+    private static final char BOM = '\uFEFF';
+    private static final String LIST_SEPARATOR = "|";
+    private static final String FIELD_SEPARATOR = ":";
+    private static final char ESCAPE = '\\';
+    private static final String DEFAULT_VARIANT = "default";
+
+    /**
+     * 내보내기 열 순서
+     */
+    static final List<String> COLUMNS = List.of(
+            "id", "name", "category", "price", "brand", "originalPrice", "discount",
+            "weight", "weightUnit", "status", "imageUrl", "description", "storage",
+            "shippingFee", "freeShippingThreshold", "estimatedDeliveryDays",
+            "scoreMuscleGain", "scoreWeightLoss", "scoreEnergy", "scoreRecovery", "scoreHealth",
+            "tags", "variants", "nutrients"
+    );
+
+    private static final List<Function<ProductBulkRecordDto, Object>> GETTERS = List.of(
+            ProductBulkRecordDto::getId, ProductBulkRecordDto::getName, ProductBulkRecordDto::getCategory,
+            ProductBulkRecordDto::getPrice, ProductBulkRecordDto::getBrand, ProductBulkRecordDto::getOriginalPrice,
+            ProductBulkRecordDto::getDiscount, ProductBulkRecordDto::getWeight, ProductBulkRecordDto::getWeightUnit,
+            ProductBulkRecordDto::getStatus, ProductBulkRecordDto::getImageUrl, ProductBulkRecordDto::getDescription,
+            ProductBulkRecordDto::getStorage, ProductBulkRecordDto::getShippingFee,
+            ProductBulkRecordDto::getFreeShippingThreshold, ProductBulkRecordDto::getEstimatedDeliveryDays,
+            ProductBulkRecordDto::getScoreMuscleGain, ProductBulkRecordDto::getScoreWeightLoss,
+            ProductBulkRecordDto::getScoreEnergy, ProductBulkRecordDto::getScoreRecovery,
+            ProductBulkRecordDto::getScoreHealth,
+            record -> record.getTags() == null ? null
+                    : String.join(LIST_SEPARATOR, record.getTags().stream().map(ProductCsvCodec::escape).toList()),
+            record -> formatVariants(record.getVariants()),
+            record -> formatNutrients(record.getNutrients())
+    );
+
+    private ProductCsvCodec() {
+    }
+
+    /**
+     * CSV 행 단위 읽기 (따옴표 안의 줄바꿈 포함, 한 행씩만 메모리에 유지)
+     */
+    static final class RecordReader implements Closeable {
+
+        private final Reader reader;
+        private final Map<String, Integer> columnIndexes = new HashMap<>();
+        private int nextChar = -2;
+        private long line = 1;
+        private long rowStartLine;
+
+        RecordReader(Reader reader) throws IOException {
+            this.reader = reader;
+            if (peek() == BOM) {
+                read();
+            }
+            List<String> header = readRow();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columnIndexes.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columnIndexes.containsKey("name")) {
+                throw new IllegalArgumentException("CSV 헤더에 name 열이 없습니다");
+            }
+        }
+
+        /**
+         * 마지막으로 읽은 행의 시작 줄 번호 (오류 안내용)
+         */
+        long getRowLine() {
+            return rowStartLine;
+        }
+
+        /**
+         * 다음 행 읽기
+         *
+         * @return 열 이름(소문자) -> 값, 더 이상 행이 없으면 null
+         */
+        Map<String, String> next() throws IOException {
+            List<String> row;
+            do {
+                row = readRow();
+                if (row == null) {
+                    return null;
+                }
+            } while (row.size() == 1 && row.get(0).isEmpty());  // 빈 줄
+
+            Map<String, String> values = new HashMap<>();
+            columnIndexes.forEach((column, index) -> {
+                if (index < row.size()) {
+                    values.put(column, row.get(index));
+                }
+            });
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private List<String> readRow() throws IOException {
+            if (peek() == -1) {
+                return null;
+            }
+            rowStartLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                int c = read();
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException(rowStartLine + "번째 줄: 닫히지 않은 따옴표");
+                    }
+                    if (c == '"') {
+                        if (peek() == '"') {
+                            read();
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+            }
+        }
+
+        private int peek() throws IOException {
+            if (nextChar == -2) {
+                nextChar = reader.read();
+            }
+            return nextChar;
+        }
+
+        private int read() throws IOException {
+            int c = peek();
+            nextChar = -2;
+            if (c == '\n') {
+                line++;
+            }
+            return c;
+        }
+    }
+
+    /**
+     * CSV 행을 레코드로 변환
+     *
+     * @throws IllegalArgumentException 숫자/목록 형식이 잘못된 경우
+     */
+    static ProductBulkRecordDto toRecord(Map<String, String> values) {
+        return ProductBulkRecordDto.builder()
+                .id(longValue(text(values, "id"), "id"))
+                .name(text(values, "name"))
+                .category(text(values, "category"))
+                .price(decimal(values, "price"))
+                .brand(text(values, "brand"))
+                .originalPrice(decimal(values, "originalprice"))
+                .discount(integer(text(values, "discount"), "discount"))
+                .weight(decimal(values, "weight"))
+                .weightUnit(text(values, "weightunit"))
+                .status(text(values, "status"))
+                .imageUrl(text(values, "imageurl"))
+                .description(text(values, "description"))
+                .storage(text(values, "storage"))
+                .shippingFee(decimal(values, "shippingfee"))
+                .freeShippingThreshold(decimal(values, "freeshippingthreshold"))
+                .estimatedDeliveryDays(text(values, "estimateddeliverydays"))
+                .scoreMuscleGain(decimal(values, "scoremusclegain"))
+                .scoreWeightLoss(decimal(values, "scoreweightloss"))
+                .scoreEnergy(decimal(values, "scoreenergy"))
+                .scoreRecovery(decimal(values, "scorerecovery"))
+                .scoreHealth(decimal(values, "scorehealth"))
+                .tags(parseTags(text(values, "tags")))
+                .variants(parseVariants(text(values, "variants")))
+                .nutrients(parseNutrients(text(values, "nutrients")))
+                .build();
+    }
+
+    static void writeHeader(Writer writer) throws IOException {
+        writer.write(BOM);  // 엑셀에서 한글이 깨지지 않도록
+        writeRow(writer, COLUMNS);
+    }
+
+    static void writeRecord(Writer writer, ProductBulkRecordDto record) throws IOException {
+        List<String> row = new ArrayList<>(GETTERS.size());
+        for (Function<ProductBulkRecordDto, Object> getter : GETTERS) {
+            Object value = getter.apply(record);
+            row.add(value == null ? "" : value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+        }
+        writeRow(writer, row);
+    }
+
+    private static void writeRow(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String field = fields.get(i);
+            if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0
+                    || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(field.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(field);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String text(Map<String, String> values, String column) {
+        String value = values.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static BigDecimal decimal(Map<String, String> values, String column) {
+        return decimal(text(values, column), column);
+    }
+
+    private static BigDecimal decimal(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 숫자가 아닙니다: " + value);
+        }
+    }
+
+    private static Integer integer(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 정수가 아닙니다: " + value);
+        }
+    }
+
+    private static Long longValue(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 정수가 아닙니다: " + value);
+        }
+    }
+
+    /**
+     * 이스케이프되지 않은 구분자로 나눔 (이스케이프는 그대로 남김, 앞뒤 공백 제거)
+     */
+    private static List<String> split(String value, char separator) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder part = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ESCAPE && i + 1 < value.length()) {
+                part.append(c).append(value.charAt(++i));
+            } else if (c == separator) {
+                parts.add(part.toString().trim());
+                part.setLength(0);
+            } else {
+                part.append(c);
+            }
+        }
+        parts.add(part.toString().trim());
+        return parts;
+    }
+
+    /**
+     * 목록 항목 (빈 항목 제외, 이스케이프는 그대로 남김)
+     */
+    private static List<String> splitList(String value) {
+        if (value == null) {
+            return null;
+        }
+        return split(value, LIST_SEPARATOR.charAt(0)).stream()
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
+    private static List<String> splitFields(String item) {
+        return split(item, FIELD_SEPARATOR.charAt(0)).stream()
+                .map(ProductCsvCodec::unescape)
+                .toList();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ESCAPE || c == LIST_SEPARATOR.charAt(0) || c == FIELD_SEPARATOR.charAt(0)) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * \|, \:, \\ 만 해제 (그 밖의 \ 는 그대로 유지)
+     */
+    private static String unescape(String value) {
+        if (value.indexOf(ESCAPE) < 0) {
+            return value;
+        }
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ESCAPE && i + 1 < value.length()) {
+                char next = value.charAt(i + 1);
+                if (next == ESCAPE || next == LIST_SEPARATOR.charAt(0) || next == FIELD_SEPARATOR.charAt(0)) {
+                    unescaped.append(next);
+                    i++;
+                    continue;
+                }
+            }
+            unescaped.append(c);
+        }
+        return unescaped.toString();
+    }
+
+    private static List<String> parseTags(String value) {
+        List<String> items = splitList(value);
+        return items == null ? null : items.stream().map(ProductCsvCodec::unescape).toList();
+    }
+
+    private static List<ProductBulkRecordDto.Variant> parseVariants(String value) {
+        List<String> items = splitList(value);
+        if (items == null) {
+            return null;
+        }
+        List<ProductBulkRecordDto.Variant> variants = new ArrayList<>(items.size());
+        for (String item : items) {
+            List<String> parts = splitFields(item);
+            boolean isDefault = parts.size() == 4 && DEFAULT_VARIANT.equalsIgnoreCase(parts.get(3));
+            if (parts.size() != 3 && !isDefault) {
+                throw new IllegalArgumentException("variants 형식이 잘못되었습니다 (옵션명:가격:재고[:default]): " + item);
+            }
+            variants.add(ProductBulkRecordDto.Variant.builder()
+                    .name(parts.get(0))
+                    .price(decimal(parts.get(1), "variants 가격"))
+                    .stock(longValue(parts.get(2).isEmpty() ? null : parts.get(2), "variants 재고"))
+                    .isDefault(isDefault)
+                    .build());
+        }
+        return variants;
+    }
+
+    private static List<ProductBulkRecordDto.Nutrient> parseNutrients(String value) {
+        List<String> items = splitList(value);
+        if (items == null) {
+            return null;
+        }
+        List<ProductBulkRecordDto.Nutrient> nutrients = new ArrayList<>(items.size());
+        for (String item : items) {
+            List<String> parts = splitFields(item);
+            if (parts.size() != 3 && parts.size() != 4) {
+                throw new IllegalArgumentException("nutrients 형식이 잘못되었습니다 (이름:값:단위[:일일권장%]): " + item);
+            }
+            nutrients.add(ProductBulkRecordDto.Nutrient.builder()
+                    .name(parts.get(0))
+                    .value(parts.get(1))
+                    .unit(parts.get(2))
+                    .dailyPercentage(parts.size() == 4 && !parts.get(3).isEmpty()
+                            ? integer(parts.get(3), "nutrients 일일권장%") : null)
+                    .build());
+        }
+        return nutrients;
+    }
+
+    private static String formatVariants(List<ProductBulkRecordDto.Variant> variants) {
+        if (variants == null || variants.isEmpty()) {
+            return null;
+        }
+        List<String> items = new ArrayList<>(variants.size());
+        for (ProductBulkRecordDto.Variant variant : variants) {
+            String item = escape(variant.getName()) + FIELD_SEPARATOR + variant.getPrice().toPlainString()
+                    + FIELD_SEPARATOR + variant.getStock();
+            items.add(Boolean.TRUE.equals(variant.getIsDefault()) ? item + FIELD_SEPARATOR + DEFAULT_VARIANT : item);
+        }
+        return String.join(LIST_SEPARATOR, items);
+    }
+
+    private static String formatNutrients(List<ProductBulkRecordDto.Nutrient> nutrients) {
+        if (nutrients == null || nutrients.isEmpty()) {
+            return null;
+        }
+        List<String> items = new ArrayList<>(nutrients.size());
+        for (ProductBulkRecordDto.Nutrient nutrient : nutrients) {
+            String item = escape(nutrient.getName()) + FIELD_SEPARATOR + escape(nutrient.getValue())
+                    + FIELD_SEPARATOR + escape(nutrient.getUnit());
+            items.add(nutrient.getDailyPercentage() != null ? item + FIELD_SEPARATOR + nutrient.getDailyPercentage() : item);
+        }
+        return String.join(LIST_SEPARATOR, items);
+    }
+}
@@ -0,0 +1,89 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.ProductImportConfig;
+import com.energyfactory.energy_factory.dto.ProductBulkRecordDto;
+import com.energyfactory.energy_factory.repository.ProductBulkRepository;
+import com.energyfactory.energy_factory.utils.enums.ProductDataFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 상품 일괄 내보내기 서비스
+ *
+ * 전체 상품을 가져오기와 같은 형식(CSV/JSON 배열)으로 응답 스트림에 바로 기록
+ * - 각 레코드에 id가 포함되므로 그대로 다시 가져오면 거부됨 (다른 환경에 새 상품으로 등록할 때는 id를 비움)
+ * - ID 기준 페이지 단위 조회 (OFFSET 없이 마지막 ID 다음부터), 한 페이지만 메모리에 유지
+ * - 페이지마다 flush하여 클라이언트가 바로 받기 시작함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    private final ProductBulkRepository productBulkRepository;
+    private final ProductImportConfig productImportConfig;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 상품 내보내기
+     *
+     * @return 내보낸 상품 수
+     */
+    public long export(ProductDataFormat format, OutputStream out) throws IOException {
+        long count = switch (format) {
+            case CSV -> exportCsv(out);
+            case JSON -> exportJson(out);
+        };
+        log.info("Products exported: format={}, count={}", format, count);
+        return count;
+    }
+
+    private long exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        ProductCsvCodec.writeHeader(writer);
+        long count = 0;
+        long lastId = 0;
+        List<ProductBulkRecordDto> page;
+        do {
+            page = productBulkRepository.findPageAfter(lastId, productImportConfig.getExportPageSize());
+            for (ProductBulkRecordDto record : page) {
+                ProductCsvCodec.writeRecord(writer, record);
+                lastId = record.getId();
+            }
+            count += page.size();
+            writer.flush();
+        } while (page.size() == productImportConfig.getExportPageSize());
+        return count;
+    }
+
+    private long exportJson(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.writeStartArray();
+        long count = 0;
+        long lastId = 0;
+        List<ProductBulkRecordDto> page;
+        do {
+            page = productBulkRepository.findPageAfter(lastId, productImportConfig.getExportPageSize());
+            for (ProductBulkRecordDto record : page) {
+                generator.writeObject(record);
+                lastId = record.getId();
+            }
+            count += page.size();
+            generator.flush();
+        } while (page.size() == productImportConfig.getExportPageSize());
+        generator.writeEndArray();
+        generator.flush();
+        return count;
+    }
+}
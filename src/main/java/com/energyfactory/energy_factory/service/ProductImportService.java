@@ -0,0 +1,658 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.ProductImportConfig;
+import com.energyfactory.energy_factory.dto.ProductBulkRecordDto;
+import com.energyfactory.energy_factory.dto.ProductImportStatusDto;
+import com.energyfactory.energy_factory.exception.BusinessException;
+import com.energyfactory.energy_factory.repository.ProductBulkRepository;
+import com.energyfactory.energy_factory.repository.ProductBulkRepository.ProductTagLink;
+import com.energyfactory.energy_factory.utils.enums.ProductDataFormat;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 일괄 가져오기 서비스
+ *
+ * 관리자가 올린 CSV/JSON 파일을 백그라운드에서 읽어 상품을 일괄 등록
+ * - 요청 본문을 임시 파일로 옮긴 뒤 요청은 작업 ID만 반환 (요청 스레드에서 파싱하지 않음, 최대 크기 maxFileSize)
+ * - 레코드를 한 건씩 읽어 chunkSize개마다 트랜잭션 하나로 저장 (파일 전체를 메모리에 올리지 않음)
+ *   상품은 JDBC batch insert 후 생성된 ID로 옵션/영양성분/태그 연결을 batch insert
+ * - 태그는 작업 시작 시 이름 -> ID를 한 번 읽어두고, 없는 태그만 청크마다 한 번에 생성
+ * - 형식이 잘못되거나 컬럼 길이/범위를 넘는 레코드는 건너뛰고 오류로 기록
+ *   그래도 청크 저장에 실패하면 청크를 롤백한 뒤 한 건씩 다시 저장하여 문제 레코드만 실패로 기록
+ * - id가 있는 레코드(내보내기 파일 그대로)는 거부 (다시 가져오면 상품이 중복 등록되므로, 새 상품으로 등록하려면 id를 비움)
+ * - 진행 상황은 Redis에 저장하여 어느 서버에서든 조회 가능
+ *
+ * 키 구조
+ * - product_import:{jobId} - 작업 상태 (Hash: status, processed, imported, failed, errors, startedAt, finishedAt)
+ */
+@Slf4j
+@Service
+public class ProductImportService implements DisposableBean {
+
+    private static final String STATUS_PREFIX = "product_import:";
+
+    private static final String QUEUED = "QUEUED";
+    private static final String RUNNING = "RUNNING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+
+    private static final TypeReference<List<String>> ERROR_LIST_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * DECIMAL(10,2) 컬럼 최대값
+     */
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("99999999.99");
+
+    /**
+     * TEXT 컬럼 최대 크기 (바이트)
+     */
+    private static final int MAX_TEXT_BYTES = 65_535;
+
+    private final ProductBulkRepository productBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductImportConfig productImportConfig;
+    private final ThreadPoolExecutor executor;
+    private final Counter importedCounter;
+    private final Counter failedCounter;
+    private final Timer chunkTimer;
+
+    public ProductImportService(ProductBulkRepository productBulkRepository,
+                                TransactionTemplate transactionTemplate,
+                                RedisTemplate<String, String> redisTemplate,
+                                ObjectMapper objectMapper,
+                                ProductImportConfig productImportConfig,
+                                MeterRegistry meterRegistry) {
+        this.productBulkRepository = productBulkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.productImportConfig = productImportConfig;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                productImportConfig.getWorkerThreads(), productImportConfig.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(productImportConfig.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "product-import-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.importedCounter = Counter.builder("product.import.records")
+                .tag("result", "imported")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("product.import.records")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("product.import.chunk")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가져오기 작업 등록
+     * 요청 본문(파일 내용)을 임시 파일로 복사 (multipart 한도와 무관하게 maxFileSize까지 허용)
+     *
+     * @param in 파일 내용 (요청 본문)
+     * @return 대기 상태의 작업 정보 (jobId로 진행 상황 조회)
+     * @throws IllegalArgumentException 파일이 비어있는 경우
+     * @throws BusinessException 파일이 maxFileSize를 넘는 경우 (PRODUCT_IMPORT_TOO_LARGE),
+     *                           실행/대기 중인 작업이 가득 찬 경우 (PRODUCT_IMPORT_BUSY)
+     */
+    public ProductImportStatusDto startImport(InputStream in, ProductDataFormat format) throws IOException {
+        String jobId = UUID.randomUUID().toString();
+        Path tempFile = Files.createTempFile("product-import-", "." + format.getExtension());
+        try {
+            long size = copyToFile(in, tempFile, productImportConfig.getMaxFileSize().toBytes());
+            if (size == 0) {
+                throw new IllegalArgumentException("파일이 비어있습니다");
+            }
+            ImportProgress progress = new ImportProgress(jobId);
+            saveProgress(progress);
+            executor.execute(() -> run(progress, tempFile, format));
+            log.info("Product import queued: jobId={}, format={}, size={}", jobId, format, size);
+            return progress.toDto();
+        } catch (RejectedExecutionException e) {
+            Files.deleteIfExists(tempFile);
+            redisTemplate.delete(STATUS_PREFIX + jobId);
+            throw new BusinessException(ResultCode.PRODUCT_IMPORT_BUSY);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * 가져오기 작업 상태 조회
+     *
+     * @throws BusinessException 작업이 없거나 보관 기간이 지난 경우 (NOT_FOUND)
+     */
+    public ProductImportStatusDto getStatus(String jobId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(STATUS_PREFIX + jobId);
+        if (hash.isEmpty()) {
+            throw new BusinessException(ResultCode.NOT_FOUND);
+        }
+        return ProductImportStatusDto.builder()
+                .jobId(jobId)
+                .status((String) hash.get("status"))
+                .processed(Long.parseLong((String) hash.get("processed")))
+                .imported(Long.parseLong((String) hash.get("imported")))
+                .failed(Long.parseLong((String) hash.get("failed")))
+                .errors(readErrors((String) hash.get("errors")))
+                .startedAt(parseTime((String) hash.get("startedAt")))
+                .finishedAt(parseTime((String) hash.get("finishedAt")))
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private void run(ImportProgress progress, Path tempFile, ProductDataFormat format) {
+        progress.status = RUNNING;
+        progress.startedAt = LocalDateTime.now();
+        saveProgress(progress);
+
+        int chunkSize = productImportConfig.getChunkSize();
+        try (RecordSource source = openSource(tempFile, format)) {
+            // 대소문자 구분 없이 비교 (tags.name의 MySQL 기본 collation과 동일)
+            Map<String, Long> tagIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            tagIds.putAll(productBulkRepository.findAllTagIds());
+
+            List<ProductBulkRecordDto> chunk = new ArrayList<>(chunkSize);
+            List<String> chunkLabels = new ArrayList<>(chunkSize);
+            while (true) {
+                ProductBulkRecordDto record;
+                try {
+                    record = source.next();
+                } catch (InvalidRecordException e) {
+                    progress.processed++;
+                    progress.fail(1, progress.processed + "번째 레코드" + source.position() + ": " + e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                progress.processed++;
+
+                String label = progress.processed + "번째 레코드" + source.position();
+                String error = validate(record);
+                if (error != null) {
+                    progress.fail(1, label + ": " + error);
+                    continue;
+                }
+                chunk.add(record);
+                chunkLabels.add(label);
+
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, chunkLabels, tagIds, progress);
+                    chunk.clear();
+                    chunkLabels.clear();
+                    saveProgress(progress);
+                }
+            }
+            writeChunk(chunk, chunkLabels, tagIds, progress);
+            progress.status = COMPLETED;
+        } catch (Exception e) {
+            // 파일 형식 오류 등 더 읽을 수 없는 경우 (이미 저장된 청크는 유지)
+            progress.status = FAILED;
+            progress.addError("가져오기 중단 (" + progress.processed + "번째 레코드 이후): " + e.getMessage());
+            log.error("Product import failed: jobId={}, processed={}", progress.jobId, progress.processed, e);
+        } finally {
+            progress.finishedAt = LocalDateTime.now();
+            saveProgress(progress);
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                log.warn("Failed to delete import temp file: {}", tempFile, e);
+            }
+        }
+
+        log.info("Product import finished: jobId={}, status={}, processed={}, imported={}, failed={}",
+                progress.jobId, progress.status, progress.processed, progress.imported, progress.failed);
+    }
+
+    /**
+     * 청크 하나를 트랜잭션 하나로 저장
+     * 실패하면 청크 전체가 롤백되므로, 한 건씩 다시 저장하여 문제 레코드만 실패로 기록
+     *
+     * @param labels 레코드별 오류 안내용 위치 (레코드 번호, 줄 번호)
+     */
+    private void writeChunk(List<ProductBulkRecordDto> chunk, List<String> labels,
+                            Map<String, Long> tagIds, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            insertRecords(chunk, tagIds);
+            progress.imported += chunk.size();
+            importedCounter.increment(chunk.size());
+        } catch (RuntimeException e) {
+            log.warn("Product import chunk failed, retrying record by record: jobId={}, records={}~{}, error={}",
+                    progress.jobId, labels.get(0), labels.get(labels.size() - 1), mostSpecificMessage(e));
+            for (int i = 0; i < chunk.size(); i++) {
+                try {
+                    insertRecords(List.of(chunk.get(i)), tagIds);
+                    progress.imported++;
+                    importedCounter.increment();
+                } catch (RuntimeException recordError) {
+                    progress.fail(1, labels.get(i) + " 저장 실패: " + mostSpecificMessage(recordError));
+                }
+            }
+        } finally {
+            chunkTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 레코드를 트랜잭션 하나로 저장 (없는 태그 생성 → 상품 → 옵션/영양성분 → 태그 연결)
+     * 커밋된 경우에만 새로 만든 태그 ID를 tagIds에 반영
+     */
+    private void insertRecords(List<ProductBulkRecordDto> chunk, Map<String, Long> tagIds) {
+        Map<String, Long> createdTagIds = transactionTemplate.execute(status -> {
+            Set<String> missingTags = new LinkedHashSet<>();
+            for (ProductBulkRecordDto record : chunk) {
+                for (String tag : tagNames(record)) {
+                    if (!tagIds.containsKey(tag)) {
+                        missingTags.add(tag);
+                    }
+                }
+            }
+            Map<String, Long> newTagIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            newTagIds.putAll(productBulkRepository.insertTags(missingTags));
+
+            List<Long> productIds = productBulkRepository.insertProducts(chunk);
+            productBulkRepository.insertVariants(productIds, chunk);
+            productBulkRepository.insertNutrients(productIds, chunk);
+
+            List<ProductTagLink> links = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                for (String tag : tagNames(chunk.get(i))) {
+                    Long tagId = tagIds.containsKey(tag) ? tagIds.get(tag) : newTagIds.get(tag);
+                    if (tagId == null) {
+                        throw new IllegalStateException("태그 ID를 찾을 수 없습니다: " + tag);
+                    }
+                    links.add(new ProductTagLink(productIds.get(i), tagId));
+                }
+            }
+            productBulkRepository.insertProductTags(links);
+            return newTagIds;
+        });
+
+        // 커밋된 태그만 반영 (롤백된 청크의 태그 ID는 존재하지 않음)
+        tagIds.putAll(createdTagIds);
+    }
+
+    private static String mostSpecificMessage(Throwable e) {
+        return NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+    }
+
+    /**
+     * 필수 값과 컬럼 길이/범위 확인 (잘못된 레코드 하나가 청크 전체의 INSERT를 실패시키지 않도록 저장 전에 거부)
+     *
+     * @return 오류 내용, 문제가 없으면 null
+     */
+    private static String validate(ProductBulkRecordDto record) {
+        if (record.getId() != null) {
+            return "id가 있는 레코드는 가져올 수 없습니다 (새 상품으로 등록하려면 id를 비워주세요)";
+        }
+        if (isBlank(record.getName()) || record.getName().length() > 255) {
+            return "상품명은 필수이며 255자 이하여야 합니다";
+        }
+        if (isBlank(record.getCategory()) || record.getCategory().length() > 100) {
+            return "카테고리는 필수이며 100자 이하여야 합니다";
+        }
+        if (record.getPrice() == null || record.getPrice().signum() < 0 || !isValidAmount(record.getPrice())) {
+            return "가격은 필수이며 0 이상 99999999.99 이하여야 합니다";
+        }
+        if (isBlank(record.getWeightUnit()) || record.getWeightUnit().length() > 10) {
+            return "중량 단위는 필수이며 10자 이하여야 합니다";
+        }
+        if (!isValidLength(record.getBrand(), 100)) {
+            return "브랜드명은 100자 이하여야 합니다";
+        }
+        if (!isValidLength(record.getStatus(), 50)) {
+            return "판매 상태는 50자 이하여야 합니다";
+        }
+        if (!isValidLength(record.getStorage(), 100)) {
+            return "보관 방법은 100자 이하여야 합니다";
+        }
+        if (!isValidLength(record.getEstimatedDeliveryDays(), 20)) {
+            return "예상 배송 기간은 20자 이하여야 합니다";
+        }
+        if (!isValidText(record.getDescription()) || !isValidText(record.getImageUrl())) {
+            return "상세 설명과 이미지 URL은 65535바이트 이하여야 합니다";
+        }
+        if (!isValidAmount(record.getOriginalPrice()) || !isValidAmount(record.getWeight())
+                || !isValidAmount(record.getShippingFee()) || !isValidAmount(record.getFreeShippingThreshold())) {
+            return "원가, 중량, 배송비, 무료배송 기준 금액은 -99999999.99 ~ 99999999.99 사이여야 합니다";
+        }
+        if (record.getVariants() != null) {
+            for (ProductBulkRecordDto.Variant variant : record.getVariants()) {
+                if (variant == null || isBlank(variant.getName()) || variant.getName().length() > 100
+                        || variant.getPrice() == null || variant.getPrice().signum() < 0 || !isValidAmount(variant.getPrice())
+                        || (variant.getStock() != null && variant.getStock() < 0)) {
+                    return "옵션은 100자 이하의 이름과 0 이상의 가격(99999999.99 이하)/재고가 필요합니다";
+                }
+            }
+        }
+        if (record.getNutrients() != null) {
+            for (ProductBulkRecordDto.Nutrient nutrient : record.getNutrients()) {
+                if (nutrient == null || isBlank(nutrient.getName()) || isBlank(nutrient.getValue())
+                        || isBlank(nutrient.getUnit())) {
+                    return "영양성분은 이름, 값, 단위가 필요합니다";
+                }
+                if (nutrient.getName().length() > 100 || nutrient.getValue().length() > 50
+                        || nutrient.getUnit().length() > 20) {
+                    return "영양성분 이름은 100자, 값은 50자, 단위는 20자 이하여야 합니다";
+                }
+            }
+        }
+        for (String tag : tagNames(record)) {
+            if (tag.length() > 255) {
+                return "태그명은 255자 이하여야 합니다";
+            }
+        }
+        if (!isValidScore(record.getScoreMuscleGain()) || !isValidScore(record.getScoreWeightLoss())
+                || !isValidScore(record.getScoreEnergy()) || !isValidScore(record.getScoreRecovery())
+                || !isValidScore(record.getScoreHealth())) {
+            return "점수는 0.0 ~ 5.0 사이여야 합니다";
+        }
+        return null;
+    }
+
+    private static boolean isValidScore(BigDecimal score) {
+        return score == null || (score.signum() >= 0 && score.compareTo(BigDecimal.valueOf(5)) <= 0);
+    }
+
+    /**
+     * DECIMAL(10,2)에 저장 가능한 값인지 (소수 셋째 자리에서 반올림되어 저장됨)
+     */
+    private static boolean isValidAmount(BigDecimal amount) {
+        return amount == null || amount.setScale(2, RoundingMode.HALF_UP).abs().compareTo(MAX_AMOUNT) <= 0;
+    }
+
+    private static boolean isValidLength(String value, int maxLength) {
+        return value == null || value.length() <= maxLength;
+    }
+
+    private static boolean isValidText(String value) {
+        return value == null || value.getBytes(StandardCharsets.UTF_8).length <= MAX_TEXT_BYTES;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 레코드의 태그명 (공백 제거, 중복 제거)
+     */
+    private static Set<String> tagNames(ProductBulkRecordDto record) {
+        if (record.getTags() == null) {
+            return Set.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String tag : record.getTags()) {
+            if (tag != null && !tag.isBlank()) {
+                names.add(tag.trim());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 입력을 파일로 복사
+     *
+     * @return 복사한 바이트 수
+     * @throws BusinessException maxBytes를 넘는 경우 (PRODUCT_IMPORT_TOO_LARGE)
+     */
+    private static long copyToFile(InputStream in, Path target, long maxBytes) throws IOException {
+        long total = 0;
+        byte[] buffer = new byte[8192];
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new BusinessException(ResultCode.PRODUCT_IMPORT_TOO_LARGE);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return total;
+    }
+
+    private RecordSource openSource(Path file, ProductDataFormat format) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRecordSource(Files.newBufferedReader(file, StandardCharsets.UTF_8));
+            case JSON -> new JsonRecordSource(objectMapper, Files.newInputStream(file));
+        };
+    }
+
+    private void saveProgress(ImportProgress progress) {
+        String key = STATUS_PREFIX + progress.jobId;
+        Map<String, String> hash = new HashMap<>();
+        hash.put("status", progress.status);
+        hash.put("processed", String.valueOf(progress.processed));
+        hash.put("imported", String.valueOf(progress.imported));
+        hash.put("failed", String.valueOf(progress.failed));
+        hash.put("errors", writeErrors(progress.errors));
+        hash.put("startedAt", progress.startedAt != null ? progress.startedAt.toString() : "");
+        hash.put("finishedAt", progress.finishedAt != null ? progress.finishedAt.toString() : "");
+        try {
+            redisTemplate.opsForHash().putAll(key, hash);
+            redisTemplate.expire(key, productImportConfig.getStatusTtl());
+        } catch (Exception e) {
+            // 진행 상황 저장 실패는 가져오기를 중단하지 않음
+            log.warn("Failed to save product import progress: jobId={}, error={}", progress.jobId, e.getMessage());
+        }
+    }
+
+    private String writeErrors(List<String> errors) {
+        try {
+            return objectMapper.writeValueAsString(errors);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("오류 목록 직렬화 실패", e);
+        }
+    }
+
+    private List<String> readErrors(String json) {
+        if (json == null || json.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, ERROR_LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("오류 목록 역직렬화 실패", e);
+        }
+    }
+
+    private static LocalDateTime parseTime(String value) {
+        return value == null || value.isEmpty() ? null : LocalDateTime.parse(value);
+    }
+
+    /**
+     * 작업 진행 상황 (작업 스레드에서만 변경)
+     */
+    private final class ImportProgress {
+        private final String jobId;
+        private String status = QUEUED;
+        private long processed;
+        private long imported;
+        private long failed;
+        private final List<String> errors = new ArrayList<>();
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+
+        private ImportProgress(String jobId) {
+            this.jobId = jobId;
+        }
+
+        private void fail(int count, String error) {
+            failed += count;
+            failedCounter.increment(count);
+            addError(error);
+        }
+
+        private void addError(String error) {
+            if (errors.size() < productImportConfig.getMaxErrors()) {
+                errors.add(error);
+            }
+        }
+
+        private ProductImportStatusDto toDto() {
+            return ProductImportStatusDto.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .processed(processed)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(List.copyOf(errors))
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+
+    /**
+     * 형식이 잘못된 레코드 (해당 레코드만 건너뛰고 계속 읽을 수 있음)
+     */
+    private static class InvalidRecordException extends RuntimeException {
+        private InvalidRecordException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 레코드를 한 건씩 읽는 입력
+     */
+    private interface RecordSource extends Closeable {
+
+        /**
+         * @return 다음 레코드, 끝이면 null
+         * @throws InvalidRecordException 해당 레코드만 잘못된 경우
+         */
+        ProductBulkRecordDto next() throws IOException;
+
+        /**
+         * 마지막으로 읽은 레코드의 파일 내 위치 (오류 안내용)
+         */
+        String position();
+    }
+
+    private static final class CsvRecordSource implements RecordSource {
+
+        private final ProductCsvCodec.RecordReader reader;
+
+        private CsvRecordSource(BufferedReader reader) throws IOException {
+            this.reader = new ProductCsvCodec.RecordReader(reader);
+        }
+
+        @Override
+        public ProductBulkRecordDto next() throws IOException {
+            Map<String, String> values = reader.next();
+            if (values == null) {
+                return null;
+            }
+            try {
+                return ProductCsvCodec.toRecord(values);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidRecordException(e.getMessage());
+            }
+        }
+
+        @Override
+        public String position() {
+            return " (" + reader.getRowLine() + "번째 줄)";
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * JSON 배열 또는 한 줄에 객체 하나(NDJSON)
+     */
+    private static final class JsonRecordSource implements RecordSource {
+
+        private final MappingIterator<ProductBulkRecordDto> iterator;
+        private long line;
+
+        private JsonRecordSource(ObjectMapper objectMapper, InputStream in) throws IOException {
+            this.iterator = objectMapper.readerFor(ProductBulkRecordDto.class).readValues(in);
+        }
+
+        @Override
+        public ProductBulkRecordDto next() throws IOException {
+            try {
+                if (!iterator.hasNextValue()) {
+                    return null;
+                }
+                line = iterator.getParser().getCurrentLocation().getLineNr();
+                return iterator.nextValue();
+            } catch (JsonParseException e) {
+                // 문법 오류는 이후를 읽을 수 없음
+                throw e;
+            } catch (JsonMappingException e) {
+                // 값 형식 오류는 다음 레코드부터 계속 (MappingIterator가 다음 객체로 이동)
+                throw new InvalidRecordException(e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public String position() {
+            return " (" + line + "번째 줄)";
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.energyfactory.energy_factory.dto.*;
 import com.energyfactory.energy_factory.entity.Product;
 import com.energyfactory.energy_factory.entity.ProductNutrient;
 import com.energyfactory.energy_factory.repository.ProductRepository;
+import com.energyfactory.energy_factory.utils.enums.ImageVariant;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -167,6 +168,7 @@ public class ProductService {
                 .price(product.getPrice())
                 .category(product.getCategory())
                 .imageUrl(product.getImageUrl())
+                .thumbnailUrl(buildThumbnailUrl(product.getImageUrl()))
                 .brand(product.getBrand())
                 .weight(product.getWeight())
                 .weightUnit(product.getWeightUnit())
@@ -298,6 +300,15 @@ public class ProductService {
         return List.of(imageUrl);
     }
 
+    /**
+     * 목록용 썸네일 URL
+     * 업로드 시 생성된 썸네일 URL (썸네일이 없는 이전 이미지는 원본 URL)
+     */
+    private String buildThumbnailUrl(String imageUrl) {
+        String thumbnailUrl = ImageVariant.THUMBNAIL.resolveUrl(imageUrl);
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
     /**
      * Product에서 배송 정보 DTO 생성
      * 배송 정보가 모두 null인 경우 null 반환
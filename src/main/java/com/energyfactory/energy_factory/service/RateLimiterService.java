@@ -0,0 +1,152 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.RateLimitConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 토큰 버킷 속도 제한 서비스
+ *
+ * 1. 서버 메모리 사전 필터: 같은 규칙의 로컬 버킷으로 먼저 확인 (이 서버만으로 한도를 넘었다면 전체 한도도 초과)
+ * 2. Redis 전역 버킷: Lua 스크립트 한 번으로 잔여 토큰 계산 + 차감을 원자적으로 처리 (Redis 서버 시간 기준)
+ *
+ * Redis 장애 시에는 로컬 필터 결과만으로 허용 (가용성 우선)
+ */
+@Slf4j
+@Service
+public class RateLimiterService {
+
+    private static final String RATE_LIMIT_PREFIX = "rate_limit:";
+
+    /**
+     * 토큰 버킷 차감
+     * KEYS[1]: 버킷 키
+     * ARGV[1]: 버킷 크기, ARGV[2]: 가득 채워지는 시간(ms)
+     * 반환: {허용 여부(1/0), 재시도까지 남은 시간(ms)}
+     */
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = RedisScript.of("""
+            local capacity = tonumber(ARGV[1])
+            local refill_ms = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil then
+                tokens = capacity
+                ts = now
+            end
+
+            tokens = math.min(capacity, tokens + (now - ts) * capacity / refill_ms)
+
+            local allowed = 0
+            local retry_after = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retry_after = math.ceil((1 - tokens) * refill_ms / capacity)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], refill_ms)
+            return {allowed, retry_after}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, LocalBucket> localBuckets;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimiterService(RedisTemplate<String, String> redisTemplate, RateLimitConfig rateLimitConfig,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitConfig.getLocalMaximumKeys())
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+    }
+
+    /**
+     * 요청 1건에 대한 토큰 차감
+     *
+     * @param rule 제한 규칙
+     * @param key 제한 기준 값 (IP, 이메일, 사용자 ID)
+     * @return 거절 시 재시도까지 남은 시간, 허용 시 null
+     */
+    public Duration tryAcquire(RateLimitConfig.Rule rule, String key) {
+        String bucketKey = RATE_LIMIT_PREFIX + rule.getName() + ":" + key;
+        long refillMillis = rule.getRefillPeriod().toMillis();
+
+        // 1. 서버 메모리 사전 필터 (Redis 호출 없이 거절)
+        LocalBucket localBucket = localBuckets.get(bucketKey, k -> new LocalBucket(rule.getCapacity(), refillMillis));
+        long localRetryAfter = localBucket.tryAcquire();
+        if (localRetryAfter > 0) {
+            return rejected(rule, "local", localRetryAfter);
+        }
+
+        // 2. Redis 전역 버킷
+        try {
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(bucketKey),
+                    String.valueOf(rule.getCapacity()), String.valueOf(refillMillis));
+            if (result != null && result.size() == 2 && ((Number) result.get(0)).longValue() == 0) {
+                return rejected(rule, "global", ((Number) result.get(1)).longValue());
+            }
+        } catch (Exception e) {
+            log.warn("속도 제한 Redis 확인 실패 - 로컬 제한만 적용, rule: {}, error: {}", rule.getName(), e.getMessage());
+        }
+        return null;
+    }
+
+    private Duration rejected(RateLimitConfig.Rule rule, String layer, long retryAfterMillis) {
+        Counter.builder("rate.limit.rejected")
+                .tag("rule", rule.getName())
+                .tag("layer", layer)
+                .register(meterRegistry)
+                .increment();
+        return Duration.ofMillis(Math.max(retryAfterMillis, 1));
+    }
+
+    /**
+     * 서버 메모리 토큰 버킷
+     */
+    private static final class LocalBucket {
+
+        private final int capacity;
+        private final long refillMillis;
+        private double tokens;
+        private long updatedAtMillis;
+
+        LocalBucket(int capacity, long refillMillis) {
+            this.capacity = capacity;
+            this.refillMillis = refillMillis;
+            this.tokens = capacity;
+            this.updatedAtMillis = System.currentTimeMillis();
+        }
+
+        /**
+         * @return 허용 시 0, 거절 시 재시도까지 남은 시간(ms)
+         */
+        synchronized long tryAcquire() {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + (double) (now - updatedAtMillis) * capacity / refillMillis);
+            updatedAtMillis = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) * refillMillis / capacity);
+        }
+    }
+}
@@ -1,75 +1,256 @@
 package com.energyfactory.energy_factory.service;
 
+import com.energyfactory.energy_factory.exception.AuthException;
+import com.energyfactory.energy_factory.jwt.AuthAuditLogger;
+import com.energyfactory.energy_factory.jwt.JwtPrincipal;
+import com.energyfactory.energy_factory.jwt.JwtUtil;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
 
+/**
+ * 리프레시 토큰 패밀리 저장소
+ *
+ * - 로그인(기기)마다 하나의 패밀리를 만들고, 패밀리별로 현재 유효한 리프레시 토큰 하나만 인정
+ * - 갱신할 때마다 토큰을 회전(새 토큰 발급, 이전 토큰 무효화)
+ * - 이미 회전된 이전 토큰이 다시 제출되면 탈취로 간주하고 패밀리 전체를 폐기
+ *   (단, 회전 직후 유예 시간 안에 같은 토큰으로 동시에 들어온 갱신 요청에는 이미 발급한 후속 토큰을 다시 발급)
+ * - 후속 토큰 ID는 제출된 토큰 ID의 HMAC으로 결정적으로 만들어, 유예 처리 시 원문 없이 다시 계산
+ * - Redis에는 토큰 원문 대신 토큰 ID의 SHA-256 해시만 저장 (후속 토큰 ID 포함)
+ * - 각 작업은 Lua 스크립트 한 번(왕복 1회)으로 원자적으로 처리
+ *
+ * 키 구조
+ * - refresh_family:{familyId} (hash) - userId, current(현재 토큰 ID 해시),
+ *   previous(직전 토큰 ID 해시), successor(직전 토큰의 후속 토큰 ID 해시), graceUntil(유예 종료 시각, ms)
+ * - refresh_families:{userId} (set) - 사용자의 패밀리 ID 목록 (전체 로그아웃용)
+ */
 @Service
 public class RefreshTokenService {
 
+    private static final String FAMILY_PREFIX = "refresh_family:";
+    private static final String USER_FAMILIES_PREFIX = "refresh_families:";
+
+    private static final String REUSED = "-1";
+
+    private static final String SUCCESSOR_ALGORITHM = "HmacSHA256";
+
+    /**
+     * 패밀리 생성
+     * KEYS[1]: 패밀리 키, KEYS[2]: 사용자 패밀리 목록 키
+     * ARGV[1]: userId, ARGV[2]: 토큰 ID 해시, ARGV[3]: TTL(초), ARGV[4]: familyId
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of("""
+            redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'current', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('SADD', KEYS[2], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 토큰 회전
+     * KEYS[1]: 패밀리 키, KEYS[2]: 사용자 패밀리 목록 키
+     * ARGV[1]: 제출된 토큰 ID 해시, ARGV[2]: 후속 토큰 ID 해시, ARGV[3]: TTL(초), ARGV[4]: familyId,
+     * ARGV[5]: 현재 시각(ms), ARGV[6]: 유예 종료 시각(ms)
+     * 반환: 발급할 토큰 ID 해시 (새로 회전했거나 유예 시간 내 이미 회전된 후속 토큰 ID 해시),
+     *       "0" 패밀리 없음(만료/로그아웃), "-1" 재사용 감지(패밀리 폐기)
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = RedisScript.of("""
+            local state = redis.call('HMGET', KEYS[1], 'current', 'previous', 'successor', 'graceUntil')
+            local current = state[1]
+            if not current then
+                return '0'
+            end
+            if current == ARGV[1] then
+                redis.call('HSET', KEYS[1], 'current', ARGV[2], 'previous', ARGV[1],
+                        'successor', ARGV[2], 'graceUntil', ARGV[6])
+                redis.call('EXPIRE', KEYS[1], ARGV[3])
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+                return ARGV[2]
+            end
+            if state[2] == ARGV[1] and state[4] and tonumber(ARGV[5]) <= tonumber(state[4]) then
+                return state[3]
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[4])
+            return '-1'
+            """, String.class);
+
+    /**
+     * 패밀리 폐기 (로그아웃) - 제출된 토큰이 현재 토큰일 때만 폐기
+     * KEYS[1]: 패밀리 키, KEYS[2]: 사용자 패밀리 목록 키
+     * ARGV[1]: 제출된 토큰 ID 해시, ARGV[2]: familyId
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = RedisScript.of("""
+            if redis.call('HGET', KEYS[1], 'current') == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                redis.call('SREM', KEYS[2], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 사용자의 모든 패밀리 폐기 (비밀번호 변경, 회원 탈퇴)
+     * KEYS[1]: 사용자 패밀리 목록 키, ARGV[1]: 패밀리 키 접두사
+     */
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = RedisScript.of("""
+            local families = redis.call('SMEMBERS', KEYS[1])
+            for _, familyId in ipairs(families) do
+                redis.call('DEL', ARGV[1] .. familyId)
+            end
+            redis.call('DEL', KEYS[1])
+            return #families
+            """, Long.class);
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final JwtUtil jwtUtil;
+    private final AuthAuditLogger authAuditLogger;
+
+    /**
+     * 후속 토큰 ID 생성 키 (Redis 내용만으로는 후속 토큰 ID를 계산할 수 없도록 서버 비밀 사용)
+     */
+    private final SecretKeySpec successorKey;
 
     @Value("${jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    /**
+     * 회전 직후 직전 토큰을 계속 인정하는 유예 시간(초) - 여러 탭/재시도 요청의 동시 갱신 허용
+     */
+    @Value("${jwt.refresh-grace-period:5}")
+    private long refreshGracePeriod;
 
     @Autowired
-    public RefreshTokenService(RedisTemplate<String, String> redisTemplate) {
+    public RefreshTokenService(RedisTemplate<String, String> redisTemplate, JwtUtil jwtUtil,
+                               AuthAuditLogger authAuditLogger, @Value("${jwt.secret}") String secret) {
         this.redisTemplate = redisTemplate;
+        this.jwtUtil = jwtUtil;
+        this.authAuditLogger = authAuditLogger;
+        this.successorKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SUCCESSOR_ALGORITHM);
     }
 
     /**
-     * Refresh Token을 Redis에 저장
+     * 새 로그인(기기)에 대한 리프레시 토큰 발급
+     * @param userId 사용자 ID
      * @param username 사용자명
-     * @param refreshToken 리프레시 토큰
+     * @return 리프레시 토큰
      */
-    public void saveRefreshToken(String username, String refreshToken) {
-        String key = REFRESH_TOKEN_PREFIX + username;
-        redisTemplate.opsForValue().set(key, refreshToken, refreshTokenExpiration, TimeUnit.SECONDS);
+    public String issueRefreshToken(Long userId, String username) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+
+        redisTemplate.execute(ISSUE_SCRIPT,
+                List.of(FAMILY_PREFIX + familyId, USER_FAMILIES_PREFIX + userId),
+                String.valueOf(userId), hash(tokenId), String.valueOf(refreshTokenExpiration), familyId);
+
+        return createToken(userId, username, familyId, tokenId);
     }
 
     /**
-     * Refresh Token 조회
-     * @param username 사용자명
-     * @return 저장된 리프레시 토큰
+     * 리프레시 토큰 회전 (Redis 왕복 1회)
+     * @param principal 검증된 리프레시 토큰 클레임
+     * @return 같은 패밀리의 새 리프레시 토큰
+     * @throws AuthException 패밀리가 없거나(INVALID_REFRESH_TOKEN) 이미 회전된 토큰이 재사용된 경우(REFRESH_TOKEN_REUSED)
      */
-    public String getRefreshToken(String username) {
-        String key = REFRESH_TOKEN_PREFIX + username;
-        return redisTemplate.opsForValue().get(key);
+    public String rotateRefreshToken(JwtPrincipal principal) {
+        if (principal.familyId() == null || principal.tokenId() == null) {
+            throw new AuthException(ResultCode.INVALID_REFRESH_TOKEN);
+        }
+
+        // 같은 토큰의 후속 토큰 ID는 항상 같으므로 유예 시간 내 동시 요청도 같은 토큰을 받음
+        String newTokenId = successorTokenId(principal.tokenId());
+        String newTokenHash = hash(newTokenId);
+        long now = System.currentTimeMillis();
+        String issuedTokenHash = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(FAMILY_PREFIX + principal.familyId(), USER_FAMILIES_PREFIX + principal.userId()),
+                hash(principal.tokenId()), newTokenHash, String.valueOf(refreshTokenExpiration), principal.familyId(),
+                String.valueOf(now), String.valueOf(now + refreshGracePeriod * 1000L));
+
+        if (REUSED.equals(issuedTokenHash)) {
+            authAuditLogger.refreshTokenReused(principal.userId(), principal.familyId());
+            throw new AuthException(ResultCode.REFRESH_TOKEN_REUSED);
+        }
+        if (!newTokenHash.equals(issuedTokenHash)) {
+            throw new AuthException(ResultCode.INVALID_REFRESH_TOKEN);
+        }
+
+        return createToken(principal.userId(), principal.username(), principal.familyId(), newTokenId);
     }
 
     /**
-     * Refresh Token 삭제
-     * @param username 사용자명
+     * 로그아웃 - 해당 기기의 패밀리만 폐기
+     * @param principal 검증된 리프레시 토큰 클레임
      */
-    public void deleteRefreshToken(String username) {
-        String key = REFRESH_TOKEN_PREFIX + username;
-        redisTemplate.delete(key);
+    public void revokeRefreshToken(JwtPrincipal principal) {
+        if (principal.familyId() == null || principal.tokenId() == null) {
+            return;
+        }
+        redisTemplate.execute(REVOKE_SCRIPT,
+                List.of(FAMILY_PREFIX + principal.familyId(), USER_FAMILIES_PREFIX + principal.userId()),
+                hash(principal.tokenId()), principal.familyId());
     }
 
     /**
-     * Refresh Token 유효성 검증
-     * @param username 사용자명
-     * @param refreshToken 검증할 리프레시 토큰
-     * @return 유효성 여부
+     * 사용자의 모든 기기 로그아웃
+     * 트랜잭션 안에서 호출되면 커밋 이후에 폐기 (롤백된 비밀번호 변경으로 로그아웃되지 않도록)
+     * @param userId 사용자 ID
      */
-    public boolean validateRefreshToken(String username, String refreshToken) {
-        String storedToken = getRefreshToken(username);
-        return storedToken != null && storedToken.equals(refreshToken);
+    public void revokeAllRefreshTokens(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeAllFamilies(userId);
+                }
+            });
+            return;
+        }
+        revokeAllFamilies(userId);
+    }
+
+    private void revokeAllFamilies(Long userId) {
+        redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(USER_FAMILIES_PREFIX + userId), FAMILY_PREFIX);
+    }
+
+    private String createToken(Long userId, String username, String familyId, String tokenId) {
+        return jwtUtil.createRefreshToken(userId, username, familyId, tokenId, refreshTokenExpiration * 1000L);
     }
 
     /**
-     * Refresh Token 존재 여부 확인
-     * @param username 사용자명
-     * @return 존재 여부
+     * 후속 토큰 ID (제출된 토큰 ID의 HMAC-SHA256)
      */
-    public boolean existsRefreshToken(String username) {
-        String key = REFRESH_TOKEN_PREFIX + username;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    private String successorTokenId(String tokenId) {
+        try {
+            Mac mac = Mac.getInstance(SUCCESSOR_ALGORITHM);
+            mac.init(successorKey);
+            return HexFormat.of().formatHex(mac.doFinal(tokenId.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hash(String tokenId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenId.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
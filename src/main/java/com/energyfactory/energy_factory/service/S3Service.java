@@ -1,37 +1,110 @@
 package com.energyfactory.energy_factory.service;
 
-import lombok.RequiredArgsConstructor;
+import com.energyfactory.energy_factory.config.ImageUploadConfig;
+import com.energyfactory.energy_factory.utils.enums.ImageVariant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+/**
+ * S3 이미지 저장 서비스
+ *
+ * 업로드 파일을 힙에 통째로 복사하지 않고 MultipartFile 스트림(임시 파일)에서 바로 S3로 전송
+ * - multipartThreshold 미만: PutObject 한 번
+ * - 이상: 멀티파트 업로드, 파트는 서버 전체가 공유하는 고정 크기 스레드 풀에서 병렬 전송
+ * - 파트/객체마다 스트림을 새로 열 수 있으므로 SDK 재시도 시에도 버퍼링 없이 다시 읽음
+ * - CRC32 체크섬은 SDK가 전송하면서 계산하고 S3가 검증 (추가 읽기 없음)
+ * - 축소 이미지(ImageVariant)는 원본과 같은 디렉토리의 고정 파일명으로 저장 ({ID}/original.jpg → {ID}/thumb.jpg 등)
+ */
 @Slf4j
 @Service
 @ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true")  // AWS_S3_ENABLED=true일 때만 로드
-@RequiredArgsConstructor
-public class S3Service {
+public class S3Service implements DisposableBean {
 
     private final S3Client s3Client;
+    private final ImageUploadConfig imageUploadConfig;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ExecutorService partUploadExecutor;
+    private final Timer singleUploadTimer;
+    private final Timer multipartUploadTimer;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    /**
+     * 객체 URL 접두사 (로컬 S3 호환 서버 사용 시 지정, 비어 있으면 버킷 기본 주소)
+     */
+    @Value("${cloud.aws.s3.public-url:}")
+    private String publicUrl;
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(
             "jpg", "jpeg", "png", "gif", "webp"
     );
 
-    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    public S3Service(S3Client s3Client,
+                     ImageUploadConfig imageUploadConfig,
+                     ImageDerivativeService imageDerivativeService,
+                     MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.imageUploadConfig = imageUploadConfig;
+        this.imageDerivativeService = imageDerivativeService;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.partUploadExecutor = Executors.newFixedThreadPool(imageUploadConfig.getPartUploadThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "s3-part-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.singleUploadTimer = Timer.builder("s3.upload")
+                .tag("mode", "single")
+                .register(meterRegistry);
+        this.multipartUploadTimer = Timer.builder("s3.upload")
+                .tag("mode", "multipart")
+                .register(meterRegistry);
+    }
 
     /**
      * 이미지 파일 업로드
@@ -40,28 +113,33 @@ public class S3Service {
         // 파일 검증
         validateFile(file);
 
+        // 축소 이미지 생성 (원본 디코딩은 한 번, 지원하지 않는 형식이면 생략)
+        List<ImageDerivativeService.Derivative> derivatives = createDerivatives(file);
+
         // 파일명 생성 (UUID + 원본 파일 확장자)
         String originalFilename = file.getOriginalFilename();
         String extension = getFileExtension(originalFilename);
-        String fileName = UUID.randomUUID().toString() + "." + extension;
+        String imageId = UUID.randomUUID().toString();
 
-        // S3 경로 생성 (예: products/uuid.jpg)
-        String s3Key = directory + "/" + fileName;
+        // S3 경로 생성 (예: products/uuid/original.jpg, 축소 이미지가 없으면 products/uuid.jpg)
+        String imageDirectory = directory + "/" + imageId + "/";
+        String s3Key = derivatives.isEmpty()
+                ? directory + "/" + imageId + "." + extension
+                : imageDirectory + ImageVariant.ORIGINAL_NAME + "." + extension;
 
         try {
-            // S3에 파일 업로드
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
+            // S3에 파일 업로드 (큰 파일은 멀티파트)
+            if (file.getSize() >= imageUploadConfig.getMultipartThreshold().toBytes()) {
+                multipartUploadTimer.recordCallable(() -> uploadMultipart(file, s3Key));
+            } else {
+                singleUploadTimer.recordCallable(() -> uploadSingle(file, s3Key));
+            }
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+            // 축소 이미지 업로드 (원본과 같은 디렉토리, 병렬)
+            uploadDerivatives(derivatives, imageDirectory);
 
             // 업로드된 파일의 URL 반환
-            String fileUrl = String.format("https://%s.s3.ap-northeast-2.amazonaws.com/%s",
-                    bucketName, s3Key);
+            String fileUrl = getUrlPrefix() + s3Key;
 
             log.info("File uploaded successfully: {}", fileUrl);
             return fileUrl;
@@ -72,20 +150,161 @@ public class S3Service {
         }
     }
 
+    @Override
+    public void destroy() {
+        partUploadExecutor.shutdown();
+    }
+
+    private List<ImageDerivativeService.Derivative> createDerivatives(MultipartFile file) throws IOException {
+        try {
+            return imageDerivativeService.createDerivatives(file);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 처리가 중단되었습니다", e);
+        }
+    }
+
     /**
-     * 이미지 파일 삭제
+     * 축소 이미지 업로드 (키마다 새 업로드 ID이므로 변경되지 않음 → 장기 캐시)
      */
-    public void deleteImage(String fileUrl) {
+    private void uploadDerivatives(List<ImageDerivativeService.Derivative> derivatives, String imageDirectory)
+            throws InterruptedException, ExecutionException {
+        List<Future<?>> futures = new ArrayList<>(derivatives.size());
+        for (ImageDerivativeService.Derivative derivative : derivatives) {
+            futures.add(partUploadExecutor.submit(() -> s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(imageDirectory + derivative.variant().getFileName())
+                            .contentType(ImageDerivativeService.CONTENT_TYPE)
+                            .cacheControl(IMMUTABLE_CACHE_CONTROL)
+                            .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                            .build(),
+                    RequestBody.fromBytes(derivative.bytes()))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    /**
+     * 단일 PutObject 업로드 (스트림 전송)
+     */
+    private Void uploadSingle(MultipartFile file, String s3Key) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(file.getContentType())
+                .contentLength(file.getSize())
+                .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                .build();
+
+        s3Client.putObject(putObjectRequest,
+                RequestBody.fromContentProvider(() -> openStream(file, 0, file.getSize()), file.getSize(), file.getContentType()));
+        return null;
+    }
+
+    /**
+     * 멀티파트 업로드 (파트 병렬 전송, 실패 시 업로드 취소)
+     */
+    private Void uploadMultipart(MultipartFile file, String s3Key) throws InterruptedException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .contentType(file.getContentType())
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                        .build())
+                .uploadId();
+
+        long size = file.getSize();
+        long partSize = imageUploadConfig.getPartSize().toBytes();
+        List<Future<CompletedPart>> futures = new ArrayList<>();
         try {
-            // URL에서 S3 key 추출
-            String s3Key = extractS3KeyFromUrl(fileUrl);
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+                long partOffset = offset;
+                long partLength = Math.min(partSize, size - offset);
+                int number = partNumber;
+                futures.add(partUploadExecutor.submit(() -> uploadPart(file, s3Key, uploadId, number, partOffset, partLength)));
+            }
 
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+            List<CompletedPart> parts = new ArrayList<>(futures.size());
+            for (Future<CompletedPart> future : futures) {
+                parts.add(future.get());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
                     .bucket(bucketName)
                     .key(s3Key)
-                    .build();
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("Multipart upload completed: key={}, parts={}", s3Key, parts.size());
+            return null;
 
-            s3Client.deleteObject(deleteObjectRequest);
+        } catch (InterruptedException | ExecutionException | RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            abortMultipartUpload(s3Key, uploadId);
+            if (e instanceof InterruptedException interrupted) {
+                throw interrupted;
+            }
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            throw new IllegalStateException("멀티파트 업로드 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    private CompletedPart uploadPart(MultipartFile file, String s3Key, String uploadId,
+                                     int partNumber, long offset, long length) {
+        UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(s3Key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(length)
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                        .build(),
+                RequestBody.fromContentProvider(() -> openStream(file, offset, length), length, file.getContentType()));
+
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .checksumCRC32(response.checksumCRC32())
+                .build();
+    }
+
+    private void abortMultipartUpload(String s3Key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(s3Key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart upload: key={}, uploadId={}, error={}", s3Key, uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * 파일의 [offset, offset + length) 구간 스트림
+     * 디스크에 저장된 업로드 파일은 skip이 파일 위치 이동이므로 앞부분을 읽지 않음
+     */
+    private static InputStream openStream(MultipartFile file, long offset, long length) {
+        try {
+            InputStream in = file.getInputStream();
+            in.skipNBytes(offset);
+            return new RangeInputStream(in, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이미지 파일 삭제 (원본과 축소 이미지를 DeleteObjects 한 번으로 삭제)
+     */
+    public void deleteImage(String fileUrl) {
+        try {
+            int failedCount = deleteObjects(getImageKeys(fileUrl));
+            if (failedCount > 0) {
+                throw new IllegalStateException(failedCount + "개 객체 삭제 실패");
+            }
             log.info("File deleted successfully: {}", fileUrl);
 
         } catch (Exception e) {
@@ -94,6 +313,69 @@ public class S3Service {
         }
     }
 
+    /**
+     * 이미지 URL에 해당하는 S3 key 목록 (원본 + 축소 이미지)
+     *
+     * @throws IllegalArgumentException 이 버킷의 URL이 아닌 경우
+     */
+    public List<String> getImageKeys(String fileUrl) {
+        List<String> keys = new ArrayList<>();
+        keys.add(extractS3KeyFromUrl(fileUrl));
+        for (ImageVariant variant : ImageVariant.values()) {
+            String variantUrl = variant.resolveUrl(fileUrl);
+            if (variantUrl != null) {
+                keys.add(extractS3KeyFromUrl(variantUrl));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 이 버킷의 객체 URL이면 S3 key, 아니면 null
+     */
+    public String findS3Key(String fileUrl) {
+        String s3Prefix = getUrlPrefix();
+        return fileUrl != null && fileUrl.startsWith(s3Prefix) ? fileUrl.substring(s3Prefix.length()) : null;
+    }
+
+    /**
+     * 객체 일괄 삭제 (DeleteObjects 요청당 최대 1000개)
+     *
+     * @return 삭제에 실패한 객체 수
+     */
+    public int deleteObjects(Collection<String> s3Keys) {
+        List<ObjectIdentifier> identifiers = s3Keys.stream()
+                .distinct()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        int failedCount = 0;
+        for (int from = 0; from < identifiers.size(); from += DELETE_BATCH_SIZE) {
+            List<ObjectIdentifier> batch = identifiers.subList(from, Math.min(from + DELETE_BATCH_SIZE, identifiers.size()));
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(batch).quiet(true).build())
+                    .build());
+            for (S3Error error : response.errors()) {
+                log.warn("Failed to delete object: key={}, code={}, message={}", error.key(), error.code(), error.message());
+            }
+            failedCount += response.errors().size();
+        }
+        return failedCount;
+    }
+
+    /**
+     * 디렉토리(prefix) 아래 모든 객체 순회 (페이지 단위 조회)
+     */
+    public void forEachObject(String prefix, Consumer<S3Object> action) {
+        s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(bucketName)
+                        .prefix(prefix)
+                        .build())
+                .contents()
+                .forEach(action);
+    }
+
     /**
      * 파일 검증
      */
@@ -104,8 +386,9 @@ public class S3Service {
         }
 
         // 파일 크기 확인
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다");
+        if (file.getSize() > imageUploadConfig.getMaxFileSize().toBytes()) {
+            throw new IllegalArgumentException(
+                    "파일 크기는 " + imageUploadConfig.getMaxFileSize().toMegabytes() + "MB를 초과할 수 없습니다");
         }
 
         // 파일 확장자 확인
@@ -130,10 +413,81 @@ public class S3Service {
      */
     private String extractS3KeyFromUrl(String fileUrl) {
         // URL 형식: https://bucket-name.s3.region.amazonaws.com/directory/filename.jpg
-        String s3Prefix = String.format("https://%s.s3.ap-northeast-2.amazonaws.com/", bucketName);
+        String s3Prefix = getUrlPrefix();
         if (fileUrl.startsWith(s3Prefix)) {
             return fileUrl.substring(s3Prefix.length());
         }
         throw new IllegalArgumentException("잘못된 S3 URL 형식입니다");
     }
+
+    /**
+     * S3 key의 객체 URL
+     */
+    public String getObjectUrl(String s3Key) {
+        return getUrlPrefix() + s3Key;
+    }
+
+    /**
+     * 객체 URL 접두사
+     */
+    private String getUrlPrefix() {
+        if (publicUrl != null && !publicUrl.isBlank()) {
+            return publicUrl.endsWith("/") ? publicUrl : publicUrl + "/";
+        }
+        return String.format("https://%s.s3.ap-northeast-2.amazonaws.com/", bucketName);
+    }
+
+    /**
+     * 앞에서부터 length 바이트만 읽는 스트림
+     */
+    private static final class RangeInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private RangeInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int value = super.read();
+            if (value >= 0) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (count > 0) {
+                remaining -= count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,522 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.NotificationConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결 저장소
+ *
+ * 사용자당 여러 연결(탭/기기)을 허용하고, 연결마다 크기가 제한된 송신 대기열을 둠
+ * - 알림을 보내는 쪽은 대기열에 넣기만 하고 반환 (네트워크 쓰기를 기다리지 않음)
+ * - 대기열은 전용 디스패처 스레드 풀이 비움 (연결당 동시에 하나의 작업만 실행)
+ * - 대기열이 가득 찬 느린 연결은 정책에 따라 가장 오래된 이벤트를 버리거나 연결을 끊음
+ * - 사용자당 최대 연결 수를 넘으면 가장 오래된 연결을 종료
+ * - 새 연결은 재전송 이벤트를 받을 때까지 전송을 보류하고(resume), 재전송 범위(최대 ID) 이하의 실시간 알림은 건너뜀
+ *   (서버마다 기록 후 발행하므로 실시간 알림은 ID 순서가 뒤바뀌어 도착할 수 있음 → 마지막으로 보낸 ID와는 비교하지 않음)
+ * - 주기적으로 주석 이벤트(heartbeat)를 보내고, 일정 시간 전송에 성공하지 못한 연결은 종료
+ * - 쓰기가 writeTimeout 넘게 블로킹된 연결(송신 버퍼가 찬 half-open 연결 등)은 쓰기 완료를 기다리지 않고 저장소에서 제거
+ */
+@Slf4j
+@Service
+public class SseConnectionRegistry implements DisposableBean {
+
+    /**
+     * 디스패처 작업 한 번에 보내는 최대 이벤트 수 (연결 간 공정성)
+     */
+    private static final int MAX_EVENTS_PER_DRAIN = 64;
+
+    /**
+     * 송신 대기열 항목 (SseEventBuilder는 재사용할 수 없으므로 전송 시점에 생성)
+     *
+     * @param name      이벤트 이름 (null이면 data를 주석으로 전송)
+     * @param id        이벤트 ID (알림 기록 ID, 없으면 null)
+     * @param data      이벤트 데이터
+     * @param createdAt 알림 발행 요청 시각 (epoch 밀리초, 알림이 아니면 0)
+     * @param replay    Last-Event-ID 재전송 이벤트 여부
+     */
+    public record Event(String name, String id, String data, long createdAt, boolean replay) {
+
+        static final Event HEARTBEAT = new Event(null, null, "heartbeat", 0);
+
+        public Event(String name, String id, String data, long createdAt) {
+            this(name, id, data, createdAt, false);
+        }
+    }
+
+    private final NotificationConfig notificationConfig;
+    private final NotificationBus notificationBus;
+
+    private final Map<Long, List<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong connectionSequence = new AtomicLong();
+
+    private final ThreadPoolExecutor dispatcherPool;
+    private final ExecutorService dispatcher;
+
+    private final Counter droppedCounter;
+    private final Counter disconnectedCounter;
+    private final Counter idleEvictedCounter;
+    private final Counter sendFailedCounter;
+    private final Counter writeTimeoutCounter;
+    private final Counter heartbeatCounter;
+    private final Timer deliveryTimer;
+    private final Timer writeTimer;
+
+    public SseConnectionRegistry(NotificationConfig notificationConfig,
+                                 NotificationBus notificationBus,
+                                 MeterRegistry meterRegistry) {
+        this.notificationConfig = notificationConfig;
+        this.notificationBus = notificationBus;
+
+        // 연결마다 대기 작업은 최대 하나이므로 작업 대기열 크기는 연결 수로 제한됨
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = notificationConfig.getDispatcherThreads();
+        this.dispatcherPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-dispatcher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.dispatcher = ExecutorServiceMetrics.monitor(meterRegistry, dispatcherPool, "sse.dispatcher");
+
+        this.droppedCounter = Counter.builder("sse.queue.overflow")
+                .tag("action", "drop_oldest")
+                .register(meterRegistry);
+        this.disconnectedCounter = Counter.builder("sse.queue.overflow")
+                .tag("action", "disconnect")
+                .register(meterRegistry);
+        this.idleEvictedCounter = Counter.builder("sse.evictions")
+                .tag("reason", "idle")
+                .register(meterRegistry);
+        this.sendFailedCounter = Counter.builder("sse.evictions")
+                .tag("reason", "send_failure")
+                .register(meterRegistry);
+        this.writeTimeoutCounter = Counter.builder("sse.evictions")
+                .tag("reason", "write_timeout")
+                .register(meterRegistry);
+        this.heartbeatCounter = Counter.builder("sse.heartbeats")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("notification.delivery.latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.writeTimer = Timer.builder("sse.write.latency")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("sse.connections", connectionCount, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("sse.connected.users", connections, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("sse.queue.depth", this, SseConnectionRegistry::getQueuedEventCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 연결 등록 (resume 호출 전까지 전송 보류, 그동안 도착한 알림은 대기열에 쌓임)
+     * 사용자 연결 수가 최대치를 넘으면 가장 오래된 연결을 종료
+     */
+    public SseConnection register(Long userId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(connectionSequence.incrementAndGet(), userId, emitter);
+
+        SseConnection[] evicted = new SseConnection[1];
+        connections.compute(userId, (key, userConnections) -> {
+            List<SseConnection> updated = userConnections == null ? new CopyOnWriteArrayList<>() : userConnections;
+            if (updated.size() >= notificationConfig.getMaxConnectionsPerUser()) {
+                evicted[0] = updated.get(0);
+            }
+            updated.add(connection);
+            return updated;
+        });
+        connectionCount.incrementAndGet();
+        notificationBus.subscribe(userId);
+
+        emitter.onCompletion(() -> unregister(connection, "completion"));
+        emitter.onTimeout(() -> unregister(connection, "timeout"));
+        emitter.onError(e -> unregister(connection, "error: " + e.getMessage()));
+
+        if (evicted[0] != null) {
+            log.info("사용자 최대 SSE 연결 수 초과 - 오래된 연결 종료: userId={}, connectionId={}",
+                    userId, evicted[0].getId());
+            evicted[0].close("max_connections");
+        }
+        return connection;
+    }
+
+    /**
+     * 사용자의 모든 연결 대기열에 이벤트 추가 (전송은 디스패처 스레드에서 수행)
+     *
+     * @return 이벤트를 받은 연결 수
+     */
+    public int enqueue(Long userId, Event event) {
+        List<SseConnection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return 0;
+        }
+        for (SseConnection connection : userConnections) {
+            connection.enqueue(event);
+        }
+        return userConnections.size();
+    }
+
+    /**
+     * 사용자의 모든 연결 종료
+     */
+    public void closeAll(Long userId) {
+        List<SseConnection> userConnections = connections.get(userId);
+        if (userConnections != null) {
+            userConnections.forEach(SseConnection::close);
+        }
+    }
+
+    /**
+     * 하트비트 전송 및 유휴 연결 정리 (스케줄러 단일 스레드에서 호출)
+     * - 진행 중인 쓰기가 writeTimeout을 넘긴 연결은 쓰기 완료를 기다리지 않고 제거
+     * - 다음 점검 전에 heartbeatInterval 동안 전송 성공이 없게 될 연결에 주석 이벤트 추가 (실제 쓰기는 디스패처)
+     *   (유휴 기준을 점검 주기만큼 앞당겨, 점검 직후 유휴가 된 연결도 heartbeatInterval 안에 하트비트를 받음)
+     * - idleTimeout 동안 전송 성공이 없는 연결은 끊긴 것으로 보고 종료
+     *
+     * @return 종료한 연결 수
+     */
+    public int sendHeartbeats() {
+        long now = System.currentTimeMillis();
+        long heartbeatMillis = notificationConfig.getHeartbeatInterval().toMillis()
+                - notificationConfig.getHeartbeatCheckInterval().toMillis();
+        long idleTimeoutMillis = notificationConfig.getIdleTimeout().toMillis();
+        long writeTimeoutMillis = notificationConfig.getWriteTimeout().toMillis();
+
+        int evictedCount = 0;
+        for (List<SseConnection> userConnections : connections.values()) {
+            for (SseConnection connection : userConnections) {
+                long writeStartedAt = connection.writeStartedAt;
+                if (writeStartedAt > 0) {
+                    if (now - writeStartedAt >= writeTimeoutMillis) {
+                        writeTimeoutCounter.increment();
+                        connection.abandon("write_timeout");
+                        evictedCount++;
+                    }
+                    continue;
+                }
+
+                long idleMillis = now - connection.lastActivityAt;
+                if (idleMillis >= idleTimeoutMillis) {
+                    idleEvictedCounter.increment();
+                    connection.close("idle");
+                    evictedCount++;
+                } else if (idleMillis >= heartbeatMillis) {
+                    connection.enqueueHeartbeat();
+                }
+            }
+        }
+        return evictedCount;
+    }
+
+    /**
+     * 전체 송신 대기열에 쌓인 이벤트 수
+     */
+    public int getQueuedEventCount() {
+        int count = 0;
+        for (List<SseConnection> userConnections : connections.values()) {
+            for (SseConnection connection : userConnections) {
+                count += connection.getQueueSize();
+            }
+        }
+        return count;
+    }
+
+    public int getConnectedUserCount() {
+        return connections.size();
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        connections.values().forEach(userConnections -> userConnections.forEach(SseConnection::close));
+        dispatcherPool.shutdown();
+    }
+
+    /**
+     * 저장소에서 연결 제거 (완료/타임아웃/에러 콜백이 여러 번 호출되어도 한 번만 처리)
+     */
+    private void unregister(SseConnection connection, String reason) {
+        if (!connection.markClosed()) {
+            return;
+        }
+        Long userId = connection.getUserId();
+        connections.computeIfPresent(userId, (key, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+        connectionCount.decrementAndGet();
+        notificationBus.unsubscribe(userId);
+        log.info("SSE 연결 종료: userId={}, connectionId={}, reason={}", userId, connection.getId(), reason);
+    }
+
+    /**
+     * SSE 연결 하나와 송신 대기열
+     */
+    public class SseConnection {
+
+        private final long id;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Event> queue = new ArrayDeque<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private volatile boolean paused = true;
+
+        /**
+         * 재전송한 알림 중 가장 큰 ID (재전송 조회 전에 기록되어 재전송에 포함된 실시간 알림의 중복 방지, 없으면 null)
+         */
+        private volatile String replayHighWaterId;
+
+        /**
+         * 마지막 전송 성공 시각 (epoch 밀리초, 연결 시각으로 시작)
+         */
+        private volatile long lastActivityAt = System.currentTimeMillis();
+
+        /**
+         * 진행 중인 쓰기의 시작 시각 (epoch 밀리초, 쓰기 중이 아니면 0)
+         */
+        private volatile long writeStartedAt;
+
+        private SseConnection(long id, Long userId, SseEmitter emitter) {
+            this.id = id;
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public SseEmitter getEmitter() {
+            return emitter;
+        }
+
+        public boolean isClosed() {
+            return closed.get();
+        }
+
+        /**
+         * 대기열에 이벤트 추가 후 디스패처 작업 예약
+         */
+        public void enqueue(Event event) {
+            if (closed.get()) {
+                return;
+            }
+
+            synchronized (queue) {
+                if (queue.size() >= notificationConfig.getQueueCapacity()) {
+                    if (notificationConfig.getOverflowPolicy() == NotificationConfig.OverflowPolicy.DISCONNECT) {
+                        disconnectedCounter.increment();
+                        log.warn("SSE 송신 대기열 초과 - 연결 종료: userId={}, connectionId={}", userId, id);
+                        queue.clear();
+                        dispatcher.execute(() -> close("overflow"));
+                        return;
+                    }
+                    queue.pollFirst();
+                    droppedCounter.increment();
+                }
+                queue.addLast(event);
+            }
+            schedule();
+        }
+
+        /**
+         * 하트비트 추가 (대기 중인 이벤트가 있으면 그 전송이 하트비트를 대신하므로 생략)
+         */
+        private void enqueueHeartbeat() {
+            synchronized (queue) {
+                if (!queue.isEmpty()) {
+                    return;
+                }
+                queue.addLast(Event.HEARTBEAT);
+            }
+            heartbeatCounter.increment();
+            schedule();
+        }
+
+        /**
+         * 대기열 맨 앞에 이벤트를 한 번에 넣고 전송 시작 (연결 확인 + 재전송 알림)
+         * 알림 기록 ID는 기록 순서대로 증가하므로, 재전송 최대 ID 이하의 실시간 알림은 이미 재전송에 포함됨
+         */
+        public void resume(List<Event> initialEvents) {
+            for (Event event : initialEvents) {
+                if (event.replay() && event.id() != null
+                        && (replayHighWaterId == null || NotificationLog.compareIds(event.id(), replayHighWaterId) > 0)) {
+                    replayHighWaterId = event.id();
+                }
+            }
+            synchronized (queue) {
+                for (int i = initialEvents.size() - 1; i >= 0; i--) {
+                    queue.addFirst(initialEvents.get(i));
+                }
+            }
+            paused = false;
+            schedule();
+        }
+
+        /**
+         * 연결 종료 (대기 중인 이벤트는 버림)
+         */
+        public void close() {
+            close("closed");
+        }
+
+        /**
+         * 연결 종료 (쓰기가 진행 중이면 emitter를 건드리지 않고 저장소에서만 제거)
+         * 쓰기 중에는 emitter 잠금이 잡혀 있어 complete()가 소켓 쓰기 타임아웃까지 호출 스레드를 붙잡으므로,
+         * 느린 연결 하나가 디스패처 스레드나 요청 스레드를 점유하지 않도록 함
+         */
+        private void close(String reason) {
+            if (writeStartedAt > 0) {
+                abandon(reason);
+            } else {
+                complete(reason);
+            }
+        }
+
+        /**
+         * emitter 종료 후 저장소에서 제거 (진행 중인 쓰기가 없을 때만 호출)
+         */
+        private void complete(String reason) {
+            synchronized (queue) {
+                queue.clear();
+            }
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                log.debug("Emitter 종료 중 에러: userId={}, connectionId={}", userId, id, e);
+            }
+            // 응답이 이미 끊어진 경우 완료 콜백이 호출되지 않을 수 있으므로 직접 제거
+            unregister(this, reason);
+        }
+
+        /**
+         * 쓰기가 블로킹된 연결 제거 (emitter는 건드리지 않음)
+         * 블로킹된 쓰기는 컨테이너의 소켓 쓰기 타임아웃으로 실패하고, 그 시점에 send의 실패 처리에서 emitter가 종료됨
+         */
+        private void abandon(String reason) {
+            synchronized (queue) {
+                queue.clear();
+            }
+            unregister(this, reason);
+        }
+
+        public int getQueueSize() {
+            synchronized (queue) {
+                return queue.size();
+            }
+        }
+
+        private boolean markClosed() {
+            return closed.compareAndSet(false, true);
+        }
+
+        private void schedule() {
+            if (closed.get() || paused || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (int i = 0; i < MAX_EVENTS_PER_DRAIN && !closed.get(); i++) {
+                    Event event;
+                    synchronized (queue) {
+                        event = queue.pollFirst();
+                    }
+                    if (event == null) {
+                        break;
+                    }
+                    send(event);
+                }
+            } finally {
+                scheduled.set(false);
+                if (getQueueSize() > 0) {
+                    schedule();
+                }
+            }
+        }
+
+        private void send(Event event) {
+            String highWaterId = replayHighWaterId;
+            if (!event.replay() && event.id() != null && highWaterId != null
+                    && NotificationLog.compareIds(event.id(), highWaterId) <= 0) {
+                return;
+            }
+            try {
+                if (event.name() == null) {
+                    write(SseEmitter.event().comment(event.data()));
+                    return;
+                }
+
+                SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                        .name(event.name())
+                        .data(event.data());
+                if (event.id() != null) {
+                    builder.id(event.id());
+                }
+                write(builder);
+                if (event.createdAt() > 0) {
+                    deliveryTimer.record(Math.max(System.currentTimeMillis() - event.createdAt(), 0), TimeUnit.MILLISECONDS);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 전송 실패: userId={}, connectionId={}, error={}", userId, id, e.getMessage());
+                sendFailedCounter.increment();
+                close("send_failure");
+            }
+        }
+
+        /**
+         * 쓰기 시작/종료 시각 기록 (스케줄러가 블로킹된 쓰기를 감지할 수 있도록)
+         */
+        private void write(SseEmitter.SseEventBuilder builder) throws IOException {
+            long startedAt = System.currentTimeMillis();
+            writeStartedAt = startedAt;
+            try {
+                emitter.send(builder);
+            } finally {
+                writeStartedAt = 0;
+            }
+            long finishedAt = System.currentTimeMillis();
+            writeTimer.record(finishedAt - startedAt, TimeUnit.MILLISECONDS);
+            lastActivityAt = finishedAt;
+        }
+    }
+}
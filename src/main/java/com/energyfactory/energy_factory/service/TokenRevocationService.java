@@ -0,0 +1,166 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.jwt.JwtPrincipal;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 토큰 폐기 서비스
+ *
+ * 비밀번호 변경, 회원 탈퇴 등 사용자 상태가 바뀌면 그 시점 이전에 발급된 토큰을 무효화
+ * - 폐기 기준 시각(밀리초)은 Redis에 저장하고 (리프레시 토큰 만료 기간 동안 유지), pub/sub으로 모든 서버에 전파
+ * - 인증 시에는 Redis/DB를 조회하지 않고 서버 메모리의 폐기 목록만 확인
+ * - 메시지 유실에 대비해 주기적으로 Redis와 다시 동기화
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 폐기 (롤백된 변경으로 토큰이 폐기되지 않도록)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements MessageListener {
+
+    private static final String REVOKED_BEFORE_PREFIX = "token_revoked_before:";
+    private static final String REVOCATION_CHANNEL = "token_revocations";
+
+    /**
+     * 회원 탈퇴 - 발급 시각과 관계없이 모든 토큰 폐기
+     */
+    private static final long REVOKE_ALL = Long.MAX_VALUE;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${jwt.refresh-token-expiration}")
+    private long refreshTokenExpiration;
+
+    /**
+     * 사용자 ID별 폐기 기준 (이 시각(epoch 밀리초) 이전에 발급된 토큰은 무효)
+     */
+    private final Map<Long, Revocation> revocations = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(RedisTemplate<String, String> redisTemplate,
+                                  RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    /**
+     * 현재 시각 이전에 발급된 사용자 토큰 폐기 (비밀번호 변경/재설정)
+     * 밀리초 단위로 비교하므로 폐기 직후 다시 로그인해 받은 토큰은 유효
+     */
+    public void revokeTokens(Long userId) {
+        afterCommit(() -> revoke(userId, System.currentTimeMillis()));
+    }
+
+    /**
+     * 사용자 토큰 전체 폐기 (회원 탈퇴)
+     */
+    public void revokeAllTokens(Long userId) {
+        afterCommit(() -> revoke(userId, REVOKE_ALL));
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (서버 메모리만 조회)
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        Revocation revocation = revocations.get(principal.userId());
+        if (revocation == null || revocation.isExpired()) {
+            return false;
+        }
+        return principal.issuedAt() == null || principal.issuedAt().toEpochMilli() < revocation.revokedBefore();
+    }
+
+    /**
+     * Redis에 저장된 폐기 목록과 동기화 (기동 시 및 주기 실행)
+     * 병합만 하고 만료된 항목은 제거 (동기화 중 도착한 메시지를 덮어쓰지 않도록)
+     */
+    public void synchronize() {
+        List<String> keys = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(
+                ScanOptions.scanOptions().match(REVOKED_BEFORE_PREFIX + "*").count(500).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+
+        if (!keys.isEmpty()) {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < keys.size(); i++) {
+                String value = values == null ? null : values.get(i);
+                if (value != null) {
+                    Long userId = Long.valueOf(keys.get(i).substring(REVOKED_BEFORE_PREFIX.length()));
+                    apply(userId, Long.parseLong(value));
+                }
+            }
+        }
+
+        revocations.values().removeIf(Revocation::isExpired);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int separator = body.indexOf(':');
+            apply(Long.valueOf(body.substring(0, separator)), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 메시지 형식 오류 - message: {}", body);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에, 아니면 바로 실행
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private void revoke(Long userId, long revokedBefore) {
+        apply(userId, revokedBefore);
+        redisTemplate.opsForValue().set(REVOKED_BEFORE_PREFIX + userId, String.valueOf(revokedBefore),
+                refreshTokenExpiration, TimeUnit.SECONDS);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, userId + ":" + revokedBefore);
+        log.info("사용자 토큰 폐기 - userId: {}", userId);
+    }
+
+    private void apply(Long userId, long revokedBefore) {
+        long expiresAtMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(refreshTokenExpiration);
+        revocations.merge(userId, new Revocation(revokedBefore, expiresAtMillis),
+                (current, updated) -> updated.revokedBefore() >= current.revokedBefore() ? updated : current);
+    }
+
+    private record Revocation(long revokedBefore, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAtMillis;
+        }
+    }
+}
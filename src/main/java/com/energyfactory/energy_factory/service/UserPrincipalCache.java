@@ -0,0 +1,180 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.entity.User;
+import com.energyfactory.energy_factory.exception.BusinessException;
+import com.energyfactory.energy_factory.repository.UserRepository;
+import com.energyfactory.energy_factory.utils.enums.ResultCode;
+import com.energyfactory.energy_factory.utils.enums.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 사용자 조회 캐시
+ *
+ * 장바구니/주문 등은 사용자 엔티티 전체가 아니라 존재 확인과 연관관계(FK) 설정만 필요하므로,
+ * 사용자 요약 정보를 서버 메모리에 캐시하고 엔티티는 프록시 참조(getReferenceById)로 반환 (SQL 없음)
+ * - 캐시: 크기 제한(W-TinyLFU 방식 제거) + 짧은 TTL
+ * - 같은 요청 안에서는 요청 속성에 보관해 한 번만 조회
+ * - 사용자 정보가 바뀌면 Redis pub/sub으로 모든 서버의 캐시를 무효화
+ */
+@Slf4j
+@Service
+public class UserPrincipalCache implements MessageListener {
+
+    private static final String INVALIDATION_CHANNEL = "user_cache_invalidations";
+    private static final String REQUEST_ATTRIBUTE_PREFIX = UserPrincipalCache.class.getName() + ".";
+
+    /**
+     * 캐시되는 사용자 요약 정보 (엔티티는 영속성 컨텍스트 밖에 보관하지 않음)
+     */
+    public record CachedUser(Long id, String email, Role role) {
+    }
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<Long, CachedUser> cache;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              RedisTemplate<String, String> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.user-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${app.user-cache.expire-after-write:60s}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.principal");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 사용자 엔티티 참조 조회
+     * 캐시에 있으면 DB 조회 없이 프록시 참조를, 없으면 DB에서 조회한 엔티티를 반환
+     * 트랜잭션 안에서 호출해야 함
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 (연관관계 설정/ID 비교 용도)
+     * @throws BusinessException 사용자가 없는 경우 (USER_NOT_FOUND)
+     */
+    public User getUserReference(Long userId) {
+        if (getCachedUser(userId) != null) {
+            return userRepository.getReferenceById(userId);
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        put(new CachedUser(user.getId(), user.getEmail(), user.getRole()));
+        return user;
+    }
+
+    /**
+     * 사용자 요약 정보 조회 (요청 범위 → 서버 캐시 → DB 순)
+     */
+    public CachedUser getUser(Long userId) {
+        CachedUser cachedUser = getCachedUser(userId);
+        if (cachedUser != null) {
+            return cachedUser;
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
+        cachedUser = new CachedUser(user.getId(), user.getEmail(), user.getRole());
+        put(cachedUser);
+        return cachedUser;
+    }
+
+    /**
+     * 사용자 캐시 무효화 (현재 서버 + 다른 서버)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화 (커밋 전 값으로 다시 캐시되는 것 방지)
+     */
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+            return;
+        }
+        evict(userId);
+    }
+
+    private void evict(Long userId) {
+        cache.invalidate(userId);
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + userId, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            // 다른 서버는 TTL 만료로 갱신됨
+            log.warn("사용자 캐시 무효화 전파 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("사용자 캐시 무효화 메시지 형식 오류 - message: {}", body);
+        }
+    }
+
+    private CachedUser getCachedUser(Long userId) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + userId;
+
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST) instanceof CachedUser cachedUser) {
+            return cachedUser;
+        }
+
+        CachedUser cachedUser = cache.getIfPresent(userId);
+        if (cachedUser != null && requestAttributes != null) {
+            requestAttributes.setAttribute(attributeName, cachedUser, RequestAttributes.SCOPE_REQUEST);
+        }
+        return cachedUser;
+    }
+
+    private void put(CachedUser cachedUser) {
+        cache.put(cachedUser.id(), cachedUser);
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(REQUEST_ATTRIBUTE_PREFIX + cachedUser.id(), cachedUser,
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -28,6 +28,9 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * 회원가입
@@ -90,6 +93,11 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(newPassword));
 
         userRepository.save(user);
+
+        // 변경 이전에 발급된 토큰 폐기 (다른 기기 로그아웃)
+        tokenRevocationService.revokeTokens(user.getId());
+        refreshTokenService.revokeAllRefreshTokens(user.getId());
+        userPrincipalCache.invalidate(user.getId());
     }
     
     /**
@@ -101,6 +109,9 @@ public class UserService {
                 .orElseThrow(() -> new BusinessException(ResultCode.USER_NOT_FOUND));
 
         userRepository.delete(user);
+        tokenRevocationService.revokeAllTokens(user.getId());
+        refreshTokenService.revokeAllRefreshTokens(user.getId());
+        userPrincipalCache.invalidate(user.getId());
     }
 
     /**
@@ -115,6 +126,9 @@ public class UserService {
         user.setPassword(passwordEncoder.encode(newPassword));
 
         userRepository.save(user);
+        tokenRevocationService.revokeTokens(user.getId());
+        refreshTokenService.revokeAllRefreshTokens(user.getId());
+        userPrincipalCache.invalidate(user.getId());
     }
 
     /**
@@ -179,6 +193,7 @@ public class UserService {
         }
 
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
         return convertToUserResponseDto(user);
     }
 
@@ -217,6 +232,7 @@ public class UserService {
         user.setProviderId(providerId);
 
         userRepository.save(user);
+        userPrincipalCache.invalidate(user.getId());
     }
 
     /**
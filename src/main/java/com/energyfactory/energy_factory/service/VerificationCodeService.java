@@ -44,16 +44,13 @@ public class VerificationCodeService {
      * @param code 인증 코드
      */
     public void saveCode(String email, String code) {
-        // Rate Limiting 체크
-        if (isRateLimited(email)) {
+        // Rate Limiting 체크 및 설정 (SET NX로 확인과 설정을 한 번에 처리)
+        if (!tryAcquireRateLimit(email)) {
             throw new BusinessException(ResultCode.TOO_MANY_REQUESTS);
         }
 
         String key = VERIFY_CODE_PREFIX + email;
         redisTemplate.opsForValue().set(key, code, CODE_EXPIRATION, TimeUnit.MINUTES);
-
-        // Rate Limit 설정
-        setRateLimit(email);
     }
 
     /**
@@ -118,18 +115,10 @@ public class VerificationCodeService {
     }
 
     /**
-     * Rate Limiting 체크
-     */
-    private boolean isRateLimited(String email) {
-        String key = RATE_LIMIT_PREFIX + email;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
-    }
-
-    /**
-     * Rate Limit 설정
+     * Rate Limit 획득 (1분 내 첫 요청만 성공)
      */
-    private void setRateLimit(String email) {
+    private boolean tryAcquireRateLimit(String email) {
         String key = RATE_LIMIT_PREFIX + email;
-        redisTemplate.opsForValue().set(key, "1", RATE_LIMIT_DURATION, TimeUnit.MINUTES);
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, "1", RATE_LIMIT_DURATION, TimeUnit.MINUTES));
     }
 }
@@ -0,0 +1,44 @@
+package com.energyfactory.energy_factory.utils.enums;
+
+/**
+ * 업로드 이미지에서 생성하는 축소 이미지 종류
+ * 원본이 {디렉토리}/{ID}/original.{확장자}에 저장되면 같은 위치의 {이름}.jpg로 저장
+ */
+public enum ImageVariant {
+    THUMBNAIL("thumb", 320),   // 목록 썸네일
+    DETAIL("detail", 960),     // 상세 화면
+    ZOOM("zoom", 2000);        // 확대 보기
+
+    public static final String ORIGINAL_NAME = "original";
+
+    private final String name;
+    private final int maxDimension;
+
+    ImageVariant(String name, int maxDimension) {
+        this.name = name;
+        this.maxDimension = maxDimension;
+    }
+
+    public String getFileName() {
+        return name + ".jpg";
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    /**
+     * 원본 이미지 URL에서 이 축소 이미지의 URL 계산
+     * @return 축소 이미지가 없는 형식(이전 방식으로 업로드된 이미지 등)이면 null
+     */
+    public String resolveUrl(String originalUrl) {
+        if (originalUrl == null) {
+            return null;
+        }
+        int slash = originalUrl.lastIndexOf('/');
+        if (slash < 0 || !originalUrl.startsWith(ORIGINAL_NAME + ".", slash + 1)) {
+            return null;
+        }
+        return originalUrl.substring(0, slash + 1) + getFileName();
+    }
+}
@@ -0,0 +1,21 @@
+package com.energyfactory.energy_factory.utils.enums;
+
+public enum MailTemplateType {
+    VERIFICATION_CODE("[Energy Factory] 비밀번호 재설정 인증 코드", "templates/mail/verification-code.html");
+
+    private final String subject;
+    private final String path;
+
+    MailTemplateType(String subject, String path) {
+        this.subject = subject;
+        this.path = path;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,22 @@
+package com.energyfactory.energy_factory.utils.enums;
+
+public enum ProductDataFormat {
+    CSV("text/csv", "csv"),
+    JSON("application/json", "json");   // 배열 또는 한 줄에 하나씩(NDJSON)
+
+    private final String contentType;
+    private final String extension;
+
+    ProductDataFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
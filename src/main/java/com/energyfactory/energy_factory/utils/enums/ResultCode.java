@@ -21,6 +21,7 @@ public enum ResultCode {
     EXPIRED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "40100004", "만료된 리프레시 토큰입니다."),
     INVALID_TOKEN_TYPE(HttpStatus.BAD_REQUEST, "40100005", "유효하지 않은 토큰 타입입니다."),
     REFRESH_TOKEN_REQUIRED(HttpStatus.BAD_REQUEST, "40100006", "리프레시 토큰이 필요합니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "40100010", "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
     DUPLICATE_PHONE_NUMBER(HttpStatus.CONFLICT, "40000010", "이미 사용 중인 전화번호입니다."),
 
     PASSWORD_MISMATCH(HttpStatus.BAD_REQUEST, "40100001", "비밀번호가 일치하지 않습니다."),
@@ -44,6 +45,9 @@ public enum ResultCode {
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "40400001", "잘못된 요청입니다."),
     PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "40400002", "결제 처리에 실패했습니다."),
     PAYMENT_CANCEL_FAILED(HttpStatus.BAD_REQUEST, "40400003", "결제 취소에 실패했습니다."),
+    PAYMENT_PENDING(HttpStatus.ACCEPTED, "20200001", "결제 승인 결과를 확인 중입니다."),
+    PAYMENT_GATEWAY_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "50300001", "결제 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    PAYMENT_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "50300002", "결제 서비스가 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
 
     // UserProfile 도메인 에러 코드
     DUPLICATE_REQUEST(HttpStatus.CONFLICT, "40500001", "이미 프로필이 존재합니다."),
@@ -60,6 +64,9 @@ public enum ResultCode {
     INVALID_RESET_TOKEN(HttpStatus.BAD_REQUEST, "40700003", "유효하지 않거나 만료된 리셋 토큰입니다."),
     TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "42900001", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
     EMAIL_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "50000001", "이메일 발송에 실패했습니다."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "50300003", "인증 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    PRODUCT_IMPORT_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "41300001", "상품 가져오기 파일이 최대 크기를 넘었습니다."),
+    PRODUCT_IMPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "50300004", "진행 중인 상품 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요."),
 
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "50000000", "서버에 오류가 발생했습니다.");
 
@@ -0,0 +1,242 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.MailConfig;
+import com.energyfactory.energy_factory.utils.enums.MailTemplateType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 메일 대기열/발송 워커 통합 테스트
+ *
+ * Redis는 Testcontainers, SMTP는 GreenMail(프로세스 내 가짜 SMTP 서버)로 실행
+ * (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MailDispatcherIntegrationTest {
+
+    private static final String JOBS_KEY = "mail:jobs";
+    private static final String SCHEDULE_KEY = "mail:schedule";
+    private static final String DEAD_KEY = "mail:dead";
+    private static final String TEMPLATE = MailTemplateType.VERIFICATION_CODE.name();
+    private static final String RECIPIENT = "user@example.com";
+    private static final String CODE = "482913";
+
+    @Container
+    static final GenericContainer<?> redis =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MailConfig mailConfig;
+    private JavaMailSenderImpl mailSender;
+    private MailQueue mailQueue;
+    private MailDispatcher mailDispatcher;
+
+    @BeforeAll
+    static void connectRedis() {
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnectRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+
+        mailConfig = new MailConfig();
+        mailConfig.setFrom("noreply@energy-factory.kr");
+        mailConfig.setFromName("Energy Factory");
+        mailConfig.setWorkerThreads(1);
+        mailConfig.setPollInterval(Duration.ofMillis(50));
+        mailConfig.setLease(Duration.ofSeconds(2));
+        mailConfig.setMaxAttempts(3);
+        mailConfig.setInitialBackoff(Duration.ofSeconds(1));
+        mailConfig.setMaxBackoff(Duration.ofSeconds(4));
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        mailQueue = new MailQueue(redisTemplate, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (mailDispatcher != null) {
+            mailDispatcher.destroy();
+        }
+    }
+
+    @Test
+    void enqueuedMailIsDeliveredAndRemovedFromQueue() throws Exception {
+        mailQueue.enqueue(TEMPLATE, RECIPIENT, Map.of("code", CODE), Duration.ofMinutes(5));
+        startDispatcher();
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getAllRecipients()[0].toString()).isEqualTo(RECIPIENT);
+        assertThat(received.getSubject()).isEqualTo(MailTemplateType.VERIFICATION_CODE.getSubject());
+        assertThat(textOf(received)).contains(CODE);
+
+        await().atMost(Duration.ofSeconds(5)).until(this::isQueueEmpty);
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithBackoff() {
+        mailSender.setPort(unusedPort());
+        long enqueuedAt = System.currentTimeMillis();
+        MailQueue.MailJob job = mailQueue.enqueue(TEMPLATE, RECIPIENT, Map.of("code", CODE), Duration.ofMinutes(5));
+        startDispatcher();
+
+        // 첫 실패 후 재시도 예약: initialBackoff(1s)의 절반 ~ 전체 구간
+        MailQueue.MailJob retried = await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(20))
+                .until(() -> storedJob(job.id()), stored -> stored != null && stored.attempts() > 0);
+        long observedAt = System.currentTimeMillis();
+        assertThat(retried.attempts()).isEqualTo(1);
+        long dueAt = scheduledAt(job.id());
+        assertThat(dueAt).isGreaterThanOrEqualTo(enqueuedAt + 500);
+        assertThat(dueAt).isLessThanOrEqualTo(observedAt + 1_000);
+
+        // SMTP 서버가 살아나면 재시도에서 발송
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        await().atMost(Duration.ofSeconds(5)).until(this::isQueueEmpty);
+    }
+
+    @Test
+    void claimedMailIsReclaimedAfterLeaseExpires() {
+        MailQueue.MailJob job = mailQueue.enqueue(TEMPLATE, RECIPIENT, Map.of("code", CODE), Duration.ofMinutes(5));
+
+        // 메일을 가져간 뒤 완료하지 못하고 중단된 워커
+        List<MailQueue.MailJob> claimed = mailQueue.claim(10, Duration.ofMillis(1_500));
+        assertThat(claimed).extracting(MailQueue.MailJob::id).containsExactly(job.id());
+        assertThat(mailQueue.claim(10, Duration.ofMillis(1_500))).isEmpty();
+
+        startDispatcher();
+        assertThat(greenMail.waitForIncomingEmail(500, 1)).isFalse();
+
+        // 처리 제한 시간이 지나면 다른 워커가 다시 가져가 발송
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        await().atMost(Duration.ofSeconds(5)).until(this::isQueueEmpty);
+    }
+
+    @Test
+    void mailIsDeadLetteredAfterMaxAttempts() throws Exception {
+        mailConfig.setMaxAttempts(2);
+        mailConfig.setInitialBackoff(Duration.ofMillis(100));
+        mailSender.setPort(unusedPort());
+        MailQueue.MailJob job = mailQueue.enqueue(TEMPLATE, RECIPIENT, Map.of("code", CODE), Duration.ofMinutes(5));
+        startDispatcher();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> redisTemplate.opsForList().size(DEAD_KEY) == 1);
+
+        String raw = redisTemplate.opsForList().index(DEAD_KEY, 0);
+        MailQueue.DeadLetter deadLetter = objectMapper.readValue(raw, MailQueue.DeadLetter.class);
+        assertThat(deadLetter.id()).isEqualTo(job.id());
+        assertThat(deadLetter.to()).isEqualTo(RECIPIENT);
+        assertThat(deadLetter.attempts()).isEqualTo(2);
+        assertThat(deadLetter.error()).isNotBlank();
+        // 템플릿 변수(인증 코드)는 실패 목록에 남기지 않음
+        assertThat(raw).doesNotContain(CODE);
+
+        assertThat(isQueueEmpty()).isTrue();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    private void startDispatcher() {
+        mailDispatcher = new MailDispatcher(mailQueue, mailConfig, mailSender, new SimpleMeterRegistry());
+        mailDispatcher.start();
+        mailDispatcher.wakeUp();
+    }
+
+    private boolean isQueueEmpty() {
+        return redisTemplate.opsForHash().size(JOBS_KEY) == 0 && redisTemplate.opsForZSet().zCard(SCHEDULE_KEY) == 0;
+    }
+
+    private MailQueue.MailJob storedJob(String id) throws IOException {
+        Object raw = redisTemplate.opsForHash().get(JOBS_KEY, id);
+        return raw == null ? null : objectMapper.readValue(raw.toString(), MailQueue.MailJob.class);
+    }
+
+    private long scheduledAt(String id) {
+        Double score = redisTemplate.opsForZSet().score(SCHEDULE_KEY, id);
+        assertThat(score).isNotNull();
+        return score.longValue();
+    }
+
+    private static int unusedPort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 메일 본문 텍스트 (multipart면 첫 text 파트)
+     */
+    private static String textOf(Part part) throws Exception {
+        if (part.isMimeType("text/*")) {
+            return part.getContent().toString();
+        }
+        if (part.getContent() instanceof Multipart multipart) {
+            for (int i = 0; i < multipart.getCount(); i++) {
+                String text = textOf(multipart.getBodyPart(i));
+                if (text != null) {
+                    return text;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,226 @@
+package com.energyfactory.energy_factory.service;
+
+import com.energyfactory.energy_factory.config.ImageUploadConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * S3 이미지 업로드 통합 테스트
+ *
+ * S3는 Testcontainers의 LocalStack으로 실행 (Docker가 없으면 건너뜀)
+ * 업로드 파일은 getBytes() 호출 시 실패하도록 만들어 힙 버퍼링 없이 스트림으로만 전송되는지 함께 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3ServiceIntegrationTest {
+
+    private static final String BUCKET = "energy-factory-test";
+    private static final String DIRECTORY = "products";
+    private static final int MB = 1024 * 1024;
+
+    @Container
+    static final LocalStackContainer localStack =
+            new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.8"))
+                    .withServices(LocalStackContainer.Service.S3);
+
+    private static S3Client s3Client;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageDerivativeService imageDerivativeService;
+    private S3Service s3Service;
+
+    @BeforeAll
+    static void createBucket() {
+        s3Client = S3Client.builder()
+                .endpointOverride(localStack.getEndpointOverride(LocalStackContainer.Service.S3))
+                .region(Region.of(localStack.getRegion()))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(localStack.getAccessKey(), localStack.getSecretKey())))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        s3Client.createBucket(request -> request.bucket(BUCKET));
+    }
+
+    @AfterAll
+    static void closeClient() {
+        s3Client.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 최대 파일 크기를 올려 파트 여러 개로 나뉘는 업로드까지 확인 (파트 크기는 S3 최소값 5MB)
+        ImageUploadConfig imageUploadConfig = new ImageUploadConfig();
+        imageUploadConfig.setMaxFileSize(DataSize.ofMegabytes(12));
+        imageUploadConfig.setMultipartThreshold(DataSize.ofMegabytes(4));
+        imageUploadConfig.setPartSize(DataSize.ofMegabytes(5));
+        imageUploadConfig.setPartUploadThreads(2);
+
+        meterRegistry = new SimpleMeterRegistry();
+        imageDerivativeService = new ImageDerivativeService(imageUploadConfig, meterRegistry);
+        s3Service = new S3Service(s3Client, imageUploadConfig, imageDerivativeService, meterRegistry);
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3Service, "publicUrl",
+                localStack.getEndpointOverride(LocalStackContainer.Service.S3) + "/" + BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Service.destroy();
+        imageDerivativeService.destroy();
+        List<String> keys = listKeys();
+        if (!keys.isEmpty()) {
+            s3Service.deleteObjects(keys);
+        }
+    }
+
+    @Test
+    void smallFileIsStreamedWithSinglePutObject() throws IOException {
+        byte[] content = randomBytes(MB);
+
+        String url = s3Service.uploadImage(new StreamOnlyFile(content, Integer.MAX_VALUE), DIRECTORY);
+
+        String key = s3Service.findS3Key(url);
+        assertThat(key).startsWith(DIRECTORY + "/").endsWith(".jpg");
+        assertThat(download(key)).isEqualTo(content);
+        HeadObjectResponse head = s3Client.headObject(request -> request.bucket(BUCKET).key(key)
+                .checksumMode(ChecksumMode.ENABLED));
+        assertThat(head.checksumCRC32()).isNotBlank();
+        assertThat(uploadCount("single")).isEqualTo(1);
+        assertThat(uploadCount("multipart")).isZero();
+    }
+
+    @Test
+    void largeFileIsUploadedInParallelParts() throws IOException {
+        byte[] content = randomBytes(11 * MB);
+
+        String url = s3Service.uploadImage(new StreamOnlyFile(content, Integer.MAX_VALUE), DIRECTORY);
+
+        String key = s3Service.findS3Key(url);
+        assertThat(download(key)).isEqualTo(content);
+        // 멀티파트 객체의 ETag는 "{해시}-{파트 수}" 형식 (5MB + 5MB + 1MB)
+        HeadObjectResponse head = s3Client.headObject(request -> request.bucket(BUCKET).key(key));
+        assertThat(head.eTag()).endsWith("-3\"");
+        assertThat(uploadCount("multipart")).isEqualTo(1);
+        assertThat(uploadCount("single")).isZero();
+        assertThat(s3Client.listMultipartUploads(request -> request.bucket(BUCKET)).uploads()).isEmpty();
+    }
+
+    @Test
+    void failedPartAbortsMultipartUpload() {
+        // 두 번째 파트를 읽는 도중 실패 (SDK 재시도에서도 같은 위치에서 실패)
+        byte[] content = randomBytes(11 * MB);
+        StreamOnlyFile file = new StreamOnlyFile(content, 6 * MB);
+
+        assertThatThrownBy(() -> s3Service.uploadImage(file, DIRECTORY))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("파일 업로드에 실패했습니다");
+
+        assertThat(s3Client.listMultipartUploads(request -> request.bucket(BUCKET)).uploads()).isEmpty();
+        assertThat(listKeys()).isEmpty();
+    }
+
+    private byte[] download(String key) {
+        return s3Client.getObjectAsBytes(request -> request.bucket(BUCKET).key(key)).asByteArray();
+    }
+
+    private List<String> listKeys() {
+        return s3Client.listObjectsV2Paginator(request -> request.bucket(BUCKET)).contents().stream()
+                .map(S3Object::key)
+                .toList();
+    }
+
+    private long uploadCount(String mode) {
+        return meterRegistry.get("s3.upload").tag("mode", mode).timer().count();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * 스트림으로만 읽을 수 있는 업로드 파일 (getBytes() 호출 시 테스트 실패)
+     * failAt 위치 이후를 읽으면 IOException
+     */
+    private static final class StreamOnlyFile extends MockMultipartFile {
+
+        private final byte[] content;
+        private final long failAt;
+
+        private StreamOnlyFile(byte[] content, long failAt) {
+            super("file", "image.jpg", "image/jpeg", content);
+            this.content = content;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new AssertionError("업로드 파일 전체를 힙에 복사함");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private int position;
+
+                @Override
+                public int read() throws IOException {
+                    failIfPastLimit();
+                    return position < content.length ? content[position++] & 0xff : -1;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    failIfPastLimit();
+                    if (position >= content.length) {
+                        return -1;
+                    }
+                    int count = (int) Math.min(length, Math.min(content.length, failAt) - position);
+                    System.arraycopy(content, position, buffer, offset, count);
+                    position += count;
+                    return count;
+                }
+
+                @Override
+                public long skip(long n) {
+                    int skipped = (int) Math.max(0, Math.min(n, content.length - position));
+                    position += skipped;
+                    return skipped;
+                }
+
+                private void failIfPastLimit() throws IOException {
+                    if (position >= failAt) {
+                        throw new IOException("simulated read failure");
+                    }
+                }
+            };
+        }
+    }
+}